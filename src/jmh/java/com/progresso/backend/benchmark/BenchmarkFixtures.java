@@ -0,0 +1,162 @@
+package com.progresso.backend.benchmark;
+
+import com.progresso.backend.entity.Comment;
+import com.progresso.backend.entity.Project;
+import com.progresso.backend.entity.ProjectStats;
+import com.progresso.backend.entity.Task;
+import com.progresso.backend.entity.Team;
+import com.progresso.backend.entity.User;
+import com.progresso.backend.enumeration.Priority;
+import com.progresso.backend.enumeration.Role;
+import com.progresso.backend.enumeration.Status;
+import com.progresso.backend.projectmanagement.ProjectStatsService;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+final class BenchmarkFixtures {
+
+  static final String JWT_SECRET = "BenchmarkSecretKey123456789012345678901234567890123456";
+
+  private BenchmarkFixtures() {
+  }
+
+  static User user(long id, Role role) {
+    User user = new User();
+    user.setId(id);
+    user.setFirstName("First" + id);
+    user.setLastName("Last" + id);
+    user.setUsername("f.last" + id + "." + role.name().toLowerCase() + "@progresso.com");
+    user.setEmail("user" + id + "@example.com");
+    user.setRole(role);
+    user.setActive(true);
+    user.setTokenVersion(0);
+    user.setTeams(new ArrayList<>());
+    user.setManagedProjects(new ArrayList<>());
+    user.setAssignedTasks(new ArrayList<>());
+    user.setComments(new ArrayList<>());
+    return user;
+  }
+
+  /**
+   * Builds a project with its manager, a team of {@code teamSize} members, {@code taskCount}
+   * tasks spread across the members and {@code commentCount} comments, every other one a reply.
+   */
+  static Project project(long id, int teamSize, int taskCount, int commentCount) {
+    User manager = user(1_000_000 + id, Role.PROJECTMANAGER);
+
+    Team team = new Team();
+    team.setId(id);
+    team.setName("Team " + id);
+    team.setActive(true);
+    team.setTeamMembers(new ArrayList<>());
+    team.setProjects(new ArrayList<>());
+    for (int i = 0; i < teamSize; i++) {
+      User member = user(id * 1_000 + i, Role.TEAMMEMBER);
+      member.getTeams().add(team);
+      team.getTeamMembers().add(member);
+    }
+
+    Project project = new Project();
+    project.setId(id);
+    project.setName("Project " + id);
+    project.setDescription("Benchmark project with a realistic object graph.");
+    project.setPriority(Priority.MEDIUM);
+    project.setStatus(Status.IN_PROGRESS);
+    project.setStartDate(LocalDate.now().minusDays(10));
+    project.setDueDate(LocalDate.now().plusDays(20));
+    project.setProjectManager(manager);
+    project.setTeam(team);
+    project.setTasks(new ArrayList<>());
+    project.setComments(new ArrayList<>());
+    manager.getManagedProjects().add(project);
+    team.getProjects().add(project);
+
+    for (int i = 0; i < taskCount; i++) {
+      Task task = new Task();
+      task.setId(id * 100_000 + i);
+      task.setName("Task " + i);
+      task.setDescription("Task description " + i);
+      task.setPriority(Priority.values()[i % Priority.values().length]);
+      task.setStatus(i % 3 == 0 ? Status.COMPLETED : Status.IN_PROGRESS);
+      task.setStartDate(project.getStartDate());
+      task.setDueDate(project.getDueDate());
+      task.setProject(project);
+      if (teamSize > 0) {
+        User assignee = team.getTeamMembers().get(i % teamSize);
+        task.setAssignedUser(assignee);
+        assignee.getAssignedTasks().add(task);
+      }
+      project.getTasks().add(task);
+    }
+
+    Comment previous = null;
+    for (int i = 0; i < commentCount; i++) {
+      User author = teamSize > 0 ? team.getTeamMembers().get(i % teamSize) : manager;
+      Comment comment = comment(id * 100_000 + i, author, project, i % 2 == 1 ? previous : null);
+      author.getComments().add(comment);
+      project.getComments().add(comment);
+      previous = comment;
+    }
+
+    return project;
+  }
+
+  static Comment comment(long id, User author, Project project, Comment parent) {
+    Comment comment = new Comment();
+    comment.setId(id);
+    comment.setContent("Comment " + id + " with a sentence or two of content.");
+    comment.setCreationDate(LocalDateTime.now().minusHours(id % 48));
+    comment.setUser(author);
+    comment.setProject(project);
+    comment.setParent(parent);
+    comment.setModified(false);
+    comment.setDeleted(false);
+    return comment;
+  }
+
+  static ProjectStats stats(Project project) {
+    long completed = project.getTasks().stream()
+        .filter(task -> Status.COMPLETED.equals(task.getStatus())).count();
+    return new ProjectStats(project.getId(), project.getTasks().size(),
+        project.getTasks().size() - completed, completed, 0, LocalDateTime.now());
+  }
+
+  static ProjectStatsService statsService(ProjectStats stats) {
+    return new ProjectStatsService(null, null, false, 1000) {
+      @Override
+      public Optional<ProjectStats> findByProjectId(Long projectId) {
+        return Optional.ofNullable(stats);
+      }
+
+      @Override
+      public void createForProject(Long projectId) {
+      }
+    };
+  }
+
+  /**
+   * Creates a repository stub answering the given methods by name; every other method returns
+   * {@code null}, so benchmarks fail loudly if they reach an unexpected query.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+        (proxy, method, args) -> {
+          Function<Object[], Object> answer = answers.get(method.getName());
+          if (answer != null) {
+            return answer.apply(args);
+          }
+          return switch (method.getName()) {
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> type.getSimpleName() + "Stub";
+            default -> null;
+          };
+        });
+  }
+}
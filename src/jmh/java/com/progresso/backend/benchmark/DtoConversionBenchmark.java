@@ -0,0 +1,70 @@
+package com.progresso.backend.benchmark;
+
+import com.progresso.backend.commentmanagement.CommentService;
+import com.progresso.backend.dto.CommentDto;
+import com.progresso.backend.dto.ProjectDto;
+import com.progresso.backend.dto.UserResponseDto;
+import com.progresso.backend.entity.Comment;
+import com.progresso.backend.entity.Project;
+import com.progresso.backend.entity.User;
+import com.progresso.backend.projectmanagement.ProjectService;
+import com.progresso.backend.usermanagement.UserService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoConversionBenchmark {
+
+  @Param({"10", "200"})
+  private int taskCount;
+
+  private ProjectService projectService;
+  private CommentService commentService;
+  private UserService userService;
+  private Project project;
+  private Comment reply;
+  private User teamMember;
+
+  @Setup
+  public void setUp() {
+    project = BenchmarkFixtures.project(1L, 8, taskCount, taskCount * 2);
+    reply = project.getComments().get(1);
+    teamMember = project.getTeam().getTeamMembers().get(0);
+
+    projectService = new ProjectService(null, null, null, null, null,
+        BenchmarkFixtures.statsService(BenchmarkFixtures.stats(project)), event -> {
+        });
+    commentService = new CommentService(null, null, null);
+    userService = new UserService(null, null);
+  }
+
+  @Benchmark
+  public ProjectDto projectConvertToDto() {
+    return projectService.convertToDto(project);
+  }
+
+  @Benchmark
+  public CommentDto commentConvertToDto() {
+    return commentService.convertToDto(reply);
+  }
+
+  @Benchmark
+  public UserResponseDto userConvertToDto() {
+    return userService.convertToDto(teamMember);
+  }
+}
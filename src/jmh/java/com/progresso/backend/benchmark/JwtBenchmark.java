@@ -0,0 +1,75 @@
+package com.progresso.backend.benchmark;
+
+import com.progresso.backend.dto.UserCredentials;
+import com.progresso.backend.entity.User;
+import com.progresso.backend.enumeration.Role;
+import com.progresso.backend.security.AuthenticatedUser;
+import com.progresso.backend.security.JwtUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+  private JwtUtil jwtUtil;
+  private User user;
+  private AuthenticatedUser principal;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    user = BenchmarkFixtures.user(1L, Role.TEAMMEMBER);
+    principal = new AuthenticatedUser(new UserCredentials() {
+      @Override
+      public String getUsername() {
+        return user.getUsername();
+      }
+
+      @Override
+      public String getPassword() {
+        return "";
+      }
+
+      @Override
+      public Role getRole() {
+        return user.getRole();
+      }
+
+      @Override
+      public Boolean getActive() {
+        return user.getActive();
+      }
+
+      @Override
+      public Integer getTokenVersion() {
+        return user.getTokenVersion();
+      }
+    });
+    jwtUtil = new JwtUtil(BenchmarkFixtures.JWT_SECRET);
+    token = jwtUtil.generateToken(user);
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return jwtUtil.generateToken(user);
+  }
+
+  @Benchmark
+  public Boolean validateToken() {
+    return jwtUtil.validateToken(token, principal);
+  }
+}
@@ -0,0 +1,92 @@
+package com.progresso.backend.benchmark;
+
+import com.progresso.backend.dto.ProjectDto;
+import com.progresso.backend.entity.Project;
+import com.progresso.backend.entity.User;
+import com.progresso.backend.enumeration.Priority;
+import com.progresso.backend.enumeration.Role;
+import com.progresso.backend.projectmanagement.ProjectRepository;
+import com.progresso.backend.projectmanagement.ProjectService;
+import com.progresso.backend.usermanagement.UserRepository;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectServiceBenchmark {
+
+  /**
+   * Number of names already taken, i.e. iterations of the " (n)" suffix loop in createProject.
+   */
+  @Param({"0", "10", "100"})
+  private int nameCollisions;
+
+  private ProjectService projectService;
+  private Project project;
+  private ProjectDto projectDto;
+
+  @Setup
+  public void setUp() {
+    project = BenchmarkFixtures.project(1L, 8, 50, 100);
+    User manager = BenchmarkFixtures.user(2L, Role.PROJECTMANAGER);
+
+    ProjectRepository projectRepository = BenchmarkFixtures.repository(ProjectRepository.class,
+        Map.of(
+            "existsByNameIgnoreCase", args -> suffixOf((String) args[0]) < nameCollisions,
+            "countByProjectManagerAndStatusNotIn", args -> 0L,
+            "save", args -> {
+              Project saved = (Project) args[0];
+              saved.setId(42L);
+              return saved;
+            }));
+    UserRepository userRepository = BenchmarkFixtures.repository(UserRepository.class,
+        Map.of("findById", args -> Optional.of(manager)));
+
+    projectService = new ProjectService(projectRepository, userRepository, null, null, null,
+        BenchmarkFixtures.statsService(null), event -> {
+        });
+
+    projectDto = new ProjectDto();
+    projectDto.setName("A project name long enough to look like the ones users really type");
+    projectDto.setDescription("Benchmark project");
+    projectDto.setPriority(Priority.LOW.name());
+    projectDto.setStartDate(LocalDate.now());
+    projectDto.setDueDate(LocalDate.now().plusDays(60));
+    projectDto.setProjectManagerId(manager.getId());
+  }
+
+  @Benchmark
+  public Priority updateProjectPriority() {
+    return projectService.updateProjectPriority(project);
+  }
+
+  @Benchmark
+  public ProjectDto createProjectNameSuffix() {
+    return projectService.createProject(projectDto);
+  }
+
+  private static int suffixOf(String name) {
+    int open = name.lastIndexOf(" (");
+    if (open < 0 || !name.endsWith(")")) {
+      return 0;
+    }
+    return Integer.parseInt(name.substring(open + 2, name.length() - 1));
+  }
+}
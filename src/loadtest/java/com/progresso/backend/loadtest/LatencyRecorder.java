@@ -0,0 +1,98 @@
+package com.progresso.backend.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-endpoint latency histograms (microsecond resolution). Server errors and I/O failures are
+ * counted as errors, 4xx responses as rejections.
+ */
+class LatencyRecorder {
+
+  private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+  private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+  void record(String endpoint, long elapsedNanos, int statusCode) {
+    Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+    stats.histogram.recordValue(
+        Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+    if (statusCode < 0 || statusCode >= 500) {
+      stats.errors.increment();
+    } else if (statusCode >= 400) {
+      stats.rejected.increment();
+    }
+  }
+
+  void reset() {
+    endpoints.clear();
+  }
+
+  Map<String, Object> report(double elapsedSeconds) {
+    Histogram total = new Histogram(MAX_LATENCY_MICROS, 3);
+    long totalErrors = 0;
+    long totalRejected = 0;
+    List<Map<String, Object>> rows = new ArrayList<>();
+
+    for (Map.Entry<String, Endpoint> entry : endpoints.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey()).toList()) {
+      Histogram histogram = entry.getValue().histogram.copy();
+      long errors = entry.getValue().errors.sum();
+      long rejected = entry.getValue().rejected.sum();
+      total.add(histogram);
+      totalErrors += errors;
+      totalRejected += rejected;
+
+      Map<String, Object> row = new LinkedHashMap<>();
+      row.put("endpoint", entry.getKey());
+      row.putAll(summary(histogram, errors, rejected, elapsedSeconds));
+      rows.add(row);
+    }
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("total", summary(total, totalErrors, totalRejected, elapsedSeconds));
+    report.put("endpoints", rows);
+    return report;
+  }
+
+  private static Map<String, Object> summary(Histogram histogram, long errors, long rejected,
+      double elapsedSeconds) {
+    Map<String, Object> latency = new LinkedHashMap<>();
+    latency.put("mean", round(histogram.getMean() / 1000.0));
+    latency.put("p50", millis(histogram, 50));
+    latency.put("p90", millis(histogram, 90));
+    latency.put("p99", millis(histogram, 99));
+    latency.put("p999", millis(histogram, 99.9));
+    latency.put("max", round(histogram.getMaxValue() / 1000.0));
+
+    Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("requests", histogram.getTotalCount());
+    summary.put("errors", errors);
+    summary.put("rejected", rejected);
+    summary.put("throughputPerSecond", round(histogram.getTotalCount() / elapsedSeconds));
+    summary.put("latencyMillis", latency);
+    return summary;
+  }
+
+  private static double millis(Histogram histogram, double percentile) {
+    return round(histogram.getValueAtPercentile(percentile) / 1000.0);
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 100.0) / 100.0;
+  }
+
+  private static final class Endpoint {
+
+    private final ConcurrentHistogram histogram = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+  }
+}
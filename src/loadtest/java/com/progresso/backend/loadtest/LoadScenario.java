@@ -0,0 +1,152 @@
+package com.progresso.backend.loadtest;
+
+import com.progresso.backend.datagen.GeneratedDataset;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Weighted mix of authenticated calls per persona, roughly matching production traffic: team
+ * members browse their projects and tasks and post comments, managers look at their projects,
+ * teams and workload, and admins page through everything.
+ */
+class LoadScenario {
+
+  enum Persona {
+    ADMIN, PROJECT_MANAGER, TEAM_MEMBER
+  }
+
+  record Session(Persona persona, GeneratedDataset.Member member, String username, String token,
+                 Random random) {
+
+    long anyProject() {
+      return member.projectIds().get(random.nextInt(member.projectIds().size()));
+    }
+
+    long anyTeam() {
+      return member.teamIds().get(random.nextInt(member.teamIds().size()));
+    }
+  }
+
+  record Operation(String name, int weight, Predicate<Session> applicable,
+                   Function<Session, HttpRequest> request) {
+  }
+
+  private static final Predicate<Session> ALWAYS = session -> true;
+  private static final Predicate<Session> HAS_PROJECTS =
+      session -> !session.member().projectIds().isEmpty();
+  private static final Predicate<Session> HAS_TEAMS =
+      session -> !session.member().teamIds().isEmpty();
+
+  private final URI baseUri;
+  private final GeneratedDataset dataset;
+
+  LoadScenario(URI baseUri, GeneratedDataset dataset) {
+    this.baseUri = baseUri;
+    this.dataset = dataset;
+  }
+
+  HttpRequest login(String username) {
+    return HttpRequest.newBuilder(baseUri.resolve("/api/auth/login"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(String.format(
+            "{\"username\":\"%s\",\"password\":\"%s\"}", username, dataset.password())))
+        .build();
+  }
+
+  List<Operation> operationsFor(Session session) {
+    List<Operation> operations = switch (session.persona()) {
+      case ADMIN -> List.of(
+          get("GET /api/projects", 20, ALWAYS,
+              s -> "/api/projects?page=" + page(s, dataset.projects()) + "&size=20"),
+          get("GET /api/users", 15, ALWAYS,
+              s -> "/api/users?page=" + page(s, dataset.users()) + "&size=20"),
+          get("GET /api/teams", 10, ALWAYS,
+              s -> "/api/teams?page=" + page(s, dataset.teams()) + "&size=20"),
+          get("GET /api/projects/summary", 10, ALWAYS, s -> "/api/projects/summary"),
+          get("GET /api/analytics/workload", 5, ALWAYS, s -> "/api/analytics/workload"),
+          get("GET /api/comments/project/{projectId}/comments", 15, ALWAYS,
+              s -> "/api/comments/project/" + (1 + s.random().nextInt(dataset.projects()))
+                  + "/comments?page=0&size=20"),
+          get("GET /api/teams/{teamId}", 10, ALWAYS,
+              s -> "/api/teams/" + (1 + s.random().nextInt(dataset.teams()))));
+      case PROJECT_MANAGER -> List.of(
+          get("GET /api/projects/manager/{managerUsername}", 25, ALWAYS,
+              s -> "/api/projects/manager/" + s.username() + "?page=0&size=10"),
+          get("GET /api/projects/{id}", 20, HAS_PROJECTS,
+              s -> "/api/projects/" + s.anyProject()),
+          get("GET /api/projects/{projectId}/completion", 10, HAS_PROJECTS,
+              s -> "/api/projects/" + s.anyProject() + "/completion"),
+          get("GET /api/tasks/project/{projectId}", 20, HAS_PROJECTS,
+              s -> "/api/tasks/project/" + s.anyProject() + "?page=0&size=20"),
+          get("GET /api/projects/summary/manager/{managerUsername}", 10, ALWAYS,
+              s -> "/api/projects/summary/manager/" + s.username()),
+          get("GET /api/users/available-team-members", 5, ALWAYS,
+              s -> "/api/users/available-team-members?page=0&size=20"),
+          get("GET /api/analytics/workload", 5, HAS_TEAMS,
+              s -> "/api/analytics/workload?teamId=" + s.anyTeam()),
+          get("GET /api/teams/{teamId}", 5, ALWAYS,
+              s -> "/api/teams/" + (1 + s.random().nextInt(dataset.teams()))));
+      case TEAM_MEMBER -> List.of(
+          get("GET /api/projects/teamMember/{teamMemberUsername}", 20, ALWAYS,
+              s -> "/api/projects/teamMember/" + s.username() + "?page=0&size=10"),
+          get("GET /api/projects/active/teamMember/{teamMemberUsername}", 10, ALWAYS,
+              s -> "/api/projects/active/teamMember/" + s.username() + "?page=0&size=10"),
+          get("GET /api/projects/{id}", 15, HAS_PROJECTS,
+              s -> "/api/projects/" + s.anyProject()),
+          get("GET /api/tasks/project/{projectId}", 25, HAS_PROJECTS,
+              s -> "/api/tasks/project/" + s.anyProject() + "?page=0&size=20"),
+          get("GET /api/users/teams/{teamId}/team-members", 10, HAS_TEAMS,
+              s -> "/api/users/teams/" + s.anyTeam() + "/team-members?page=0&size=20"),
+          get("GET /api/users/{userId}", 10, ALWAYS,
+              s -> "/api/users/" + s.member().id()),
+          new Operation("POST /api/comments", 10, HAS_PROJECTS,
+              s -> authorized(s, "/api/comments")
+                  .header("Content-Type", "application/json")
+                  .POST(HttpRequest.BodyPublishers.ofString(String.format(
+                      "{\"content\":\"Load test comment\",\"userId\":%d,\"projectId\":%d}",
+                      s.member().id(), s.anyProject())))
+                  .build()));
+    };
+
+    List<Operation> applicable = new ArrayList<>();
+    for (Operation operation : operations) {
+      if (operation.applicable().test(session)) {
+        applicable.add(operation);
+      }
+    }
+    applicable.add(new Operation("POST /api/auth/login", 2, ALWAYS, s -> login(s.username())));
+    return applicable;
+  }
+
+  static Operation pick(List<Operation> operations, Random random) {
+    int total = operations.stream().mapToInt(Operation::weight).sum();
+    int roll = random.nextInt(total);
+    for (Operation operation : operations) {
+      roll -= operation.weight();
+      if (roll < 0) {
+        return operation;
+      }
+    }
+    return operations.get(operations.size() - 1);
+  }
+
+  private static int page(Session session, int rows) {
+    return session.random().nextInt(Math.max(1, rows / 20));
+  }
+
+  private Operation get(String name, int weight, Predicate<Session> applicable,
+      Function<Session, String> path) {
+    return new Operation(name, weight, applicable,
+        session -> authorized(session, path.apply(session)).GET().build());
+  }
+
+  private HttpRequest.Builder authorized(Session session, String path) {
+    return HttpRequest.newBuilder(baseUri.resolve(path))
+        .header("Authorization", "Bearer " + session.token());
+  }
+}
@@ -0,0 +1,165 @@
+package com.progresso.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.progresso.backend.BackendApplication;
+import com.progresso.backend.datagen.GeneratedDataset;
+import com.progresso.backend.datagen.SyntheticDataGenerator;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Boots the application against an embedded database, seeds a synthetic dataset, replays a
+ * weighted mix of authenticated calls from concurrent clients and writes a JSON report with
+ * throughput and latency percentiles per endpoint.
+ */
+public final class LoadTestRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+  private final LoadTestSettings settings;
+  private final ObjectMapper objectMapper = new ObjectMapper()
+      .enable(SerializationFeature.INDENT_OUTPUT);
+  private final LatencyRecorder recorder = new LatencyRecorder();
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(10))
+      .build();
+  private volatile boolean running = true;
+
+  private LoadTestRunner(LoadTestSettings settings) {
+    this.settings = settings;
+  }
+
+  public static void main(String[] args) throws Exception {
+    new LoadTestRunner(LoadTestSettings.fromSystemProperties()).run();
+  }
+
+  private void run() throws Exception {
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+        BackendApplication.class)
+        .profiles(settings.profiles())
+        .properties("spring.datasource.url=" + settings.jdbcUrl())
+        .run()) {
+
+      GeneratedDataset dataset = new SyntheticDataGenerator(
+          new JdbcTemplate(context.getBean(DataSource.class)),
+          context.getBean(PasswordEncoder.class)).generate(settings.spec());
+
+      URI baseUri = URI.create("http://localhost:"
+          + context.getEnvironment().getProperty("local.server.port") + "/");
+      LoadScenario scenario = new LoadScenario(baseUri, dataset);
+      List<LoadScenario.Session> sessions = openSessions(scenario, dataset);
+
+      ExecutorService clients = Executors.newFixedThreadPool(settings.clients());
+      for (LoadScenario.Session session : sessions) {
+        clients.submit(() -> drive(scenario, session));
+      }
+
+      logger.info("run: Warming up for {} s with {} clients.", settings.warmupSeconds(),
+          settings.clients());
+      TimeUnit.SECONDS.sleep(settings.warmupSeconds());
+      recorder.reset();
+
+      logger.info("run: Measuring for {} s.", settings.durationSeconds());
+      long measureStart = System.nanoTime();
+      TimeUnit.SECONDS.sleep(settings.durationSeconds());
+      double elapsedSeconds = (System.nanoTime() - measureStart) / 1_000_000_000.0;
+      Map<String, Object> results = recorder.report(elapsedSeconds);
+
+      running = false;
+      clients.shutdown();
+      clients.awaitTermination(1, TimeUnit.MINUTES);
+
+      writeReport(elapsedSeconds, results);
+    }
+  }
+
+  private List<LoadScenario.Session> openSessions(LoadScenario scenario, GeneratedDataset dataset)
+      throws IOException, InterruptedException {
+    Random random = new Random(settings.seed());
+    List<LoadScenario.Session> sessions = new ArrayList<>();
+    for (int i = 0; i < settings.clients(); i++) {
+      LoadScenario.Persona persona;
+      GeneratedDataset.Member member;
+      String username;
+      if (i % 10 == 0) {
+        persona = LoadScenario.Persona.ADMIN;
+        member = new GeneratedDataset.Member(1L, dataset.adminUsername(), List.of(), List.of());
+      } else if (i % 10 <= 3) {
+        persona = LoadScenario.Persona.PROJECT_MANAGER;
+        member = dataset.projectManagers().get(random.nextInt(dataset.projectManagers().size()));
+      } else {
+        persona = LoadScenario.Persona.TEAM_MEMBER;
+        member = dataset.teamMembers().get(random.nextInt(dataset.teamMembers().size()));
+      }
+      username = member.username();
+
+      HttpResponse<String> response = httpClient.send(scenario.login(username),
+          HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new IllegalStateException(
+            "Login failed for " + username + ": " + response.statusCode() + " " + response.body());
+      }
+      JsonNode body = objectMapper.readTree(response.body());
+      sessions.add(new LoadScenario.Session(persona, member, username, body.get("token").asText(),
+          new Random(settings.seed() + i)));
+    }
+    return sessions;
+  }
+
+  private void drive(LoadScenario scenario, LoadScenario.Session session) {
+    List<LoadScenario.Operation> operations = scenario.operationsFor(session);
+    while (running) {
+      LoadScenario.Operation operation = LoadScenario.pick(operations, session.random());
+      long started = System.nanoTime();
+      int statusCode;
+      try {
+        statusCode = httpClient.send(operation.request().apply(session),
+            HttpResponse.BodyHandlers.discarding()).statusCode();
+      } catch (IOException e) {
+        statusCode = -1;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      recorder.record(operation.name(), System.nanoTime() - started, statusCode);
+    }
+  }
+
+  private void writeReport(double elapsedSeconds, Map<String, Object> results) throws IOException {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("finishedAt", Instant.now().toString());
+    report.put("profiles", List.of(settings.profiles()));
+    report.put("runtime", Runtime.version().toString());
+    report.put("clients", settings.clients());
+    report.put("durationSeconds", Math.round(elapsedSeconds));
+    report.put("dataset", settings.describe());
+    report.putAll(results);
+
+    Files.createDirectories(settings.report().toAbsolutePath().getParent());
+    objectMapper.writeValue(settings.report().toFile(), report);
+    logger.info("writeReport: Load test report written to {}\n{}", settings.report(),
+        objectMapper.writeValueAsString(results.get("total")));
+  }
+}
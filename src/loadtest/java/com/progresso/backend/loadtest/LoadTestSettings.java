@@ -0,0 +1,57 @@
+package com.progresso.backend.loadtest;
+
+import com.progresso.backend.datagen.SyntheticDataSpec;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Load test parameters, read from {@code -Dloadtest.*} system properties.
+ */
+record LoadTestSettings(
+    int users,
+    int teams,
+    int projects,
+    int tasks,
+    int comments,
+    long seed,
+    int threads,
+    int clients,
+    int warmupSeconds,
+    int durationSeconds,
+    String jdbcUrl,
+    String[] profiles,
+    Path report) {
+
+  static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings(
+        Integer.getInteger("loadtest.users", 1_000),
+        Integer.getInteger("loadtest.teams", 200),
+        Integer.getInteger("loadtest.projects", 2_000),
+        Integer.getInteger("loadtest.tasks", 20_000),
+        Integer.getInteger("loadtest.comments", 40_000),
+        Long.getLong("loadtest.seed", 42L),
+        Integer.getInteger("loadtest.threads", 4),
+        Integer.getInteger("loadtest.clients", 50),
+        Integer.getInteger("loadtest.warmup", 10),
+        Integer.getInteger("loadtest.duration", 60),
+        System.getProperty("loadtest.jdbc-url",
+            "jdbc:h2:mem:loadtest;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"),
+        System.getProperty("loadtest.profiles", "loadtest").split(","),
+        Path.of(System.getProperty("loadtest.report", "target/load-test-report.json")));
+  }
+
+  SyntheticDataSpec spec() {
+    return new SyntheticDataSpec(users, teams, projects, tasks, comments, seed, 1_000, threads,
+        3, "LoadTest123!");
+  }
+
+  Map<String, Object> describe() {
+    return Map.of(
+        "users", users,
+        "teams", teams,
+        "projects", projects,
+        "tasks", tasks,
+        "comments", comments,
+        "seed", seed);
+  }
+}
@@ -0,0 +1,24 @@
+package com.progresso.backend;
+
+import java.lang.reflect.Method;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Configuration
+public class StartupConfig {
+
+  /**
+   * Scheduled methods are only registered when their bean is created, so beans declaring them
+   * stay eager when {@code spring.main.lazy-initialization} is on.
+   */
+  @Bean
+  static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+    return (beanName, beanDefinition, beanType) -> !MethodIntrospector.selectMethods(beanType,
+        (MethodIntrospector.MetadataLookup<Scheduled>) (Method method) ->
+            AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class)).isEmpty();
+  }
+}
@@ -0,0 +1,37 @@
+package com.progresso.backend.analytics;
+
+import com.progresso.backend.dto.WorkloadDto;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+  private final AnalyticsService analyticsService;
+
+  @Autowired
+  public AnalyticsController(AnalyticsService analyticsService) {
+    this.analyticsService = analyticsService;
+  }
+
+  /**
+   * Admins see any team or all of them; a project manager must name a team assigned to one of
+   * the projects they manage.
+   */
+  @PreAuthorize("hasAuthority('ADMIN') or (hasAuthority('PROJECTMANAGER') and #teamId != null "
+      + "and @projectAccessResolver.managesTeam(#teamId, authentication.name))")
+  @GetMapping("/workload")
+  public ResponseEntity<List<WorkloadDto>> getWorkload(
+      @RequestParam(required = false) Long teamId,
+      @RequestParam(required = false) String engine) {
+    List<WorkloadDto> workload = analyticsService.getWorkload(teamId, engine);
+    return ResponseEntity.ok(workload);
+  }
+}
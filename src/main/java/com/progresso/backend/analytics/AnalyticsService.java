@@ -0,0 +1,58 @@
+package com.progresso.backend.analytics;
+
+import com.progresso.backend.dto.WorkloadDto;
+import com.progresso.backend.exception.TeamNotFoundException;
+import com.progresso.backend.teammanagement.TeamRepository;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.EnumUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class AnalyticsService {
+
+  private static final Logger logger = LoggerFactory.getLogger(AnalyticsService.class);
+
+  private final TeamRepository teamRepository;
+  private final Map<WorkloadEngine, WorkloadAggregator> aggregators =
+      new EnumMap<>(WorkloadEngine.class);
+
+  @Autowired
+  public AnalyticsService(TeamRepository teamRepository, List<WorkloadAggregator> aggregators) {
+    this.teamRepository = teamRepository;
+    aggregators.forEach(aggregator -> this.aggregators.put(aggregator.getEngine(), aggregator));
+  }
+
+  @Transactional(readOnly = true)
+  public List<WorkloadDto> getWorkload(Long teamId, String engine) {
+    WorkloadEngine workloadEngine = engine == null ? WorkloadEngine.SQL
+        : EnumUtils.getEnumIgnoreCase(WorkloadEngine.class, engine);
+
+    if (workloadEngine == null || !aggregators.containsKey(workloadEngine)) {
+      logger.error("getWorkload: Invalid aggregation engine: {}", engine);
+      throw new IllegalArgumentException("Invalid aggregation engine: " + engine);
+    }
+
+    if (teamId != null && !teamRepository.existsById(teamId)) {
+      logger.error("getWorkload: Team not found with ID: {}", teamId);
+      throw new TeamNotFoundException("Team not found.");
+    }
+
+    List<WorkloadDto> workload = aggregators.get(workloadEngine)
+        .aggregate(teamId, LocalDate.now()).stream()
+        .sorted(Comparator.comparing(WorkloadDto::getOpenTasks).reversed()
+            .thenComparing(WorkloadDto::getUsername))
+        .toList();
+
+    logger.info("getWorkload: Computed workload for {} team members using {} engine.",
+        workload.size(), workloadEngine);
+    return workload;
+  }
+}
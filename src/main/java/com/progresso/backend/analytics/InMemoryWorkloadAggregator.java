@@ -0,0 +1,77 @@
+package com.progresso.backend.analytics;
+
+import com.progresso.backend.dto.WorkloadDto;
+import com.progresso.backend.entity.Task;
+import com.progresso.backend.entity.User;
+import com.progresso.backend.enumeration.Role;
+import com.progresso.backend.enumeration.Status;
+import com.progresso.backend.usermanagement.UserRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+@Component
+public class InMemoryWorkloadAggregator implements WorkloadAggregator {
+
+  private final UserRepository userRepository;
+
+  @Autowired
+  public InMemoryWorkloadAggregator(UserRepository userRepository) {
+    this.userRepository = userRepository;
+  }
+
+  @Override
+  public WorkloadEngine getEngine() {
+    return WorkloadEngine.MEMORY;
+  }
+
+  @Override
+  public List<WorkloadDto> aggregate(Long teamId, LocalDate today) {
+    return userRepository.findActiveByRoleAndTeam(teamId, Role.TEAMMEMBER).stream()
+        .map(user -> aggregateUser(user, today))
+        .toList();
+  }
+
+  private WorkloadDto aggregateUser(User user, LocalDate today) {
+    LocalDate in7Days = today.plusDays(7);
+    LocalDate in30Days = today.plusDays(30);
+
+    long openTasks = 0;
+    long overdueTasks = 0;
+    long dueNext7Days = 0;
+    long dueNext30Days = 0;
+    long completedTasks = 0;
+
+    List<Task> tasks = !CollectionUtils.isEmpty(user.getAssignedTasks())
+        ? user.getAssignedTasks() : List.of();
+
+    for (Task task : tasks) {
+      if (Status.COMPLETED.equals(task.getStatus())) {
+        completedTasks++;
+        continue;
+      }
+      if (Status.CANCELLED.equals(task.getStatus())) {
+        continue;
+      }
+
+      openTasks++;
+      LocalDate dueDate = task.getDueDate();
+      if (dueDate.isBefore(today)) {
+        overdueTasks++;
+      } else {
+        if (!dueDate.isAfter(in7Days)) {
+          dueNext7Days++;
+        }
+        if (!dueDate.isAfter(in30Days)) {
+          dueNext30Days++;
+        }
+      }
+    }
+
+    return new WorkloadDto(user.getId(), user.getUsername(), user.getFirstName(),
+        user.getLastName(), openTasks, overdueTasks, dueNext7Days, dueNext30Days, completedTasks,
+        WorkloadAggregator.completionRate(completedTasks, openTasks));
+  }
+}
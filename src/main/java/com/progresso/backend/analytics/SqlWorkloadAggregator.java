@@ -0,0 +1,51 @@
+package com.progresso.backend.analytics;
+
+import com.progresso.backend.dto.WorkloadCount;
+import com.progresso.backend.dto.WorkloadDto;
+import com.progresso.backend.enumeration.Role;
+import com.progresso.backend.enumeration.Status;
+import com.progresso.backend.usermanagement.UserRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SqlWorkloadAggregator implements WorkloadAggregator {
+
+  private final UserRepository userRepository;
+
+  @Autowired
+  public SqlWorkloadAggregator(UserRepository userRepository) {
+    this.userRepository = userRepository;
+  }
+
+  @Override
+  public WorkloadEngine getEngine() {
+    return WorkloadEngine.SQL;
+  }
+
+  @Override
+  public List<WorkloadDto> aggregate(Long teamId, LocalDate today) {
+    List<WorkloadCount> counts = userRepository.aggregateWorkload(teamId, Role.TEAMMEMBER,
+        Status.COMPLETED, Status.CANCELLED, today, today.plusDays(7), today.plusDays(30));
+
+    return counts.stream().map(this::convertToDto).toList();
+  }
+
+  private WorkloadDto convertToDto(WorkloadCount count) {
+    WorkloadDto dto = new WorkloadDto();
+    dto.setUserId(count.getUserId());
+    dto.setUsername(count.getUsername());
+    dto.setFirstName(count.getFirstName());
+    dto.setLastName(count.getLastName());
+    dto.setOpenTasks(count.getOpenTasks());
+    dto.setOverdueTasks(count.getOverdueTasks());
+    dto.setTasksDueNext7Days(count.getTasksDueNext7Days());
+    dto.setTasksDueNext30Days(count.getTasksDueNext30Days());
+    dto.setCompletedTasks(count.getCompletedTasks());
+    dto.setCompletionRate(
+        WorkloadAggregator.completionRate(count.getCompletedTasks(), count.getOpenTasks()));
+    return dto;
+  }
+}
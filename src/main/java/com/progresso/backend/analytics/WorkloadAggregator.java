@@ -0,0 +1,17 @@
+package com.progresso.backend.analytics;
+
+import com.progresso.backend.dto.WorkloadDto;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface WorkloadAggregator {
+
+  WorkloadEngine getEngine();
+
+  List<WorkloadDto> aggregate(Long teamId, LocalDate today);
+
+  static Double completionRate(long completedTasks, long openTasks) {
+    long relevantTasks = completedTasks + openTasks;
+    return relevantTasks == 0 ? null : (completedTasks * 100.0) / relevantTasks;
+  }
+}
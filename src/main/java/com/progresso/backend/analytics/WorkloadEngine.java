@@ -0,0 +1,5 @@
+package com.progresso.backend.analytics;
+
+public enum WorkloadEngine {
+  SQL, MEMORY
+}
@@ -9,6 +9,7 @@ import com.progresso.backend.dto.UserUpdateDtoAdmin;
 import jakarta.validation.Valid;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -48,9 +49,9 @@ public class AuthController {
   }
 
   @PostMapping("/login")
-  public ResponseEntity<UserLoginResponseDto> login(@Valid @RequestBody UserLoginDto loginDto) {
-    UserLoginResponseDto userDto = authService.authenticateUser(loginDto);
-    return ResponseEntity.ok(userDto);
+  public CompletableFuture<ResponseEntity<UserLoginResponseDto>> login(
+      @Valid @RequestBody UserLoginDto loginDto) {
+    return authService.authenticateUser(loginDto).thenApply(ResponseEntity::ok);
   }
 
   @PreAuthorize("hasAuthority('ADMIN')")
@@ -1,5 +1,8 @@
 package com.progresso.backend.authsubsystem;
 
+import com.progresso.backend.cache.CacheEviction;
+import com.progresso.backend.cache.CacheEviction.Kind;
+import com.progresso.backend.cache.CacheEvictionEvent;
 import com.progresso.backend.dto.UserChangePasswordDto;
 import com.progresso.backend.dto.UserLoginDto;
 import com.progresso.backend.dto.UserLoginResponseDto;
@@ -15,8 +18,10 @@ import com.progresso.backend.exception.ActiveProjectsException;
 import com.progresso.backend.exception.EmailAlreadyExistsException;
 import com.progresso.backend.exception.InvalidPasswordException;
 import com.progresso.backend.exception.InvalidRoleException;
+import com.progresso.backend.exception.PasswordHashingUnavailableException;
 import com.progresso.backend.exception.UserNotActiveException;
 import com.progresso.backend.exception.UserNotFoundException;
+import com.progresso.backend.security.BoundedPasswordEncoder;
 import com.progresso.backend.security.JwtUtil;
 import com.progresso.backend.security.PasswordGenerator;
 import com.progresso.backend.taskmanagement.TaskRepository;
@@ -25,14 +30,17 @@ import com.progresso.backend.usermanagement.UserService;
 import jakarta.transaction.Transactional;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -42,20 +50,26 @@ public class AuthService {
 
   private final UserRepository userRepository;
   private final UserService userService;
-  private final PasswordEncoder passwordEncoder;
+  private final BoundedPasswordEncoder passwordEncoder;
   private final JwtUtil jwtUtil;
   private final TaskRepository taskRepository;
+  private final Executor responseExecutor;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Autowired
   public AuthService(UserRepository userRepository,
       UserService userService,
-      PasswordEncoder passwordEncoder,
-      JwtUtil jwtUtil, TaskRepository taskRepository) {
+      BoundedPasswordEncoder passwordEncoder,
+      JwtUtil jwtUtil, TaskRepository taskRepository,
+      @Qualifier("applicationTaskExecutor") Executor responseExecutor,
+      ApplicationEventPublisher eventPublisher) {
     this.userRepository = userRepository;
     this.userService = userService;
     this.passwordEncoder = passwordEncoder;
     this.jwtUtil = jwtUtil;
     this.taskRepository = taskRepository;
+    this.responseExecutor = responseExecutor;
+    this.eventPublisher = eventPublisher;
   }
 
   private String generateUsername(String firstName, String lastName, Role role) {
@@ -106,14 +120,16 @@ public class AuthService {
     user.setUsername(generateUsername(user.getFirstName(), user.getLastName(), user.getRole()));
 
     String password = PasswordGenerator.generateSecurePassword();
-    logger.info("registerUser: Generated username: {} and password: {} for user: {}",
-        user.getUsername(), password, user.getFirstName());
+    logger.info("registerUser: Generated username: {} for user: {}", user.getUsername(),
+        user.getFirstName());
     user.setPassword(passwordEncoder.encode(password));
 
     user = userRepository.save(user);
 
     logger.info("registerUser: Registered new user with email: {}", user.getEmail());
-    return userService.convertToDto(user);
+    UserResponseDto userResponseDto = userService.convertToDto(user);
+    userResponseDto.setTemporaryPassword(password);
+    return userResponseDto;
   }
 
   public boolean canChangePassword(Long userId, String username) {
@@ -198,7 +214,7 @@ public class AuthService {
     return userService.convertToDto(savedUser);
   }
 
-  public UserLoginResponseDto authenticateUser(UserLoginDto loginDto) {
+  public CompletableFuture<UserLoginResponseDto> authenticateUser(UserLoginDto loginDto) {
     User user = userRepository.findByUsername(loginDto.getUsername())
         .orElseThrow(() -> {
           logger.error("authenticateUser: User not found with username: {}",
@@ -212,15 +228,52 @@ public class AuthService {
       throw new UserNotActiveException("User " + user.getUsername() + " is not active.");
     }
 
-    if (!passwordEncoder.matches(loginDto.getPassword(), user.getPassword())) {
-      logger.error("authenticateUser: Invalid password for username: {}", loginDto.getUsername());
-      throw new InvalidPasswordException(
-          "Invalid password for username: " + loginDto.getUsername());
+    // Only the hash comparison runs on the bounded hashing pool; signing the token and building
+    // the response continue on the application executor so they do not hold hashing threads
+    return passwordEncoder.matchesAsync(loginDto.getPassword(), user.getPassword())
+        .thenApplyAsync(matches -> {
+          if (!matches) {
+            logger.error("authenticateUser: Invalid password for username: {}",
+                loginDto.getUsername());
+            throw new InvalidPasswordException(
+                "Invalid password for username: " + loginDto.getUsername());
+          }
+
+          rehashIfNeeded(user, loginDto.getPassword());
+
+          String token = jwtUtil.generateToken(user);
+          logger.info("authenticateUser: User {} authenticated successfully.",
+              user.getUsername());
+          return userService.convertToDtoToken(user, token);
+        }, responseExecutor);
+  }
+
+  private void rehashIfNeeded(User user, String rawPassword) {
+    if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+      return;
     }
 
-    String token = jwtUtil.generateToken(user);
-    logger.info("authenticateUser: User {} authenticated successfully.", user.getUsername());
-    return userService.convertToDtoToken(user, token);
+    String currentHash = user.getPassword();
+    try {
+      passwordEncoder.encodeAsync(rawPassword)
+          .thenAcceptAsync(hash -> {
+            if (userRepository.updatePassword(user.getId(), currentHash, hash) > 0) {
+              eventPublisher.publishEvent(new CacheEvictionEvent(List.of(
+                  new CacheEviction(Kind.ENTITY, User.class.getName(), user.getId()))));
+            }
+          }, responseExecutor)
+          .whenComplete((ignored, e) -> {
+            if (e != null) {
+              logger.warn("rehashIfNeeded: Failed to rehash password for user {}.",
+                  user.getUsername(), e);
+            } else {
+              logger.info("rehashIfNeeded: Rehashed password for user {}.", user.getUsername());
+            }
+          });
+    } catch (PasswordHashingUnavailableException e) {
+      logger.warn("rehashIfNeeded: Hashing pool saturated, rehash for user {} deferred.",
+          user.getUsername());
+    }
   }
 
   @Transactional
@@ -0,0 +1,16 @@
+package com.progresso.backend.cache;
+
+/**
+ * One second-level cache entry, or a whole region when {@code id} is null, that other nodes must
+ * drop.
+ *
+ * @param role entity name or collection role
+ */
+public record CacheEviction(Kind kind, String role, Long id) {
+
+  public enum Kind {
+    ENTITY,
+    COLLECTION,
+    NATURAL_ID
+  }
+}
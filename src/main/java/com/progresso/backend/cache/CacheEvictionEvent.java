@@ -0,0 +1,16 @@
+package com.progresso.backend.cache;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Second-level cache entries changed by a bulk update, which fires no entity events; published
+ * so that the other nodes drop them too.
+ */
+@Getter
+@AllArgsConstructor
+public class CacheEvictionEvent {
+
+  private final List<CacheEviction> evictions;
+}
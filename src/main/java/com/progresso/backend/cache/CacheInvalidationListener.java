@@ -0,0 +1,222 @@
+package com.progresso.backend.cache;
+
+import com.progresso.backend.cache.CacheEviction.Kind;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Translates flushed changes to cached entities and collections into the evictions other nodes
+ * have to apply, mirroring what Hibernate evicts locally (including
+ * {@code hibernate.cache.auto_evict_collection_cache} for inverse collections). Evictions are
+ * handed to the sink once the surrounding transaction commits and dropped on rollback.
+ */
+class CacheInvalidationListener implements PostInsertEventListener, PostUpdateEventListener,
+    PostDeleteEventListener, PostCollectionRecreateEventListener,
+    PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+  /**
+   * A cached inverse collection and the property of its element that owns the association.
+   *
+   * @param toOne whether {@code mappedBy} is a to-one association rather than a collection
+   */
+  private record InverseCollection(String role, String ownerEntityName, String mappedBy,
+      boolean toOne) {
+  }
+
+  private final Consumer<List<CacheEviction>> sink;
+  private final Map<String, List<InverseCollection>> inverseCollectionsByElement = new HashMap<>();
+
+  CacheInvalidationListener(SessionFactoryImplementor sessionFactory,
+      Consumer<List<CacheEviction>> sink) {
+    this.sink = sink;
+    sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(collection -> {
+      if (collection.hasCache() && collection.isInverse()
+          && collection.getElementType() instanceof EntityType elementType) {
+        String elementEntityName = elementType.getAssociatedEntityName();
+        EntityPersister element = sessionFactory.getMappingMetamodel()
+            .getEntityDescriptor(elementEntityName);
+        String mappedBy = collection.getMappedByProperty();
+        inverseCollectionsByElement
+            .computeIfAbsent(elementEntityName, name -> new ArrayList<>())
+            .add(new InverseCollection(collection.getRole(),
+                collection.getOwnerEntityPersister().getEntityName(), mappedBy,
+                element.getPropertyTypes()[element.getPropertyIndex(mappedBy)]
+                    instanceof EntityType));
+      }
+    });
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    onEntityChange(event.getPersister(), event.getId(), null, event.getState(), null,
+        event.getSession());
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    onEntityChange(event.getPersister(), event.getId(), event.getOldState(), event.getState(),
+        event.getDirtyProperties(), event.getSession());
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    onEntityChange(event.getPersister(), event.getId(), event.getDeletedState(), null, null,
+        event.getSession());
+  }
+
+  @Override
+  public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+    onCollectionChange(event);
+  }
+
+  @Override
+  public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+    onCollectionChange(event);
+  }
+
+  @Override
+  public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+    onCollectionChange(event);
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  private void onEntityChange(EntityPersister persister, Object id, Object[] oldState,
+      Object[] state, int[] dirtyProperties, SharedSessionContractImplementor session) {
+    Set<CacheEviction> evictions = new LinkedHashSet<>();
+    String entityName = persister.getEntityName();
+
+    if (persister.canWriteToCache() && id instanceof Long entityId) {
+      evictions.add(new CacheEviction(Kind.ENTITY, entityName, entityId));
+      if (persister.hasNaturalIdentifier() && naturalIdChanged(persister, dirtyProperties)) {
+        evictions.add(new CacheEviction(Kind.NATURAL_ID, entityName, null));
+      }
+    }
+
+    for (InverseCollection collection : inverseCollectionsByElement.getOrDefault(entityName,
+        List.of())) {
+      if (!collection.toOne()) {
+        continue;
+      }
+      int property = persister.getPropertyIndex(collection.mappedBy());
+      addOwner(evictions, collection, oldState, property, session);
+      addOwner(evictions, collection, state, property, session);
+    }
+
+    enqueue(evictions);
+  }
+
+  private void onCollectionChange(AbstractCollectionEvent event) {
+    String role = event.getCollection().getRole();
+    if (role == null) {
+      return;
+    }
+    CollectionPersister persister = event.getSession().getFactory().getMappingMetamodel()
+        .getCollectionDescriptor(role);
+    Set<CacheEviction> evictions = new LinkedHashSet<>();
+
+    if (persister.hasCache() && event.getAffectedOwnerIdOrNull() instanceof Long ownerId) {
+      evictions.add(new CacheEviction(Kind.COLLECTION, role, ownerId));
+    }
+
+    // The other side of a many-to-many: the changed elements are not known here, so the whole
+    // inverse role is dropped. Membership changes are rare compared to reads.
+    String propertyName = role.substring(role.lastIndexOf('.') + 1);
+    for (InverseCollection inverse : inverseCollectionsByElement.getOrDefault(
+        event.getAffectedOwnerEntityName(), List.of())) {
+      if (!inverse.toOne() && propertyName.equals(inverse.mappedBy())) {
+        evictions.add(new CacheEviction(Kind.COLLECTION, inverse.role(), null));
+      }
+    }
+
+    enqueue(evictions);
+  }
+
+  private static boolean naturalIdChanged(EntityPersister persister, int[] dirtyProperties) {
+    if (dirtyProperties == null) {
+      return false;
+    }
+    for (int naturalIdProperty : persister.getNaturalIdentifierProperties()) {
+      for (int dirty : dirtyProperties) {
+        if (dirty == naturalIdProperty) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static void addOwner(Set<CacheEviction> evictions, InverseCollection collection,
+      Object[] state, int property, SharedSessionContractImplementor session) {
+    if (state == null || state[property] == null) {
+      return;
+    }
+    Object owner = state[property];
+    Object ownerId = session.getContextEntityIdentifier(owner);
+    if (ownerId == null) {
+      ownerId = session.getFactory().getMappingMetamodel()
+          .getEntityDescriptor(collection.ownerEntityName()).getIdentifier(owner, session);
+    }
+    if (ownerId instanceof Long id) {
+      evictions.add(new CacheEviction(Kind.COLLECTION, collection.role(), id));
+    }
+  }
+
+  private void enqueue(Set<CacheEviction> evictions) {
+    if (evictions.isEmpty()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      sink.accept(List.copyOf(evictions));
+      return;
+    }
+
+    @SuppressWarnings("unchecked")
+    Set<CacheEviction> pending = (Set<CacheEviction>) TransactionSynchronizationManager
+        .getResource(this);
+    if (pending == null) {
+      Set<CacheEviction> transactionEvictions = new LinkedHashSet<>();
+      TransactionSynchronizationManager.bindResource(this, transactionEvictions);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(
+              CacheInvalidationListener.this);
+          if (status == STATUS_COMMITTED) {
+            sink.accept(List.copyOf(transactionEvictions));
+          }
+        }
+      });
+      pending = transactionEvictions;
+    }
+    pending.addAll(evictions);
+  }
+}
@@ -0,0 +1,213 @@
+package com.progresso.backend.cache;
+
+import com.progresso.backend.cache.CacheEviction.Kind;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * Keeps the second-level caches of several nodes consistent through the
+ * {@code cache_invalidation} table: committed changes are appended as eviction rows, and every
+ * node applies the rows written by the others. Row ids are assigned at insert but become visible
+ * at commit, so each poll re-reads a trailing window of ids and skips the rows it has already
+ * applied. Entries missed in between (e.g. during a restart) are bounded by the expiry configured
+ * per region in {@code hibernate-cache.conf}.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.enabled", havingValue = "true")
+public class ClusterCacheInvalidator {
+
+  private static final Logger logger = LoggerFactory.getLogger(ClusterCacheInvalidator.class);
+
+  static final String INSERT = "INSERT INTO cache_invalidation "
+      + "(node_id, kind, cache_role, entity_id, created_at) VALUES (?, ?, ?, ?, ?)";
+  static final String SELECT_SINCE = "SELECT id, node_id, kind, cache_role, entity_id "
+      + "FROM cache_invalidation WHERE id > ? ORDER BY id";
+  static final String SELECT_IDS_SINCE = "SELECT id FROM cache_invalidation WHERE id > ?";
+  static final String SELECT_LAST_ID = "SELECT COALESCE(MAX(id), 0) FROM cache_invalidation";
+  static final String DELETE_BEFORE = "DELETE FROM cache_invalidation WHERE created_at < ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Cache cache;
+  private final String nodeId;
+  private final long retentionMillis;
+  private final long rereadWindow;
+  private final Clock clock;
+  private final Queue<CacheEviction> outbox = new ConcurrentLinkedQueue<>();
+  private final Counter published;
+  private final Counter applied;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final NavigableSet<Long> appliedIds = new TreeSet<>();
+  private long lastSeenId;
+
+  @Autowired
+  public ClusterCacheInvalidator(EntityManagerFactory entityManagerFactory,
+      JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+      @Value("${cache.invalidation.node-id:}") String nodeId,
+      @Value("${cache.invalidation.retention-ms:3600000}") long retentionMillis,
+      @Value("${cache.invalidation.reread-window:1000}") long rereadWindow) {
+    this(entityManagerFactory.unwrap(SessionFactoryImplementor.class), jdbcTemplate,
+        meterRegistry, StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString(),
+        retentionMillis, rereadWindow, Clock.systemUTC());
+  }
+
+  ClusterCacheInvalidator(SessionFactoryImplementor sessionFactory, JdbcTemplate jdbcTemplate,
+      MeterRegistry meterRegistry, String nodeId, long retentionMillis, long rereadWindow,
+      Clock clock) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.cache = sessionFactory.getCache();
+    this.nodeId = nodeId;
+    this.retentionMillis = retentionMillis;
+    this.rereadWindow = rereadWindow;
+    this.clock = clock;
+    this.published = meterRegistry.counter("cache.invalidation", "direction", "published");
+    this.applied = meterRegistry.counter("cache.invalidation", "direction", "applied");
+
+    CacheInvalidationListener listener = new CacheInvalidationListener(sessionFactory,
+        this::publish);
+    EventListenerRegistry listeners = sessionFactory.getServiceRegistry()
+        .requireService(EventListenerRegistry.class);
+    listeners.appendListeners(EventType.POST_INSERT, listener);
+    listeners.appendListeners(EventType.POST_UPDATE, listener);
+    listeners.appendListeners(EventType.POST_DELETE, listener);
+    listeners.appendListeners(EventType.POST_COLLECTION_RECREATE, listener);
+    listeners.appendListeners(EventType.POST_COLLECTION_UPDATE, listener);
+    listeners.appendListeners(EventType.POST_COLLECTION_REMOVE, listener);
+
+    Long lastId = jdbcTemplate.queryForObject(SELECT_LAST_ID, Long.class);
+    this.lastSeenId = lastId != null ? lastId : 0L;
+    appliedIds.addAll(jdbcTemplate.queryForList(SELECT_IDS_SINCE, Long.class, windowStart()));
+    logger.info("ClusterCacheInvalidator: Node {} following invalidations after ID {}", nodeId,
+        lastSeenId);
+  }
+
+  /**
+   * Queues committed local evictions; they are written by the next {@link #synchronize()}.
+   */
+  void publish(List<CacheEviction> evictions) {
+    outbox.addAll(evictions);
+  }
+
+  /**
+   * Queues the evictions of a bulk update, which bypasses the entity events; published by the
+   * caller's transaction, they are queued once it commits.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCacheEviction(CacheEvictionEvent event) {
+    publish(event.getEvictions());
+  }
+
+  /**
+   * Publishes the local evictions collected since the last run, then applies the ones published
+   * by other nodes. Runs are serialized with a lock rather than a monitor, so a virtual thread
+   * waiting on the database does not pin its carrier.
+   */
+  @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:1000}")
+  public void synchronize() {
+    lock.lock();
+    try {
+      publishPending();
+      applyRemote();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${cache.invalidation.cleanup-interval-ms:600000}")
+  public void purgeExpired() {
+    int deleted = jdbcTemplate.update(DELETE_BEFORE, clock.millis() - retentionMillis);
+    if (deleted > 0) {
+      logger.debug("purgeExpired: Deleted {} cache invalidation rows.", deleted);
+    }
+  }
+
+  private void publishPending() {
+    List<CacheEviction> pending = new ArrayList<>();
+    CacheEviction eviction;
+    while ((eviction = outbox.poll()) != null) {
+      pending.add(eviction);
+    }
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    long now = clock.millis();
+    try {
+      jdbcTemplate.batchUpdate(INSERT, pending.stream()
+          .map(e -> new Object[]{nodeId, e.kind().name(), e.role(), e.id(), now})
+          .toList());
+      published.increment(pending.size());
+    } catch (RuntimeException e) {
+      logger.error("publishPending: Failed to publish {} cache invalidations: {}", pending.size(),
+          e.getMessage());
+      outbox.addAll(pending);
+    }
+  }
+
+  private void applyRemote() {
+    jdbcTemplate.query(SELECT_SINCE, resultSet -> {
+      long rowId = resultSet.getLong("id");
+      if (!appliedIds.add(rowId)) {
+        return;
+      }
+      lastSeenId = Math.max(lastSeenId, rowId);
+      if (nodeId.equals(resultSet.getString("node_id"))) {
+        return;
+      }
+      long entityId = resultSet.getLong("entity_id");
+      Long id = resultSet.wasNull() ? null : entityId;
+      evict(new CacheEviction(Kind.valueOf(resultSet.getString("kind")),
+          resultSet.getString("cache_role"), id));
+      applied.increment();
+    }, windowStart());
+    appliedIds.headSet(windowStart(), true).clear();
+  }
+
+  private long windowStart() {
+    return Math.max(0L, lastSeenId - rereadWindow);
+  }
+
+  void evict(CacheEviction eviction) {
+    switch (eviction.kind()) {
+      case ENTITY -> {
+        if (eviction.id() == null) {
+          cache.evictEntityData(eviction.role());
+        } else {
+          cache.evictEntityData(eviction.role(), eviction.id());
+        }
+      }
+      case COLLECTION -> {
+        if (eviction.id() == null) {
+          cache.evictCollectionData(eviction.role());
+        } else {
+          cache.evictCollectionData(eviction.role(), eviction.id());
+        }
+      }
+      case NATURAL_ID -> cache.evictNaturalIdData(eviction.role());
+      default -> throw new IllegalStateException("Unknown eviction kind: " + eviction.kind());
+    }
+  }
+}
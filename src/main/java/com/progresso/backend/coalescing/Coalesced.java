@@ -0,0 +1,16 @@
+package com.progresso.backend.coalescing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read whose concurrent identical calls may share one execution (see
+ * {@link CoalescingAspect}). Only for methods that do not write and whose result depends on the
+ * arguments alone, not on the caller. Results must be immutable or Jackson-copyable beans.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+}
@@ -0,0 +1,162 @@
+package com.progresso.backend.coalescing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Single-flight for {@link Coalesced} methods. A caller never joins an execution that started
+ * before it arrived, since that one may predate a write the caller has already seen (its own, or
+ * the version behind an ETag it just read). Identical calls (same method, equal arguments) that
+ * arrive while an execution is running instead queue for the next one, which starts as soon as
+ * the running one finishes and is shared by everybody queued. Under a burst each key therefore
+ * runs at most two executions at a time: one running and one queued.
+ *
+ * <p>The first caller of an execution receives its result; the others receive copies, so no two
+ * callers share a mutable object. Authorization is still checked per caller before the method
+ * is reached.
+ *
+ * <p>Ordered outside the transaction and metrics advice, so waiting callers neither open a
+ * transaction nor count as executions. Calls made inside a transaction are never coalesced, as
+ * they may have to see their own uncommitted writes.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@ConditionalOnProperty(name = "coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescingAspect {
+
+  static final String METRIC_NAME = "progresso.service.coalesced";
+
+  private record Call(String method, List<Object> args) {
+  }
+
+  /**
+   * The execution of a key that is running and the one queued behind it, if any.
+   */
+  private static final class Slot {
+
+    private CompletableFuture<Object> running;
+    private CompletableFuture<Object> queued;
+  }
+
+  /**
+   * Where a caller ended up: leading a new execution (after {@code predecessor}, when queued) or
+   * waiting for one led by another caller.
+   */
+  private record Ticket(CompletableFuture<Object> flight, boolean leader,
+      CompletableFuture<Object> predecessor) {
+  }
+
+  private final MeterRegistry meterRegistry;
+  private final ObjectMapper objectMapper;
+  private final Map<Call, Slot> inFlight = new ConcurrentHashMap<>();
+
+  @Autowired
+  public CoalescingAspect(MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+    this.meterRegistry = meterRegistry;
+    this.objectMapper = objectMapper;
+  }
+
+  @Around("@annotation(com.progresso.backend.coalescing.Coalesced)")
+  public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return joinPoint.proceed();
+    }
+
+    Call call = new Call(joinPoint.getSignature().toLongString(),
+        Arrays.asList(joinPoint.getArgs()));
+    Ticket ticket = enter(call);
+
+    if (!ticket.leader()) {
+      meterRegistry.counter(METRIC_NAME, "method", joinPoint.getSignature().getName())
+          .increment();
+      try {
+        return copyOf(ticket.flight().join());
+      } catch (CompletionException e) {
+        throw e.getCause();
+      }
+    }
+
+    if (ticket.predecessor() != null) {
+      ticket.predecessor().handle((result, failure) -> null).join();
+      inFlight.computeIfPresent(call, (key, slot) -> {
+        slot.running = slot.queued;
+        slot.queued = null;
+        return slot;
+      });
+    }
+
+    try {
+      Object result = joinPoint.proceed();
+      leave(call, ticket.flight());
+      ticket.flight().complete(result);
+      return result;
+    } catch (Throwable e) {
+      leave(call, ticket.flight());
+      ticket.flight().completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private Ticket enter(Call call) {
+    Ticket[] ticket = new Ticket[1];
+    inFlight.compute(call, (key, slot) -> {
+      if (slot == null) {
+        slot = new Slot();
+        slot.running = new CompletableFuture<>();
+        ticket[0] = new Ticket(slot.running, true, null);
+      } else if (slot.queued == null) {
+        slot.queued = new CompletableFuture<>();
+        ticket[0] = new Ticket(slot.queued, true, slot.running);
+      } else {
+        ticket[0] = new Ticket(slot.queued, false, null);
+      }
+      return slot;
+    });
+    return ticket[0];
+  }
+
+  /**
+   * Drops the key once its running execution is done and nothing is queued; a queued execution
+   * takes the slot over when it starts.
+   */
+  private void leave(Call call, CompletableFuture<Object> flight) {
+    inFlight.computeIfPresent(call, (key, slot) ->
+        slot.running == flight && slot.queued == null ? null : slot);
+  }
+
+  private Object copyOf(Object value) {
+    if (value == null || value instanceof Number || value instanceof CharSequence
+        || value instanceof Boolean || value instanceof Enum<?> || value instanceof Temporal) {
+      return value;
+    }
+    if (value instanceof Page<?> page) {
+      return page.map(this::copyOf);
+    }
+    if (value instanceof Collection<?> collection) {
+      List<Object> copy = new ArrayList<>(collection.size());
+      collection.forEach(element -> copy.add(copyOf(element)));
+      return copy;
+    }
+    return objectMapper.convertValue(value, value.getClass());
+  }
+}
@@ -1,6 +1,8 @@
 package com.progresso.backend.commentmanagement;
 
 import com.progresso.backend.dto.CommentDto;
+import com.progresso.backend.enumeration.ProjectRole;
+import com.progresso.backend.security.ProjectAccess;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -31,8 +33,7 @@ public class CommentController {
     this.commentService = commentService;
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or "
-      + "@commentService.isManagerOrMemberOfProject(#projectId, authentication.name)")
+  @ProjectAccess(project = "#projectId", roles = {ProjectRole.MANAGER, ProjectRole.MEMBER})
   @GetMapping("/project/{projectId}/comments")
   public ResponseEntity<Page<CommentDto>> findByProjectId(@PathVariable Long projectId,
       Pageable pageable) {
@@ -40,15 +41,15 @@ public class CommentController {
     return ResponseEntity.ok(comments);
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') "
-      + "or @commentService.isManagerOrMemberOfProject(#commentDto.projectId, authentication.name)")
+  @ProjectAccess(project = "#commentDto.projectId",
+      roles = {ProjectRole.MANAGER, ProjectRole.MEMBER})
   @PostMapping
   public ResponseEntity<CommentDto> createComment(@Valid @RequestBody CommentDto commentDto) {
     CommentDto createdComment = commentService.createComment(commentDto);
     return ResponseEntity.status(HttpStatus.CREATED).body(createdComment);
   }
 
-  @PreAuthorize("@commentService.isCommentOwner(#id, authentication.name)")
+  @PreAuthorize("@projectAccessResolver.isCommentAuthor(#id, authentication.name)")
   @PutMapping("/{id}")
   public ResponseEntity<CommentDto> updateComment(@PathVariable Long id,
       @RequestParam @NotBlank(message = "Content cannot be empty")
@@ -59,8 +60,7 @@ public class CommentController {
   }
 
   @PreAuthorize("hasAuthority('ADMIN') "
-      + "or @commentService.isCommentOwner("
-      + "#id, authentication.name)")
+      + "or @projectAccessResolver.isCommentAuthor(#id, authentication.name)")
   @DeleteMapping("/{id}")
   public ResponseEntity<CommentDto> deleteComment(@PathVariable Long id) {
     CommentDto deletedComment = commentService.deleteComment(id);
@@ -1,11 +1,40 @@
 package com.progresso.backend.commentmanagement;
 
+import com.progresso.backend.dto.CommentExportRow;
+import com.progresso.backend.dto.ProjectChildId;
 import com.progresso.backend.entity.Comment;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-  Page<Comment> findByProjectId(Long projectId, Pageable pageable);
+  @Query(value = "SELECT c FROM Comment c WHERE c.project.id = :projectId",
+      countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.project.id = :projectId")
+  Page<Comment> findByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+  @Query("SELECT u.username FROM Comment c JOIN c.user u WHERE c.id = :commentId")
+  Optional<String> findAuthorUsername(@Param("commentId") Long commentId);
+
+  @Query("SELECT c.project.id AS projectId, c.id AS id FROM Comment c "
+      + "WHERE c.project.id IN :projectIds ORDER BY c.id")
+  List<ProjectChildId> findIdsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT new com.progresso.backend.dto.CommentExportRow(c.id, c.project.id, parent.id, "
+      + "u.username, c.content, c.creationDate, c.modified, c.modifiedDate, c.deleted) "
+      + "FROM Comment c JOIN c.user u LEFT JOIN c.parent parent ORDER BY c.id")
+  Stream<CommentExportRow> streamAllForExport();
 }
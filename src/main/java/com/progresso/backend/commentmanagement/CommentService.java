@@ -13,7 +13,6 @@ import com.progresso.backend.exception.UserNotActiveException;
 import com.progresso.backend.exception.UserNotFoundException;
 import com.progresso.backend.projectmanagement.ProjectRepository;
 import com.progresso.backend.usermanagement.UserRepository;
-import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +20,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CommentService {
@@ -85,48 +85,7 @@ public class CommentService {
     return isInProject;
   }
 
-  public Boolean isManagerOrMemberOfProject(Long projectId, String username) {
-    if (projectId == null) {
-      logger.error("isManagerOrMemberOfProject: Project id cannot be null.");
-      throw new ProjectNotFoundException("Project id cannot be null.");
-    }
-
-    Project project = projectRepository.findById(projectId)
-        .orElseThrow(() -> {
-          logger.error("isManagerOrMemberOfProject: Project not found with ID: {}", projectId);
-          return new ProjectNotFoundException("Project not found.");
-        });
-
-    Boolean isManagerOrMember = project.getProjectManager().getUsername().equals(username)
-        || (project.getTeam() != null && project.getTeam().getTeamMembers().stream()
-        .map(User::getUsername)
-        .anyMatch(memberUsername -> memberUsername.equals(username)));
-
-    logger.info(
-        "isManagerOrMemberOfProject: User {} is {}a manager or member of the project with ID: {}",
-        username, isManagerOrMember ? "" : "not ", projectId);
-    return isManagerOrMember;
-  }
-
-  public Boolean isCommentOwner(Long commentId, String username) {
-    if (commentId == null) {
-      logger.error("isCommentOwner: Comment id cannot be null");
-      throw new IllegalArgumentException("Comment id cannot be null.");
-    }
-
-    Comment comment = commentRepository.findById(commentId)
-        .orElseThrow(() -> {
-          logger.error("isCommentOwner: Comment not found with ID: {}", commentId);
-          return new CommentNotFoundException("Comment not found.");
-        });
-
-    Boolean isOwner = comment.getUser().getUsername().equals(username);
-
-    logger.info("isCommentOwner: User {} is {}the owner of the comment with ID: {}", username,
-        isOwner ? "" : "not ", commentId);
-    return isOwner;
-  }
-
+  @Transactional(readOnly = true)
   public Page<CommentDto> findByProjectId(Long projectId, Pageable pageable) {
     if (projectId == null) {
       logger.error("findByProjectId: Project id cannot be null.");
@@ -0,0 +1,60 @@
+package com.progresso.backend.dataexport;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/export")
+public class DataExportController {
+
+  private final DataExportService dataExportService;
+
+  @Autowired
+  public DataExportController(DataExportService dataExportService) {
+    this.dataExportService = dataExportService;
+  }
+
+  @PreAuthorize("hasAuthority('ADMIN')")
+  @GetMapping("/projects")
+  public ResponseEntity<StreamingResponseBody> exportProjects(
+      @RequestParam(required = false) String format) {
+    ExportFormat exportFormat = dataExportService.parseFormat(format);
+    return streamingResponse("projects", exportFormat,
+        outputStream -> dataExportService.exportProjects(exportFormat, outputStream));
+  }
+
+  @PreAuthorize("hasAuthority('ADMIN')")
+  @GetMapping("/tasks")
+  public ResponseEntity<StreamingResponseBody> exportTasks(
+      @RequestParam(required = false) String format) {
+    ExportFormat exportFormat = dataExportService.parseFormat(format);
+    return streamingResponse("tasks", exportFormat,
+        outputStream -> dataExportService.exportTasks(exportFormat, outputStream));
+  }
+
+  @PreAuthorize("hasAuthority('ADMIN')")
+  @GetMapping("/comments")
+  public ResponseEntity<StreamingResponseBody> exportComments(
+      @RequestParam(required = false) String format) {
+    ExportFormat exportFormat = dataExportService.parseFormat(format);
+    return streamingResponse("comments", exportFormat,
+        outputStream -> dataExportService.exportComments(exportFormat, outputStream));
+  }
+
+  private ResponseEntity<StreamingResponseBody> streamingResponse(String name,
+      ExportFormat format, StreamingResponseBody body) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(format.getContentType()))
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"" + name + "." + format.getExtension() + "\"")
+        .body(body);
+  }
+}
@@ -0,0 +1,168 @@
+package com.progresso.backend.dataexport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.progresso.backend.commentmanagement.CommentRepository;
+import com.progresso.backend.dto.CommentExportRow;
+import com.progresso.backend.dto.ProjectExportRow;
+import com.progresso.backend.dto.TaskExportRow;
+import com.progresso.backend.projectmanagement.ProjectRepository;
+import com.progresso.backend.taskmanagement.TaskRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.EnumUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class DataExportService {
+
+  private static final Logger logger = LoggerFactory.getLogger(DataExportService.class);
+
+  private static final int FLUSH_INTERVAL = 500;
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  private static final String[] PROJECT_HEADER = {"id", "name", "description", "priority",
+      "status", "startDate", "dueDate", "completionDate", "projectManagerUsername", "teamId",
+      "teamName"};
+  private static final String[] TASK_HEADER = {"id", "projectId", "name", "description",
+      "priority", "status", "startDate", "dueDate", "completionDate", "assignedUsername"};
+  private static final String[] COMMENT_HEADER = {"id", "projectId", "parentId", "username",
+      "content", "creationDate", "modified", "modifiedDate", "deleted"};
+
+  private final ProjectRepository projectRepository;
+  private final TaskRepository taskRepository;
+  private final CommentRepository commentRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnlyTransaction;
+
+  @Autowired
+  public DataExportService(ProjectRepository projectRepository, TaskRepository taskRepository,
+      CommentRepository commentRepository, ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager) {
+    this.projectRepository = projectRepository;
+    this.taskRepository = taskRepository;
+    this.commentRepository = commentRepository;
+    this.objectMapper = objectMapper;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  public ExportFormat parseFormat(String format) {
+    ExportFormat exportFormat = format == null ? ExportFormat.CSV
+        : EnumUtils.getEnumIgnoreCase(ExportFormat.class, format);
+
+    if (exportFormat == null) {
+      logger.error("parseFormat: Invalid export format: {}", format);
+      throw new IllegalArgumentException("Invalid export format: " + format);
+    }
+
+    return exportFormat;
+  }
+
+  public void exportProjects(ExportFormat format, OutputStream outputStream) {
+    export("exportProjects", projectRepository::streamAllForExport, PROJECT_HEADER,
+        row -> new Object[]{row.getId(), row.getName(), row.getDescription(), row.getPriority(),
+            row.getStatus(), row.getStartDate(), row.getDueDate(), row.getCompletionDate(),
+            row.getProjectManagerUsername(), row.getTeamId(), row.getTeamName()},
+        format, outputStream);
+  }
+
+  public void exportTasks(ExportFormat format, OutputStream outputStream) {
+    export("exportTasks", taskRepository::streamAllForExport, TASK_HEADER,
+        row -> new Object[]{row.getId(), row.getProjectId(), row.getName(), row.getDescription(),
+            row.getPriority(), row.getStatus(), row.getStartDate(), row.getDueDate(),
+            row.getCompletionDate(), row.getAssignedUsername()},
+        format, outputStream);
+  }
+
+  public void exportComments(ExportFormat format, OutputStream outputStream) {
+    export("exportComments", commentRepository::streamAllForExport, COMMENT_HEADER,
+        row -> new Object[]{row.getId(), row.getProjectId(), row.getParentId(),
+            row.getUsername(), row.getContent(), row.getCreationDate(), row.getModified(),
+            row.getModifiedDate(), row.getDeleted()},
+        format, outputStream);
+  }
+
+  private <T> void export(String operation, Supplier<Stream<T>> query, String[] header,
+      Function<T, Object[]> columns, ExportFormat format, OutputStream outputStream) {
+    Writer writer = new BufferedWriter(
+        new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+    long rows = readOnlyTransaction.execute(status -> {
+      try (Stream<T> stream = query.get()) {
+        if (format == ExportFormat.CSV) {
+          writeCsvLine(writer, header);
+        }
+
+        long count = 0;
+        Iterator<T> iterator = stream.iterator();
+        while (iterator.hasNext()) {
+          T row = iterator.next();
+          if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, columns.apply(row));
+          } else {
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+          }
+
+          if (++count % FLUSH_INTERVAL == 0) {
+            writer.flush();
+          }
+        }
+
+        writer.flush();
+        return count;
+      } catch (IOException e) {
+        logger.error("{}: Export aborted: {}", operation, e.getMessage());
+        throw new UncheckedIOException(e);
+      }
+    });
+
+    logger.info("{}: Exported {} rows as {}.", operation, rows, format);
+  }
+
+  private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writer.write(escapeCsv(values[i]));
+    }
+    writer.write("\r\n");
+  }
+
+  /**
+   * Quotes the value when needed. Text starting with a character a spreadsheet would read as a
+   * formula is prefixed with {@code '} so it opens as plain text; numbers are left as they are.
+   */
+  private static String escapeCsv(Object value) {
+    if (value == null) {
+      return "";
+    }
+
+    String text = value.toString();
+    if (value instanceof CharSequence && !text.isEmpty()
+        && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+      text = "'" + text;
+    }
+    if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0
+        && text.indexOf('\r') < 0) {
+      return text;
+    }
+
+    return '"' + text.replace("\"", "\"\"") + '"';
+  }
+}
@@ -0,0 +1,23 @@
+package com.progresso.backend.datagen;
+
+import java.util.List;
+
+/**
+ * Who was generated and what they can access, so callers can log in and issue authorized
+ * requests against the synthetic data.
+ */
+public record GeneratedDataset(
+    String password,
+    String adminUsername,
+    List<Member> projectManagers,
+    List<Member> teamMembers,
+    int teams,
+    int projects) {
+
+  public record Member(long id, String username, List<Long> projectIds, List<Long> teamIds) {
+  }
+
+  public int users() {
+    return 1 + projectManagers.size() + teamMembers.size();
+  }
+}
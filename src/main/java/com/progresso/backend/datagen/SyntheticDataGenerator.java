@@ -0,0 +1,554 @@
+package com.progresso.backend.datagen;
+
+import com.progresso.backend.enumeration.Priority;
+import com.progresso.backend.enumeration.Role;
+import com.progresso.backend.enumeration.Status;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Writes a synthetic dataset through batched JDBC inserts with explicit ids. Every entity draws
+ * from its own random stream derived from the seed, so chunks are inserted in parallel and the
+ * rows never depend on scheduling or on the number of threads.
+ */
+public class SyntheticDataGenerator {
+
+  private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+  public static final String ADMIN_USERNAME = "a.superuser.am1@progresso.com";
+
+  private static final String INSERT_USER = "INSERT INTO user (id, first_name, last_name, "
+      + "birth_date, phone_number, street_address, city, state_province_region, country, "
+      + "zip_code, email, username, password, role, active, token_version) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_TEAM = "INSERT INTO team (id, name, active) "
+      + "VALUES (?, ?, ?)";
+  private static final String INSERT_MEMBERSHIP = "INSERT INTO user_teams "
+      + "(team_members_id, teams_id) VALUES (?, ?)";
+  private static final String INSERT_PROJECT = "INSERT INTO project (id, name, description, "
+      + "priority, start_date, due_date, completion_date, status, project_manager_id, team_id) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_TASK = "INSERT INTO task (id, name, description, priority, "
+      + "start_date, due_date, completion_date, status, project_id, assigned_user_id) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_PROJECT_STATS = "INSERT INTO project_stats (project_id, "
+      + "total_tasks, in_progress_tasks, completed_tasks, cancelled_tasks, last_activity) "
+      + "VALUES (?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_COMMENT = "INSERT INTO comment (id, content, "
+      + "creation_date, user_id, project_id, parent_id, modified, modified_date, deleted) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final long USER_STREAM = 1;
+  private static final long MEMBERSHIP_STREAM = 2;
+  private static final long TEAM_STREAM = 3;
+  private static final long PROJECT_LAYOUT_STREAM = 4;
+  private static final long PROJECT_STREAM = 5;
+  private static final long TASK_STREAM = 6;
+  private static final long COMMENT_STREAM = 7;
+  private static final long NAME_STREAM = 8;
+
+  private static final String[] FIRST_NAMES = {"James", "Sophia", "William", "Olivia",
+      "Benjamin", "Isabella", "Lucas", "Mia", "Henry", "Charlotte", "Alexander", "Amelia",
+      "Daniel", "Harper", "Matthew", "Evelyn", "David", "Abigail", "John", "Emily", "Michael",
+      "Chiara", "Marco", "Giulia", "Luca", "Sara", "Paolo", "Elena", "Andrea", "Francesca"};
+  private static final String[] LAST_NAMES = {"Smith", "Johnson", "Brown", "Davis", "Miller",
+      "Wilson", "Moore", "Taylor", "Anderson", "Thomas", "Jackson", "White", "Harris", "Martin",
+      "Thompson", "Garcia", "Martinez", "Robinson", "Doe", "Stone", "Rossi", "Russo", "Ferrari",
+      "Esposito", "Bianchi", "Romano", "Colombo", "Ricci", "Marino", "Greco"};
+  private static final String[] CITIES = {"Milan", "Rome", "Turin", "Naples", "Bologna",
+      "London", "Berlin", "Madrid", "Paris", "Vienna"};
+  private static final String[] COUNTRIES = {"Italy", "Italy", "Italy", "Italy", "Italy",
+      "United Kingdom", "Germany", "Spain", "France", "Austria"};
+  private static final String[] TEAM_NAMES = {"Platform", "Mobile", "Payments", "Data",
+      "Design", "Infrastructure", "Growth", "Security", "Support", "Research"};
+
+  private static final Status[] PROJECT_STATUSES = {Status.NOT_STARTED, Status.IN_PROGRESS,
+      Status.COMPLETED, Status.CANCELLED};
+  private static final int[] PROJECT_STATUS_WEIGHTS = {15, 55, 25, 5};
+  private static final Status[] TASK_STATUSES = {Status.IN_PROGRESS, Status.COMPLETED,
+      Status.CANCELLED};
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PasswordEncoder passwordEncoder;
+  private final LocalDate today;
+
+  public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+    this(jdbcTemplate, passwordEncoder, LocalDate.now());
+  }
+
+  SyntheticDataGenerator(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+      LocalDate today) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.passwordEncoder = passwordEncoder;
+    this.today = today;
+  }
+
+  public GeneratedDataset generate(SyntheticDataSpec spec) {
+    long started = System.currentTimeMillis();
+    Layout layout = new Layout(spec);
+    String passwordHash = passwordEncoder.encode(spec.password());
+
+    ExecutorService executor = Executors.newFixedThreadPool(spec.threads());
+    try {
+      inParallel(executor, rowChunks(spec.users(), spec.batchSize()),
+          (from, to) -> insertUsers(spec, layout, passwordHash, from, to));
+      inParallel(executor, rowChunks(spec.teams(), spec.batchSize()),
+          (from, to) -> insertTeams(spec, from, to));
+      inParallel(executor, rowChunks(layout.members, spec.batchSize()),
+          (from, to) -> insertMemberships(spec, layout, from, to));
+      inParallel(executor, rowChunks(spec.projects(), spec.batchSize()),
+          (from, to) -> insertProjects(spec, layout, from, to));
+      inParallel(executor, projectChunks(layout.taskOffsets, spec.batchSize()),
+          (from, to) -> insertTasks(spec, layout, from, to));
+      inParallel(executor, projectChunks(layout.commentOffsets, spec.batchSize()),
+          (from, to) -> insertComments(spec, layout, from, to));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    restartIdentities(spec);
+
+    logger.info("generate: Generated {} users, {} teams, {} projects, {} tasks, {} comments "
+            + "with seed {} in {} ms.", spec.users(), spec.teams(), spec.projects(), spec.tasks(),
+        spec.comments(), spec.seed(), System.currentTimeMillis() - started);
+
+    return layout.toDataset(spec.password());
+  }
+
+  private void insertUsers(SyntheticDataSpec spec, Layout layout, String passwordHash, int from,
+      int to) {
+    List<Object[]> rows = new ArrayList<>(to - from);
+    for (int u = from; u < to; u++) {
+      long id = u + 1L;
+      SplittableRandom random = random(spec.seed(), USER_STREAM, u);
+      String[] name = layout.name(id);
+      Role role = layout.role(id);
+      int place = random.nextInt(CITIES.length);
+      rows.add(new Object[]{id, name[0], name[1],
+          today.minusYears(20 + random.nextInt(45)).minusDays(random.nextInt(365)),
+          String.format("+39 3%02d %07d", random.nextInt(100), random.nextInt(10_000_000)),
+          "Via " + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " "
+              + (1 + random.nextInt(200)),
+          CITIES[place], CITIES[place], COUNTRIES[place],
+          String.format("%05d", random.nextInt(100_000)),
+          (name[0] + "." + name[1] + "." + id + "@example.com").toLowerCase(Locale.ROOT),
+          layout.username(id), passwordHash, role.name(), true, 0});
+    }
+    jdbcTemplate.batchUpdate(INSERT_USER, rows);
+  }
+
+  private void insertTeams(SyntheticDataSpec spec, int from, int to) {
+    List<Object[]> rows = new ArrayList<>(to - from);
+    for (int t = from; t < to; t++) {
+      SplittableRandom random = random(spec.seed(), TEAM_STREAM, t);
+      rows.add(new Object[]{t + 1L,
+          TEAM_NAMES[random.nextInt(TEAM_NAMES.length)] + " Team " + (t + 1),
+          random.nextInt(10) > 0});
+    }
+    jdbcTemplate.batchUpdate(INSERT_TEAM, rows);
+  }
+
+  private void insertMemberships(SyntheticDataSpec spec, Layout layout, int from, int to) {
+    List<Object[]> rows = new ArrayList<>();
+    for (int m = from; m < to; m++) {
+      for (int team : layout.memberTeams[m]) {
+        rows.add(new Object[]{layout.firstMemberId + m, team + 1L});
+      }
+    }
+    insert(INSERT_MEMBERSHIP, rows, spec.batchSize());
+  }
+
+  private void insertProjects(SyntheticDataSpec spec, Layout layout, int from, int to) {
+    List<Object[]> rows = new ArrayList<>(to - from);
+    for (int p = from; p < to; p++) {
+      SplittableRandom random = random(spec.seed(), PROJECT_STREAM, p);
+      LocalDate start = layout.projectStart(today, p);
+      LocalDate due = start.plusDays(layout.projectSpan[p]);
+      Status status = layout.projectStatus[p];
+      rows.add(new Object[]{p + 1L, "Project " + (p + 1),
+          "Synthetic project " + (p + 1) + " with " + layout.tasks(p) + " tasks",
+          pick(random, Priority.values(), new int[]{30, 20, 50}).name(), start, due,
+          Status.COMPLETED.equals(status) ? start.plusDays(random.nextInt(
+              layout.projectSpan[p] + 1)) : null,
+          status.name(), layout.projectManager[p],
+          layout.projectTeam[p] < 0 ? null : layout.projectTeam[p] + 1L});
+    }
+    jdbcTemplate.batchUpdate(INSERT_PROJECT, rows);
+  }
+
+  private void insertTasks(SyntheticDataSpec spec, Layout layout, int from, int to) {
+    List<Object[]> rows = new ArrayList<>(spec.batchSize());
+    List<Object[]> stats = new ArrayList<>(to - from);
+    for (int p = from; p < to; p++) {
+      SplittableRandom random = random(spec.seed(), TASK_STREAM, p);
+      long[] members = layout.projectMembers(p);
+      LocalDate projectStart = layout.projectStart(today, p);
+      long inProgress = 0;
+      long completed = 0;
+      long cancelled = 0;
+      for (long id = layout.taskOffsets[p] + 1; id <= layout.taskOffsets[p + 1]; id++) {
+        Status status = taskStatus(random, layout.projectStatus[p]);
+        LocalDate start = projectStart.plusDays(random.nextInt(layout.projectSpan[p] + 1));
+        LocalDate due = start.plusDays(1 + random.nextInt(30));
+        rows.add(new Object[]{id, "Task " + id, "Synthetic task " + id,
+            pick(random, Priority.values(), new int[]{25, 25, 50}).name(), start, due,
+            Status.COMPLETED.equals(status) ? start.plusDays(random.nextInt(31)) : null,
+            status.name(), p + 1L,
+            members.length == 0 ? null : members[random.nextInt(members.length)]});
+        inProgress += Status.IN_PROGRESS.equals(status) ? 1 : 0;
+        completed += Status.COMPLETED.equals(status) ? 1 : 0;
+        cancelled += Status.CANCELLED.equals(status) ? 1 : 0;
+        if (rows.size() == spec.batchSize()) {
+          jdbcTemplate.batchUpdate(INSERT_TASK, rows);
+          rows.clear();
+        }
+      }
+      stats.add(new Object[]{p + 1L, layout.tasks(p), inProgress, completed, cancelled,
+          projectStart.atStartOfDay()});
+    }
+    if (!rows.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_TASK, rows);
+    }
+    insert(INSERT_PROJECT_STATS, stats, spec.batchSize());
+  }
+
+  /**
+   * Comments of a project are written in id order and only reply to an earlier comment of the
+   * same project, so parents always exist before their replies within a chunk.
+   */
+  private void insertComments(SyntheticDataSpec spec, Layout layout, int from, int to) {
+    List<Object[]> rows = new ArrayList<>(spec.batchSize());
+    for (int p = from; p < to; p++) {
+      SplittableRandom random = random(spec.seed(), COMMENT_STREAM, p);
+      long[] members = layout.projectMembers(p);
+      long firstId = layout.commentOffsets[p] + 1;
+      int[] depth = new int[(int) (layout.commentOffsets[p + 1] - layout.commentOffsets[p])];
+      LocalDateTime created = layout.projectStart(today, p).atTime(9, 0);
+      for (int k = 0; k < depth.length; k++) {
+        Long parentId = null;
+        if (k > 0 && random.nextInt(100) < 45) {
+          int parent = k - 1 - random.nextInt(Math.min(k, 8));
+          if (depth[parent] < spec.maxReplyDepth()) {
+            parentId = firstId + parent;
+            depth[k] = depth[parent] + 1;
+          }
+        }
+        created = created.plusMinutes(1 + random.nextInt(720));
+        long author = members.length == 0 || random.nextInt(5) == 0
+            ? layout.projectManager[p] : members[random.nextInt(members.length)];
+        boolean modified = random.nextInt(10) == 0;
+        long id = firstId + k;
+        rows.add(new Object[]{id, "Synthetic comment " + id, created, author, p + 1L, parentId,
+            modified, modified ? created.plusMinutes(1 + random.nextInt(120)) : null,
+            random.nextInt(50) == 0});
+        if (rows.size() == spec.batchSize()) {
+          jdbcTemplate.batchUpdate(INSERT_COMMENT, rows);
+          rows.clear();
+        }
+      }
+    }
+    if (!rows.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_COMMENT, rows);
+    }
+  }
+
+  private void insert(String sql, List<Object[]> rows, int batchSize) {
+    for (int from = 0; from < rows.size(); from += batchSize) {
+      jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + batchSize)));
+    }
+  }
+
+  private void restartIdentities(SyntheticDataSpec spec) {
+    String product = jdbcTemplate.execute(
+        (Connection connection) -> connection.getMetaData().getDatabaseProductName());
+    if (!"H2".equals(product)) {
+      return;
+    }
+
+    jdbcTemplate.execute("ALTER TABLE user ALTER COLUMN id RESTART WITH " + (spec.users() + 1));
+    jdbcTemplate.execute("ALTER TABLE team ALTER COLUMN id RESTART WITH " + (spec.teams() + 1));
+    jdbcTemplate.execute("ALTER TABLE project ALTER COLUMN id RESTART WITH "
+        + (spec.projects() + 1));
+    jdbcTemplate.execute("ALTER TABLE task ALTER COLUMN id RESTART WITH " + (spec.tasks() + 1));
+    jdbcTemplate.execute("ALTER TABLE comment ALTER COLUMN id RESTART WITH "
+        + (spec.comments() + 1));
+  }
+
+  private static void inParallel(ExecutorService executor, List<int[]> chunks,
+      ChunkWriter writer) {
+    List<Future<?>> futures = new ArrayList<>(chunks.size());
+    for (int[] chunk : chunks) {
+      futures.add(executor.submit(() -> writer.write(chunk[0], chunk[1])));
+    }
+    try {
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Synthetic data generation was interrupted.", e);
+    } catch (ExecutionException e) {
+      futures.forEach(future -> future.cancel(true));
+      logger.error("inParallel: Synthetic data chunk failed: {}", e.getCause().getMessage());
+      throw new IllegalStateException("Synthetic data generation failed.", e.getCause());
+    }
+  }
+
+  private static List<int[]> rowChunks(int count, int chunkSize) {
+    List<int[]> chunks = new ArrayList<>();
+    for (int from = 0; from < count; from += chunkSize) {
+      chunks.add(new int[]{from, Math.min(count, from + chunkSize)});
+    }
+    return chunks;
+  }
+
+  /**
+   * Groups consecutive projects until they hold at least {@code rowsPerChunk} rows, so busy
+   * projects do not serialize the whole insert behind one thread.
+   */
+  private static List<int[]> projectChunks(long[] offsets, int rowsPerChunk) {
+    List<int[]> chunks = new ArrayList<>();
+    int from = 0;
+    for (int p = 0; p < offsets.length - 1; p++) {
+      if (offsets[p + 1] - offsets[from] >= rowsPerChunk || p == offsets.length - 2) {
+        chunks.add(new int[]{from, p + 1});
+        from = p + 1;
+      }
+    }
+    return chunks;
+  }
+
+  private static Status taskStatus(SplittableRandom random, Status projectStatus) {
+    return switch (projectStatus) {
+      case COMPLETED -> pick(random, TASK_STATUSES, new int[]{0, 95, 5});
+      case CANCELLED -> pick(random, TASK_STATUSES, new int[]{0, 40, 60});
+      case NOT_STARTED -> pick(random, TASK_STATUSES, new int[]{95, 0, 5});
+      default -> pick(random, TASK_STATUSES, new int[]{55, 40, 5});
+    };
+  }
+
+  private static <T> T pick(SplittableRandom random, T[] values, int[] weights) {
+    int roll = random.nextInt(Arrays.stream(weights).sum());
+    for (int i = 0; i < values.length; i++) {
+      roll -= weights[i];
+      if (roll < 0) {
+        return values[i];
+      }
+    }
+    return values[values.length - 1];
+  }
+
+  /**
+   * Picks a small index more often than a large one, so a few teams end up much bigger than the
+   * rest.
+   */
+  private static int skewed(SplittableRandom random, int bound) {
+    double u = random.nextDouble();
+    return Math.min(bound - 1, (int) (bound * u * u));
+  }
+
+  static SplittableRandom random(long seed, long stream, long index) {
+    return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + stream * 0xBF58476D1CE4E5B9L
+        + index * 0x94D049BB133111EBL);
+  }
+
+  @FunctionalInterface
+  private interface ChunkWriter {
+
+    void write(int from, int to);
+  }
+
+  /**
+   * Ids, roles, memberships and per-project row ranges, computed up front so every insert chunk
+   * can be generated independently.
+   */
+  private static final class Layout {
+
+    private final long seed;
+    private final int managers;
+    private final int members;
+    private final long firstManagerId = 2;
+    private final long firstMemberId;
+    private final int[][] memberTeams;
+    private final long[][] teamMembers;
+    private final long[] projectManager;
+    private final int[] projectTeam;
+    private final Status[] projectStatus;
+    private final int[] projectAge;
+    private final int[] projectSpan;
+    private final long[] taskOffsets;
+    private final long[] commentOffsets;
+
+    private Layout(SyntheticDataSpec spec) {
+      seed = spec.seed();
+      managers = Math.max(1, (spec.users() - 1) / 8);
+      members = spec.users() - 1 - managers;
+      firstMemberId = firstManagerId + managers;
+
+      memberTeams = new int[members][];
+      int[] teamSizes = new int[spec.teams()];
+      for (int m = 0; m < members; m++) {
+        SplittableRandom random = random(spec.seed(), MEMBERSHIP_STREAM, m);
+        int joined = pick(random, new Integer[]{1, 2, 3}, new int[]{80, 17, 3});
+        int[] teams = new int[joined];
+        int count = 0;
+        for (int attempt = 0; count < joined && attempt < joined * 4; attempt++) {
+          int team = random.nextBoolean() ? skewed(random, spec.teams())
+              : random.nextInt(spec.teams());
+          if (Arrays.stream(teams, 0, count).noneMatch(joinedTeam -> joinedTeam == team)) {
+            teams[count++] = team;
+          }
+        }
+        memberTeams[m] = Arrays.copyOf(teams, count);
+        for (int team : memberTeams[m]) {
+          teamSizes[team]++;
+        }
+      }
+      teamMembers = new long[spec.teams()][];
+      for (int t = 0; t < spec.teams(); t++) {
+        teamMembers[t] = new long[teamSizes[t]];
+        teamSizes[t] = 0;
+      }
+      for (int m = 0; m < members; m++) {
+        for (int team : memberTeams[m]) {
+          teamMembers[team][teamSizes[team]++] = firstMemberId + m;
+        }
+      }
+
+      projectManager = new long[spec.projects()];
+      projectTeam = new int[spec.projects()];
+      projectStatus = new Status[spec.projects()];
+      projectAge = new int[spec.projects()];
+      projectSpan = new int[spec.projects()];
+      double[] taskWeights = new double[spec.projects()];
+      double[] commentWeights = new double[spec.projects()];
+      for (int p = 0; p < spec.projects(); p++) {
+        SplittableRandom random = random(spec.seed(), PROJECT_LAYOUT_STREAM, p);
+        projectManager[p] = firstManagerId + random.nextInt(managers);
+        projectTeam[p] = random.nextInt(10) == 0 ? -1 : random.nextInt(spec.teams());
+        projectStatus[p] = pick(random, PROJECT_STATUSES, PROJECT_STATUS_WEIGHTS);
+        projectAge[p] = Status.NOT_STARTED.equals(projectStatus[p])
+            ? -random.nextInt(60) : random.nextInt(720);
+        projectSpan[p] = 14 + random.nextInt(300);
+        // Log-normal weights give a long tail of very busy projects.
+        taskWeights[p] = Math.exp(1.2 * gaussian(random));
+        commentWeights[p] = taskWeights[p] * Math.exp(0.5 * gaussian(random));
+      }
+      taskOffsets = offsets(taskWeights, spec.tasks());
+      commentOffsets = offsets(commentWeights, spec.comments());
+    }
+
+    private Role role(long id) {
+      if (id == 1) {
+        return Role.ADMIN;
+      }
+      return id < firstMemberId ? Role.PROJECTMANAGER : Role.TEAMMEMBER;
+    }
+
+    private String[] name(long id) {
+      if (id == 1) {
+        return new String[]{"Admin", "Superuser"};
+      }
+      SplittableRandom random = random(seed, NAME_STREAM, id);
+      return new String[]{FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+          LAST_NAMES[random.nextInt(LAST_NAMES.length)]};
+    }
+
+    private String username(long id) {
+      if (id == 1) {
+        return ADMIN_USERNAME;
+      }
+      String[] name = name(id);
+      String suffix = id < firstMemberId ? "pm" + (id - firstManagerId + 1)
+          : "tm" + (id - firstMemberId + 1);
+      return (name[0].charAt(0) + "." + name[1] + "." + suffix + "@progresso.com")
+          .toLowerCase(Locale.ROOT);
+    }
+
+    private long[] projectMembers(int p) {
+      return projectTeam[p] < 0 ? new long[0] : teamMembers[projectTeam[p]];
+    }
+
+    private LocalDate projectStart(LocalDate today, int p) {
+      return today.minusDays(projectAge[p]);
+    }
+
+    private long tasks(int p) {
+      return taskOffsets[p + 1] - taskOffsets[p];
+    }
+
+    private GeneratedDataset toDataset(String password) {
+      List<List<Long>> projectsByManager = new ArrayList<>();
+      List<List<Long>> projectsByTeam = new ArrayList<>();
+      for (int i = 0; i < managers; i++) {
+        projectsByManager.add(new ArrayList<>());
+      }
+      for (int t = 0; t < teamMembers.length; t++) {
+        projectsByTeam.add(new ArrayList<>());
+      }
+      for (int p = 0; p < projectManager.length; p++) {
+        projectsByManager.get((int) (projectManager[p] - firstManagerId)).add(p + 1L);
+        if (projectTeam[p] >= 0) {
+          projectsByTeam.get(projectTeam[p]).add(p + 1L);
+        }
+      }
+
+      List<GeneratedDataset.Member> managerList = new ArrayList<>(managers);
+      for (int i = 0; i < managers; i++) {
+        List<Long> teams = new ArrayList<>();
+        for (long project : projectsByManager.get(i)) {
+          int team = projectTeam[(int) project - 1];
+          if (team >= 0 && !teams.contains(team + 1L)) {
+            teams.add(team + 1L);
+          }
+        }
+        managerList.add(new GeneratedDataset.Member(firstManagerId + i,
+            username(firstManagerId + i),
+            projectsByManager.get(i), teams));
+      }
+      List<GeneratedDataset.Member> memberList = new ArrayList<>(members);
+      for (int m = 0; m < members; m++) {
+        List<Long> teams = new ArrayList<>();
+        List<Long> projects = new ArrayList<>();
+        for (int team : memberTeams[m]) {
+          teams.add(team + 1L);
+          projects.addAll(projectsByTeam.get(team));
+        }
+        memberList.add(new GeneratedDataset.Member(firstMemberId + m,
+            username(firstMemberId + m), projects, teams));
+      }
+      return new GeneratedDataset(password, ADMIN_USERNAME, managerList, memberList,
+          teamMembers.length, projectManager.length);
+    }
+
+    private static long[] offsets(double[] weights, long total) {
+      double sum = Arrays.stream(weights).sum();
+      long[] offsets = new long[weights.length + 1];
+      double cumulative = 0;
+      for (int i = 0; i < weights.length; i++) {
+        cumulative += weights[i];
+        offsets[i + 1] = i == weights.length - 1 ? total : Math.round(total * cumulative / sum);
+      }
+      return offsets;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+      double u = 1.0 - random.nextDouble();
+      return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * random.nextDouble());
+    }
+  }
+}
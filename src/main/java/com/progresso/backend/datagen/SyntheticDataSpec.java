@@ -0,0 +1,32 @@
+package com.progresso.backend.datagen;
+
+/**
+ * Size and shape of a synthetic dataset. The same spec and seed always produce the same rows,
+ * regardless of {@code threads}.
+ */
+public record SyntheticDataSpec(
+    int users,
+    int teams,
+    int projects,
+    int tasks,
+    int comments,
+    long seed,
+    int batchSize,
+    int threads,
+    int maxReplyDepth,
+    String password) {
+
+  public SyntheticDataSpec {
+    if (users < 2 || teams < 1 || projects < 1 || tasks < 0 || comments < 0) {
+      throw new IllegalArgumentException(
+          "Synthetic data needs at least 2 users, 1 team and 1 project.");
+    }
+    if (batchSize < 1 || threads < 1 || maxReplyDepth < 0) {
+      throw new IllegalArgumentException(
+          "Batch size and threads must be positive, reply depth cannot be negative.");
+    }
+    if (password == null || password.isBlank()) {
+      throw new IllegalArgumentException("Synthetic data password cannot be empty.");
+    }
+  }
+}
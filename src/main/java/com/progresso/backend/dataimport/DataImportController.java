@@ -0,0 +1,43 @@
+package com.progresso.backend.dataimport;
+
+import com.progresso.backend.dto.ImportJobDto;
+import java.net.URI;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/import")
+public class DataImportController {
+
+  private final DataImportService dataImportService;
+
+  @Autowired
+  public DataImportController(DataImportService dataImportService) {
+    this.dataImportService = dataImportService;
+  }
+
+  @PreAuthorize("hasAuthority('ADMIN')")
+  @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<ImportJobDto> submitImport(
+      @RequestPart("file") MultipartFile file,
+      @RequestParam(required = false) String format) {
+    ImportJobDto job = dataImportService.submitImport(file, format);
+    return ResponseEntity.accepted().location(URI.create("/api/import/" + job.getId())).body(job);
+  }
+
+  @PreAuthorize("hasAuthority('ADMIN')")
+  @GetMapping("/{jobId}")
+  public ResponseEntity<ImportJobDto> getImportJob(@PathVariable String jobId) {
+    return ResponseEntity.ok(dataImportService.getImportJob(jobId));
+  }
+}
@@ -0,0 +1,85 @@
+package com.progresso.backend.dataimport;
+
+import com.progresso.backend.dto.ImportJobDto;
+import com.progresso.backend.exception.ImportJobNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import org.apache.commons.lang3.EnumUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+public class DataImportService {
+
+  private static final Logger logger = LoggerFactory.getLogger(DataImportService.class);
+
+  private final ImportJobRegistry importJobRegistry;
+  private final ImportJobRunner importJobRunner;
+  private final int maxReportedErrors;
+
+  @Autowired
+  public DataImportService(ImportJobRegistry importJobRegistry, ImportJobRunner importJobRunner,
+      @Value("${import.max-reported-errors:1000}") int maxReportedErrors) {
+    this.importJobRegistry = importJobRegistry;
+    this.importJobRunner = importJobRunner;
+    this.maxReportedErrors = maxReportedErrors;
+  }
+
+  public ImportJobDto submitImport(MultipartFile file, String format) {
+    if (file == null || file.isEmpty()) {
+      logger.error("submitImport: Import file cannot be empty.");
+      throw new IllegalArgumentException("Import file cannot be empty.");
+    }
+
+    ImportFormat importFormat = format != null
+        ? EnumUtils.getEnumIgnoreCase(ImportFormat.class, format)
+        : detectFormat(file.getOriginalFilename());
+
+    if (importFormat == null) {
+      logger.error("submitImport: Invalid import format: {}", format);
+      throw new IllegalArgumentException("Invalid import format: " + format);
+    }
+
+    Path tempFile;
+    try {
+      tempFile = Files.createTempFile("progresso-import-", "." + importFormat.name().toLowerCase());
+      file.transferTo(tempFile);
+    } catch (IOException e) {
+      logger.error("submitImport: Could not store import file: {}", e.getMessage());
+      throw new UncheckedIOException(e);
+    }
+
+    ImportJob job = new ImportJob(UUID.randomUUID().toString(), importFormat,
+        file.getOriginalFilename(), maxReportedErrors);
+    importJobRegistry.register(job);
+    importJobRunner.run(job, tempFile);
+
+    logger.info("submitImport: Queued import job {} for file {}", job.getId(),
+        file.getOriginalFilename());
+    return job.toDto();
+  }
+
+  public ImportJobDto getImportJob(String jobId) {
+    return importJobRegistry.find(jobId)
+        .map(ImportJob::toDto)
+        .orElseThrow(() -> {
+          logger.error("getImportJob: Import job not found with ID: {}", jobId);
+          return new ImportJobNotFoundException("Import job not found.");
+        });
+  }
+
+  private ImportFormat detectFormat(String fileName) {
+    if (fileName != null && fileName.toLowerCase().endsWith(".csv")) {
+      return ImportFormat.CSV;
+    }
+
+    return ImportFormat.NDJSON;
+  }
+}
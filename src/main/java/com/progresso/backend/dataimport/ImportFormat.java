@@ -0,0 +1,5 @@
+package com.progresso.backend.dataimport;
+
+public enum ImportFormat {
+  NDJSON, CSV
+}
@@ -0,0 +1,107 @@
+package com.progresso.backend.dataimport;
+
+import com.progresso.backend.dto.ImportCredentialDto;
+import com.progresso.backend.dto.ImportJobDto;
+import com.progresso.backend.dto.ImportRowErrorDto;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ImportJob {
+
+  private final String id;
+  private final ImportFormat format;
+  private final String fileName;
+  private final int maxErrors;
+  private final LocalDateTime submittedAt = LocalDateTime.now();
+  private final AtomicLong processedRows = new AtomicLong();
+  private final AtomicLong importedRows = new AtomicLong();
+  private final AtomicLong failedRows = new AtomicLong();
+  private final Queue<ImportRowErrorDto> errors = new ConcurrentLinkedQueue<>();
+  private final Queue<ImportCredentialDto> credentials = new ConcurrentLinkedQueue<>();
+
+  private volatile ImportStatus status = ImportStatus.QUEUED;
+  private volatile String failureReason;
+  private volatile LocalDateTime startedAt;
+  private volatile LocalDateTime finishedAt;
+
+  public ImportJob(String id, ImportFormat format, String fileName, int maxErrors) {
+    this.id = id;
+    this.format = format;
+    this.fileName = fileName;
+    this.maxErrors = maxErrors;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public ImportFormat getFormat() {
+    return format;
+  }
+
+  public ImportStatus getStatus() {
+    return status;
+  }
+
+  public LocalDateTime getFinishedAt() {
+    return finishedAt;
+  }
+
+  public void start() {
+    startedAt = LocalDateTime.now();
+    status = ImportStatus.RUNNING;
+  }
+
+  public void recordImported(long rows) {
+    processedRows.addAndGet(rows);
+    importedRows.addAndGet(rows);
+  }
+
+  public void recordFailed(ImportRow row, String message) {
+    processedRows.incrementAndGet();
+    if (failedRows.incrementAndGet() <= maxErrors) {
+      errors.add(new ImportRowErrorDto(row.getRowNumber(), row.getType(), row.getRef(), message));
+    }
+  }
+
+  /**
+   * Keeps the credentials of users whose rows were committed, for the administrator to hand
+   * out. They are dropped with the job.
+   */
+  public void recordCredentials(List<ImportCredentialDto> issued) {
+    credentials.addAll(issued);
+  }
+
+  public void finish() {
+    finishedAt = LocalDateTime.now();
+    status = failedRows.get() > 0 ? ImportStatus.COMPLETED_WITH_ERRORS : ImportStatus.COMPLETED;
+  }
+
+  public void fail(String reason) {
+    failureReason = reason;
+    finishedAt = LocalDateTime.now();
+    status = ImportStatus.FAILED;
+  }
+
+  public ImportJobDto toDto() {
+    ImportJobDto dto = new ImportJobDto();
+    dto.setId(id);
+    dto.setStatus(status.toString());
+    dto.setFormat(format.toString());
+    dto.setFileName(fileName);
+    dto.setProcessedRows(processedRows.get());
+    dto.setImportedRows(importedRows.get());
+    dto.setFailedRows(failedRows.get());
+    dto.setErrors(new ArrayList<>(errors));
+    dto.setCredentials(new ArrayList<>(credentials));
+    dto.setFailureReason(failureReason);
+    dto.setSubmittedAt(submittedAt);
+    dto.setStartedAt(startedAt);
+    dto.setFinishedAt(finishedAt);
+    return dto;
+  }
+}
@@ -0,0 +1,36 @@
+package com.progresso.backend.dataimport;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportJobRegistry {
+
+  private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+  private final Duration retention;
+
+  public ImportJobRegistry(@Value("${import.job-retention-hours:24}") long retentionHours) {
+    this.retention = Duration.ofHours(retentionHours);
+  }
+
+  public void register(ImportJob job) {
+    jobs.put(job.getId(), job);
+  }
+
+  public Optional<ImportJob> find(String jobId) {
+    return Optional.ofNullable(jobs.get(jobId));
+  }
+
+  @Scheduled(fixedDelayString = "${import.job-cleanup-interval-ms:3600000}")
+  public void evictFinishedJobs() {
+    LocalDateTime threshold = LocalDateTime.now().minus(retention);
+    jobs.values().removeIf(job -> job.getFinishedAt() != null
+        && job.getFinishedAt().isBefore(threshold));
+  }
+}
@@ -0,0 +1,142 @@
+package com.progresso.backend.dataimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.progresso.backend.dto.ImportCredentialDto;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ImportJobRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(ImportJobRunner.class);
+
+  private final ImportRowProcessor importRowProcessor;
+  private final ObjectMapper objectMapper;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  @Autowired
+  public ImportJobRunner(ImportRowProcessor importRowProcessor, ObjectMapper objectMapper,
+      EntityManager entityManager, PlatformTransactionManager transactionManager,
+      @Value("${import.chunk-size:200}") int chunkSize) {
+    this.importRowProcessor = importRowProcessor;
+    this.objectMapper = objectMapper;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+  }
+
+  @Async
+  public void run(ImportJob job, Path file) {
+    job.start();
+    logger.info("run: Import job {} started.", job.getId());
+
+    Map<String, Long> refs = new HashMap<>();
+    try (ImportRowReader reader = ImportRowReader.open(file, job.getFormat(), objectMapper)) {
+      List<ImportRow> chunk = new ArrayList<>(chunkSize);
+      Set<String> knownRefs = new HashSet<>();
+
+      while (reader.hasNext()) {
+        ImportRow row = reader.next();
+        try {
+          importRowProcessor.validate(row, knownRefs);
+          String refKey = importRowProcessor.refKeyOf(row);
+          if (refKey != null) {
+            knownRefs.add(refKey);
+          }
+          chunk.add(row);
+        } catch (RuntimeException e) {
+          job.recordFailed(row, e.getMessage());
+        }
+
+        if (chunk.size() >= chunkSize) {
+          processChunk(job, chunk, refs);
+          chunk.clear();
+          knownRefs = new HashSet<>(refs.keySet());
+        }
+      }
+
+      processChunk(job, chunk, refs);
+      job.finish();
+      logger.info("run: Import job {} finished with status {}.", job.getId(), job.getStatus());
+    } catch (IOException | RuntimeException e) {
+      logger.error("run: Import job {} failed: {}", job.getId(), e.getMessage());
+      job.fail(e.getMessage());
+    } finally {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        logger.warn("run: Could not delete import file {}: {}", file, e.getMessage());
+      }
+    }
+  }
+
+  private void processChunk(ImportJob job, List<ImportRow> chunk, Map<String, Long> refs) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+
+    Map<String, Long> created = new HashMap<>();
+    List<ImportCredentialDto> issued = new ArrayList<>();
+    try {
+      transactionTemplate.executeWithoutResult(status -> chunk.forEach(
+          row -> applyRow(row, refs, created, issued)));
+      refs.putAll(created);
+      job.recordCredentials(issued);
+      job.recordImported(chunk.size());
+      return;
+    } catch (RuntimeException e) {
+      logger.warn("processChunk: Chunk of {} rows rolled back, retrying row by row: {}",
+          chunk.size(), e.getMessage());
+    }
+
+    for (ImportRow row : chunk) {
+      Map<String, Long> createdByRow = new HashMap<>();
+      List<ImportCredentialDto> issuedByRow = new ArrayList<>();
+      try {
+        transactionTemplate.executeWithoutResult(
+            status -> applyRow(row, refs, createdByRow, issuedByRow));
+        refs.putAll(createdByRow);
+        job.recordCredentials(issuedByRow);
+        job.recordImported(1);
+      } catch (RuntimeException e) {
+        job.recordFailed(row, e.getMessage());
+      }
+    }
+  }
+
+  private void applyRow(ImportRow row, Map<String, Long> refs, Map<String, Long> created,
+      List<ImportCredentialDto> issued) {
+    ImportedRow imported = importRowProcessor.apply(row, key -> created.containsKey(key)
+        ? created.get(key) : refs.get(key));
+
+    String refKey = importRowProcessor.refKeyOf(row);
+    if (refKey != null) {
+      created.put(refKey, imported.id());
+    }
+    if (imported.temporaryPassword() != null) {
+      issued.add(new ImportCredentialDto(row.getRowNumber(), row.getRef(), imported.username(),
+          imported.temporaryPassword()));
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+}
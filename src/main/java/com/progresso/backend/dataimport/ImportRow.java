@@ -0,0 +1,18 @@
+package com.progresso.backend.dataimport;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ImportRow {
+
+  private long rowNumber;
+
+  private String type;
+
+  private String ref;
+
+  private Map<String, Object> fields;
+}
@@ -0,0 +1,199 @@
+package com.progresso.backend.dataimport;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.progresso.backend.authsubsystem.AuthService;
+import com.progresso.backend.dto.ProjectDto;
+import com.progresso.backend.dto.TaskDto;
+import com.progresso.backend.dto.TeamDto;
+import com.progresso.backend.dto.UserRegistrationDto;
+import com.progresso.backend.dto.UserResponseDto;
+import com.progresso.backend.enumeration.Role;
+import com.progresso.backend.projectmanagement.ProjectService;
+import com.progresso.backend.taskmanagement.TaskService;
+import com.progresso.backend.teammanagement.TeamService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.EnumUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportRowProcessor {
+
+  private static final Long PLACEHOLDER_ID = -1L;
+
+  private final AuthService authService;
+  private final TeamService teamService;
+  private final ProjectService projectService;
+  private final TaskService taskService;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+
+  @Autowired
+  public ImportRowProcessor(AuthService authService, TeamService teamService,
+      ProjectService projectService, TaskService taskService, ObjectMapper objectMapper,
+      Validator validator) {
+    this.authService = authService;
+    this.teamService = teamService;
+    this.projectService = projectService;
+    this.taskService = taskService;
+    this.objectMapper = objectMapper.copy()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    this.validator = validator;
+  }
+
+  public String refKeyOf(ImportRow row) {
+    return row.getRef() != null ? refKey(parseType(row), row.getRef()) : null;
+  }
+
+  public void validate(ImportRow row, Set<String> knownRefs) {
+    ImportRowType type = parseType(row);
+
+    if (row.getRef() != null && knownRefs.contains(refKey(type, row.getRef()))) {
+      throw new IllegalArgumentException("Duplicate reference: " + row.getRef());
+    }
+
+    prepare(type, row, key -> knownRefs.contains(key) ? PLACEHOLDER_ID : null);
+  }
+
+  public ImportedRow apply(ImportRow row, Function<String, Long> refLookup) {
+    return prepare(parseType(row), row, refLookup).get();
+  }
+
+  private static String refKey(ImportRowType type, String ref) {
+    return type + ":" + ref;
+  }
+
+  private ImportRowType parseType(ImportRow row) {
+    ImportRowType type = row.getType() != null
+        ? EnumUtils.getEnumIgnoreCase(ImportRowType.class, row.getType()) : null;
+
+    if (type == null) {
+      throw new IllegalArgumentException("Invalid row type: " + row.getType());
+    }
+
+    return type;
+  }
+
+  private Supplier<ImportedRow> prepare(ImportRowType type, ImportRow row,
+      Function<String, Long> refLookup) {
+    Map<String, Object> fields = row.getFields();
+
+    return switch (type) {
+      case USER -> {
+        UserRegistrationDto dto = convert(fields, UserRegistrationDto.class);
+        check(dto);
+        if (!EnumUtils.isValidEnumIgnoreCase(Role.class, dto.getRole())) {
+          throw new IllegalArgumentException("Invalid role: " + dto.getRole());
+        }
+        yield () -> {
+          UserResponseDto user = authService.registerUser(dto);
+          return new ImportedRow(user.getId(), user.getUsername(), user.getTemporaryPassword());
+        };
+      }
+      case TEAM -> {
+        TeamDto dto = new TeamDto();
+        Object name = fields.get("name");
+        dto.setName(name != null ? name.toString() : null);
+        check(dto);
+        yield () -> ImportedRow.of(teamService.createTeam(dto.getName()).getId());
+      }
+      case TEAM_MEMBERS -> {
+        Long teamId = resolve(ImportRowType.TEAM, required(fields, "team"), refLookup);
+        List<Long> userIds = new ArrayList<>();
+        for (Object member : toList(required(fields, "members"))) {
+          userIds.add(resolve(ImportRowType.USER, member, refLookup));
+        }
+        if (userIds.isEmpty()) {
+          throw new IllegalArgumentException("Members cannot be empty.");
+        }
+        yield () -> ImportedRow.of(teamService.addMembersToTeam(teamId, userIds).getId());
+      }
+      case PROJECT -> {
+        ProjectDto dto = convert(fields, ProjectDto.class);
+        dto.setProjectManagerId(
+            resolve(ImportRowType.USER, required(fields, "projectManager"), refLookup));
+        Long teamId = fields.containsKey("team")
+            ? resolve(ImportRowType.TEAM, fields.get("team"), refLookup) : null;
+        check(dto);
+        yield () -> {
+          Long projectId = projectService.createProject(dto).getId();
+          if (teamId != null) {
+            projectService.assignTeamToProject(projectId, teamId);
+          }
+          return ImportedRow.of(projectId);
+        };
+      }
+      case TASK -> {
+        TaskDto dto = convert(fields, TaskDto.class);
+        dto.setProjectId(resolve(ImportRowType.PROJECT, required(fields, "project"), refLookup));
+        Long userId = resolve(ImportRowType.USER, required(fields, "assignedUser"), refLookup);
+        check(dto);
+        yield () -> ImportedRow.of(taskService.createAndAssignTask(dto, userId).getId());
+      }
+    };
+  }
+
+  private <T> T convert(Map<String, Object> fields, Class<T> type) {
+    try {
+      return objectMapper.convertValue(fields, type);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid field value: " + e.getMessage(), e);
+    }
+  }
+
+  private void check(Object dto) {
+    Set<ConstraintViolation<Object>> violations = validator.validate(dto);
+    if (!violations.isEmpty()) {
+      throw new IllegalArgumentException(violations.stream()
+          .map(ConstraintViolation::getMessage)
+          .sorted()
+          .collect(Collectors.joining("\n")));
+    }
+  }
+
+  private Long resolve(ImportRowType type, Object value, Function<String, Long> refLookup) {
+    if (value instanceof Number number) {
+      return number.longValue();
+    }
+
+    String text = value.toString().trim();
+    try {
+      return Long.valueOf(text);
+    } catch (NumberFormatException e) {
+      Long id = refLookup.apply(refKey(type, text));
+      if (id == null) {
+        throw new IllegalArgumentException("Unknown " + type + " reference: " + text);
+      }
+      return id;
+    }
+  }
+
+  private static Object required(Map<String, Object> fields, String name) {
+    Object value = fields.get(name);
+    if (value == null) {
+      throw new IllegalArgumentException("Missing required field: " + name);
+    }
+    return value;
+  }
+
+  private static List<?> toList(Object value) {
+    if (value instanceof List<?> list) {
+      return list;
+    }
+
+    return Arrays.stream(value.toString().split(";"))
+        .map(String::trim)
+        .filter(item -> !item.isEmpty())
+        .toList();
+  }
+}
@@ -0,0 +1,87 @@
+package com.progresso.backend.dataimport;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+public class ImportRowReader implements Iterator<ImportRow>, Closeable {
+
+  private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+  private final Reader reader;
+  private final MappingIterator<Map<String, Object>> iterator;
+  private long rowNumber;
+
+  private ImportRowReader(Reader reader, MappingIterator<Map<String, Object>> iterator) {
+    this.reader = reader;
+    this.iterator = iterator;
+  }
+
+  public static ImportRowReader open(Path file, ImportFormat format, ObjectMapper objectMapper)
+      throws IOException {
+    Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+    try {
+      MappingIterator<Map<String, Object>> iterator = format == ImportFormat.CSV
+          ? CSV_MAPPER.readerFor(Map.class).with(CsvSchema.emptySchema().withHeader())
+          .readValues(reader)
+          : objectMapper.readerFor(Map.class).readValues(reader);
+      return new ImportRowReader(reader, iterator);
+    } catch (IOException e) {
+      reader.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      return iterator.hasNextValue();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public ImportRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    Map<String, Object> values;
+    try {
+      values = iterator.nextValue();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    Map<String, Object> fields = new LinkedHashMap<>();
+    values.forEach((key, value) -> {
+      if (value != null && !(value instanceof String text && text.isBlank())) {
+        fields.put(key, value);
+      }
+    });
+
+    Object type = fields.remove("type");
+    Object ref = fields.remove("ref");
+    return new ImportRow(++rowNumber, type != null ? type.toString() : null,
+        ref != null ? ref.toString() : null, fields);
+  }
+
+  @Override
+  public void close() throws IOException {
+    iterator.close();
+    reader.close();
+  }
+}
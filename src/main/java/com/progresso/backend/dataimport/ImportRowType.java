@@ -0,0 +1,5 @@
+package com.progresso.backend.dataimport;
+
+public enum ImportRowType {
+  USER, TEAM, TEAM_MEMBERS, PROJECT, TASK
+}
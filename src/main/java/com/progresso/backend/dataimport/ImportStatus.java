@@ -0,0 +1,5 @@
+package com.progresso.backend.dataimport;
+
+public enum ImportStatus {
+  QUEUED, RUNNING, COMPLETED, COMPLETED_WITH_ERRORS, FAILED
+}
@@ -0,0 +1,12 @@
+package com.progresso.backend.dataimport;
+
+/**
+ * What applying an import row created. User rows also carry the generated username and
+ * temporary password, since the import is the only place the administrator can see them.
+ */
+public record ImportedRow(Long id, String username, String temporaryPassword) {
+
+  static ImportedRow of(Long id) {
+    return new ImportedRow(id, null, null);
+  }
+}
@@ -0,0 +1,78 @@
+package com.progresso.backend.datasource;
+
+import java.time.Clock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Writes a heartbeat on the primary and compares it with the value each replica has applied.
+ * Replicas whose lag exceeds {@code maxLagMillis}, or that cannot be queried, stop receiving
+ * reads until they catch up.
+ */
+public class ReplicaLagMonitor implements DisposableBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+  static final String WRITE_HEARTBEAT = "UPDATE replica_heartbeat SET beat_millis = ? WHERE id = 1";
+  static final String READ_HEARTBEAT = "SELECT beat_millis FROM replica_heartbeat WHERE id = 1";
+
+  private final ReplicaRoutingDataSource router;
+  private final long maxLagMillis;
+  private final boolean heartbeat;
+  private final Clock clock;
+
+  public ReplicaLagMonitor(ReplicaRoutingDataSource router, long maxLagMillis, boolean heartbeat,
+      Clock clock) {
+    this.router = router;
+    this.maxLagMillis = maxLagMillis;
+    this.heartbeat = heartbeat;
+    this.clock = clock;
+  }
+
+  ReplicaRoutingDataSource getRouter() {
+    return router;
+  }
+
+  @Scheduled(fixedDelayString = "${datasource.replicas.check-interval-ms:1000}")
+  public void check() {
+    long now = clock.millis();
+    if (heartbeat) {
+      try {
+        new JdbcTemplate(router.getPrimary()).update(WRITE_HEARTBEAT, now);
+      } catch (Exception e) {
+        logger.warn("check: Unable to write heartbeat on primary: {}", e.getMessage());
+      }
+    }
+
+    for (ReplicaRoutingDataSource.Replica replica : router.getReplicas()) {
+      boolean wasAvailable = replica.isAvailable();
+      try {
+        long lag = heartbeat ? lagOf(replica, now) : 0L;
+        replica.update(lag <= maxLagMillis, lag);
+      } catch (Exception e) {
+        replica.update(false, -1);
+        logger.warn("check: Replica {} is unreachable: {}", replica.getName(), e.getMessage());
+      }
+      if (wasAvailable != replica.isAvailable()) {
+        logger.info("check: Replica {} is now {}", replica.getName(),
+            replica.isAvailable() ? "serving reads" : "excluded from reads");
+      }
+    }
+
+    router.evictExpiredStickiness();
+  }
+
+  private long lagOf(ReplicaRoutingDataSource.Replica replica, long now) {
+    Long beat = new JdbcTemplate(replica.getDataSource()).queryForObject(READ_HEARTBEAT,
+        Long.class);
+    return beat == null ? Long.MAX_VALUE : Math.max(0L, now - beat);
+  }
+
+  @Override
+  public void destroy() {
+    router.close();
+  }
+}
@@ -0,0 +1,89 @@
+package com.progresso.backend.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+/**
+ * Replaces the auto-configured data source with one that routes read-only transactions to the
+ * replicas listed in {@code datasource.replicas.urls}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+      DataSourceProperties properties,
+      Environment environment,
+      MeterRegistry meterRegistry,
+      @Value("${datasource.replicas.urls}") List<String> urls,
+      @Value("${datasource.replicas.username:}") String username,
+      @Value("${datasource.replicas.password:}") String password,
+      @Value("${datasource.replicas.pool-size:10}") int poolSize,
+      @Value("${datasource.replicas.max-lag-ms:2000}") long maxLagMillis,
+      @Value("${datasource.replicas.sticky-ms:5000}") long stickyMillis,
+      @Value("${datasource.replicas.heartbeat:true}") boolean heartbeat) {
+    MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+    HikariDataSource primary = properties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+    primary.setPoolName("primary");
+    primary.setMetricsTrackerFactory(metrics);
+
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    for (String url : urls) {
+      if (!StringUtils.hasText(url)) {
+        continue;
+      }
+      String name = "replica-" + (replicas.size() + 1);
+      HikariDataSource replica = new HikariDataSource();
+      replica.setPoolName(name);
+      replica.setJdbcUrl(url.trim());
+      replica.setDriverClassName(properties.determineDriverClassName());
+      replica.setUsername(StringUtils.hasText(username) ? username : properties.getUsername());
+      replica.setPassword(StringUtils.hasText(password) ? password : properties.getPassword());
+      replica.setMaximumPoolSize(poolSize);
+      replica.setReadOnly(true);
+      replica.setMetricsTrackerFactory(metrics);
+      replicas.put(name, replica);
+    }
+    if (replicas.isEmpty()) {
+      throw new IllegalStateException(
+          "datasource.replicas.enabled is true but datasource.replicas.urls is empty");
+    }
+
+    Clock clock = Clock.systemUTC();
+    ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(primary, replicas,
+        stickyMillis, clock, meterRegistry);
+    return new ReplicaLagMonitor(router, maxLagMillis, heartbeat, clock);
+  }
+
+  /**
+   * The lazy proxy defers fetching a connection until the first statement, by which point the
+   * transaction's read-only flag is known to the router.
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaLagMonitor replicaLagMonitor) {
+    return new LazyConnectionDataSourceProxy(replicaLagMonitor.getRouter());
+  }
+}
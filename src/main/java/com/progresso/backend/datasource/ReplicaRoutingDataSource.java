@@ -0,0 +1,244 @@
+package com.progresso.backend.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.Closeable;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to a replica whose lag is within bounds and everything else to
+ * the primary. After a user commits a transaction that changed rows (an INSERT, UPDATE or
+ * DELETE reached the primary), that user's reads stay on the primary for {@code stickyMillis}
+ * so they always see their own changes. Read-write transactions that only select do not count.
+ *
+ * <p>Must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the connection has
+ * to be fetched after the transaction's read-only flag is published.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+  static final String PRIMARY = "primary";
+
+  private static final Set<QueryType> WRITES =
+      EnumSet.of(QueryType.INSERT, QueryType.UPDATE, QueryType.DELETE);
+
+  private final DataSource primary;
+  private final List<Replica> replicas;
+  private final long stickyMillis;
+  private final Clock clock;
+  private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final Map<String, Counter> routed = new HashMap<>();
+
+  public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+      long stickyMillis, Clock clock, MeterRegistry meterRegistry) {
+    this.primary = primary;
+    this.stickyMillis = stickyMillis;
+    this.clock = clock;
+
+    DataSource trackedPrimary = ProxyDataSourceBuilder.create(PRIMARY, primary)
+        .afterQuery((execInfo, queries) -> {
+          if (execInfo.isSuccess() && queries.stream()
+              .anyMatch(query -> WRITES.contains(QueryUtils.getQueryType(query.getQuery())))) {
+            rememberWrite();
+          }
+        })
+        .build();
+
+    Map<Object, Object> targets = new LinkedHashMap<>();
+    targets.put(PRIMARY, trackedPrimary);
+    List<Replica> replicaList = new ArrayList<>();
+    replicas.forEach((name, dataSource) -> {
+      Replica replica = new Replica(name, dataSource);
+      replicaList.add(replica);
+      targets.put(name, dataSource);
+      Gauge.builder("datasource.replica.lag", replica, r -> r.lagMillis)
+          .tag("replica", name)
+          .baseUnit("milliseconds")
+          .register(meterRegistry);
+      Gauge.builder("datasource.replica.available", replica, r -> r.available ? 1 : 0)
+          .tag("replica", name)
+          .register(meterRegistry);
+    });
+    this.replicas = List.copyOf(replicaList);
+
+    for (String reason : List.of("write", "sticky", "no-replica", "replica")) {
+      routed.put(reason, Counter.builder("datasource.routing")
+          .tag("target", "replica".equals(reason) ? "replica" : PRIMARY)
+          .tag("reason", reason)
+          .register(meterRegistry));
+    }
+
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(trackedPrimary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      routed.get("write").increment();
+      return PRIMARY;
+    }
+
+    String username = currentUsername();
+    if (username != null && isSticky(username)) {
+      routed.get("sticky").increment();
+      return PRIMARY;
+    }
+
+    Replica replica = nextAvailableReplica();
+    if (replica == null) {
+      routed.get("no-replica").increment();
+      return PRIMARY;
+    }
+
+    routed.get("replica").increment();
+    return replica.name;
+  }
+
+  DataSource getPrimary() {
+    return primary;
+  }
+
+  List<Replica> getReplicas() {
+    return replicas;
+  }
+
+  void markWrite(String username) {
+    stickyUntil.put(username, clock.millis() + stickyMillis);
+  }
+
+  void evictExpiredStickiness() {
+    long now = clock.millis();
+    stickyUntil.values().removeIf(until -> until <= now);
+  }
+
+  private boolean isSticky(String username) {
+    Long until = stickyUntil.get(username);
+    return until != null && until > clock.millis();
+  }
+
+  /**
+   * Starts the read-your-writes window after a statement changed rows on the primary: once the
+   * surrounding transaction commits, or right away for an auto-committed statement. Registers
+   * at most once per transaction.
+   */
+  private void rememberWrite() {
+    String username = currentUsername();
+    if (username == null) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      markWrite(username);
+      return;
+    }
+    if (TransactionSynchronizationManager.hasResource(this)) {
+      return;
+    }
+
+    TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        markWrite(username);
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(ReplicaRoutingDataSource.this);
+      }
+    });
+  }
+
+  private Replica nextAvailableReplica() {
+    int size = replicas.size();
+    int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+      if (replica.available) {
+        return replica;
+      }
+    }
+    return null;
+  }
+
+  private static String currentUsername() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !authentication.isAuthenticated()
+        || authentication instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+    return authentication.getName();
+  }
+
+  @Override
+  public void close() {
+    List<DataSource> dataSources = new ArrayList<>();
+    dataSources.add(primary);
+    replicas.forEach(replica -> dataSources.add(replica.dataSource));
+    for (DataSource dataSource : dataSources) {
+      if (dataSource instanceof AutoCloseable closeable) {
+        try {
+          closeable.close();
+        } catch (Exception e) {
+          logger.warn("close: Failed to close data source: {}", e.getMessage());
+        }
+      }
+    }
+  }
+
+  static final class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean available;
+    private volatile long lagMillis = -1;
+
+    private Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    DataSource getDataSource() {
+      return dataSource;
+    }
+
+    boolean isAvailable() {
+      return available;
+    }
+
+    void update(boolean available, long lagMillis) {
+      this.available = available;
+      this.lagMillis = lagMillis;
+    }
+  }
+}
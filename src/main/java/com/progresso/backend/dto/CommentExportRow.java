@@ -0,0 +1,30 @@
+package com.progresso.backend.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentExportRow {
+
+  private Long id;
+
+  private Long projectId;
+
+  private Long parentId;
+
+  private String username;
+
+  private String content;
+
+  private LocalDateTime creationDate;
+
+  private Boolean modified;
+
+  private LocalDateTime modifiedDate;
+
+  private Boolean deleted;
+}
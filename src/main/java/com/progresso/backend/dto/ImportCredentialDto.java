@@ -0,0 +1,19 @@
+package com.progresso.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportCredentialDto {
+
+  private Long row;
+
+  private String ref;
+
+  private String username;
+
+  private String temporaryPassword;
+}
@@ -0,0 +1,35 @@
+package com.progresso.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class ImportJobDto {
+
+  private String id;
+
+  private String status;
+
+  private String format;
+
+  private String fileName;
+
+  private Long processedRows;
+
+  private Long importedRows;
+
+  private Long failedRows;
+
+  private List<ImportRowErrorDto> errors;
+
+  private List<ImportCredentialDto> credentials;
+
+  private String failureReason;
+
+  private LocalDateTime submittedAt;
+
+  private LocalDateTime startedAt;
+
+  private LocalDateTime finishedAt;
+}
@@ -0,0 +1,10 @@
+package com.progresso.backend.dto;
+
+import com.progresso.backend.enumeration.Priority;
+
+public interface PriorityCount {
+
+  Priority getPriority();
+
+  Long getTotal();
+}
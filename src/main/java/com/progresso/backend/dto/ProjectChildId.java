@@ -0,0 +1,8 @@
+package com.progresso.backend.dto;
+
+public interface ProjectChildId {
+
+  Long getProjectId();
+
+  Long getId();
+}
@@ -0,0 +1,36 @@
+package com.progresso.backend.dto;
+
+import com.progresso.backend.enumeration.Priority;
+import com.progresso.backend.enumeration.Status;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectExportRow {
+
+  private Long id;
+
+  private String name;
+
+  private String description;
+
+  private Priority priority;
+
+  private Status status;
+
+  private LocalDate startDate;
+
+  private LocalDate dueDate;
+
+  private LocalDate completionDate;
+
+  private String projectManagerUsername;
+
+  private Long teamId;
+
+  private String teamName;
+}
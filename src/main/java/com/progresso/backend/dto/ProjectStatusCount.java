@@ -0,0 +1,12 @@
+package com.progresso.backend.dto;
+
+import com.progresso.backend.enumeration.Status;
+
+public interface ProjectStatusCount {
+
+  Long getProjectId();
+
+  Status getStatus();
+
+  Long getTotal();
+}
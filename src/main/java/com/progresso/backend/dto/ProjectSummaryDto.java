@@ -0,0 +1,31 @@
+package com.progresso.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSummaryDto {
+
+  private Long totalProjects;
+
+  private Map<String, Long> projectsByStatus;
+
+  private Map<String, Long> projectsByPriority;
+
+  private Long overdueProjects;
+
+  private Double averageCompletionPercentage;
+
+  private Long totalTasks;
+
+  private Map<String, Long> tasksByStatus;
+
+  private Long overdueTasks;
+
+  private LocalDateTime generatedAt;
+}
@@ -0,0 +1,10 @@
+package com.progresso.backend.dto;
+
+import com.progresso.backend.enumeration.Status;
+
+public interface StatusCount {
+
+  Status getStatus();
+
+  Long getTotal();
+}
@@ -0,0 +1,34 @@
+package com.progresso.backend.dto;
+
+import com.progresso.backend.enumeration.Priority;
+import com.progresso.backend.enumeration.Status;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskExportRow {
+
+  private Long id;
+
+  private Long projectId;
+
+  private String name;
+
+  private String description;
+
+  private Priority priority;
+
+  private Status status;
+
+  private LocalDate startDate;
+
+  private LocalDate dueDate;
+
+  private LocalDate completionDate;
+
+  private String assignedUsername;
+}
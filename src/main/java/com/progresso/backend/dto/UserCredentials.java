@@ -0,0 +1,16 @@
+package com.progresso.backend.dto;
+
+import com.progresso.backend.enumeration.Role;
+
+public interface UserCredentials {
+
+  String getUsername();
+
+  String getPassword();
+
+  Role getRole();
+
+  Boolean getActive();
+
+  Integer getTokenVersion();
+}
@@ -1,5 +1,6 @@
 package com.progresso.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -20,13 +21,23 @@ public class UserResponseDto {
 
   private String role;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private List<Long> assignedTaskIds;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private List<Long> managedProjectIds;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private List<Long> teamIds;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private List<Long> commentIds;
 
   private Boolean active;
+
+  /**
+   * Generated password, returned once by the registration and never logged.
+   */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String temporaryPassword;
 }
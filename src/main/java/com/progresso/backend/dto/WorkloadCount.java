@@ -0,0 +1,22 @@
+package com.progresso.backend.dto;
+
+public interface WorkloadCount {
+
+  Long getUserId();
+
+  String getUsername();
+
+  String getFirstName();
+
+  String getLastName();
+
+  Long getOpenTasks();
+
+  Long getOverdueTasks();
+
+  Long getTasksDueNext7Days();
+
+  Long getTasksDueNext30Days();
+
+  Long getCompletedTasks();
+}
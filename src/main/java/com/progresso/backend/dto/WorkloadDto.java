@@ -0,0 +1,31 @@
+package com.progresso.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkloadDto {
+
+  private Long userId;
+
+  private String username;
+
+  private String firstName;
+
+  private String lastName;
+
+  private Long openTasks;
+
+  private Long overdueTasks;
+
+  private Long tasksDueNext7Days;
+
+  private Long tasksDueNext30Days;
+
+  private Long completedTasks;
+
+  private Double completionRate;
+}
@@ -0,0 +1,39 @@
+package com.progresso.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "project_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStats {
+
+  @Id
+  private Long projectId;
+
+  @Column(nullable = false)
+  private long totalTasks;
+
+  @Column(nullable = false)
+  private long inProgressTasks;
+
+  @Column(nullable = false)
+  private long completedTasks;
+
+  @Column(nullable = false)
+  private long cancelledTasks;
+
+  private LocalDateTime lastActivity;
+
+  public ProjectStats(Long projectId) {
+    this.projectId = projectId;
+  }
+}
@@ -1,5 +1,6 @@
 package com.progresso.backend.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,8 +14,12 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,9 +36,11 @@ public class Team {
   private Boolean active;
 
   @ManyToMany(mappedBy = "teams", fetch = FetchType.EAGER)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team-members")
   private List<User> teamMembers;
 
   @OneToMany(mappedBy = "team", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team-projects")
   private List<Project> projects;
 
   @Override
@@ -1,6 +1,7 @@
 package com.progresso.backend.entity;
 
 import com.progresso.backend.enumeration.Role;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -17,8 +18,15 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-by-username")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -58,6 +66,7 @@ public class User {
   @Column(nullable = false, unique = true)
   private String email;
 
+  @NaturalId(mutable = true)
   @Column(nullable = false, unique = true)
   private String username;
 
@@ -69,12 +78,14 @@ public class User {
   private Role role;
 
   @ManyToMany(fetch = FetchType.EAGER)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-teams")
   private List<Team> teams;
 
   @OneToMany(mappedBy = "assignedUser", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
   List<Task> assignedTasks;
 
   @OneToMany(mappedBy = "projectManager", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-managed-projects")
   private List<Project> managedProjects;
 
   @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
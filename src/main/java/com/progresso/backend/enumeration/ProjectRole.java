@@ -0,0 +1,5 @@
+package com.progresso.backend.enumeration;
+
+public enum ProjectRole {
+  MANAGER, MEMBER, NONE
+}
@@ -0,0 +1,15 @@
+package com.progresso.backend.exception;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+  private final long retryAfterSeconds;
+
+  public PasswordHashingUnavailableException(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
@@ -0,0 +1,60 @@
+package com.progresso.backend.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Tags every log event of a request with {@value #MDC_KEY}: the caller's {@value #HEADER} when it
+ * is a plausible id, otherwise a new one. The id is echoed in the response.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "X-Request-Id";
+  public static final String MDC_KEY = "requestId";
+
+  private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+  private static final String ATTRIBUTE = CorrelationIdFilter.class.getName() + ".id";
+
+  @Override
+  protected void doFilterInternal(@NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response, @NonNull FilterChain chain)
+      throws ServletException, IOException {
+    String id = (String) request.getAttribute(ATTRIBUTE);
+    if (id == null) {
+      id = request.getHeader(HEADER);
+      if (id == null || !VALID_ID.matcher(id).matches()) {
+        id = UUID.randomUUID().toString();
+      }
+      request.setAttribute(ATTRIBUTE, id);
+      response.setHeader(HEADER, id);
+    }
+
+    MDC.put(MDC_KEY, id);
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      MDC.remove(MDC_KEY);
+    }
+  }
+
+  /**
+   * Async dispatches (login, imports) log under the id of the original request.
+   */
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+}
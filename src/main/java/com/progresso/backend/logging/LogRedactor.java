@@ -0,0 +1,47 @@
+package com.progresso.backend.logging;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Masks credentials in rendered log lines: values of password, secret and token keys, bearer
+ * tokens, JWTs and BCrypt hashes. Applied to the final output, so it also covers arguments,
+ * exception messages and third-party loggers.
+ */
+public final class LogRedactor {
+
+  static final String MASK = "***";
+
+  private static final String KEY = "(?i:password|passwd|secret|token)";
+  private static final String VALUE = "[^\\s\",)}\\\\]+";
+
+  /**
+   * Group 1 is kept. Free-text keys need a word boundary so that method prefixes such as
+   * {@code changePassword:} survive; quoted (JSON) and {@code key=value} keys may be compounds.
+   */
+  private static final List<Pattern> SECRETS = List.of(
+      Pattern.compile("(\\b" + KEY + "\\s*:\\s*)" + VALUE),
+      Pattern.compile("(\\\\?\"[A-Za-z_]*" + KEY + "\\\\?\"\\s*:\\s*\\\\?\")" + VALUE),
+      Pattern.compile("([A-Za-z_]*" + KEY + "=)" + VALUE),
+      Pattern.compile("(?i)(bearer\\s+)[A-Za-z0-9._~+/-]+=*"),
+      Pattern.compile("()eyJ[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]*"),
+      Pattern.compile("()\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}"));
+
+  private LogRedactor() {
+  }
+
+  /**
+   * @return the line itself when there was nothing to mask
+   */
+  public static String redact(String line) {
+    String redacted = line;
+    for (Pattern secret : SECRETS) {
+      Matcher matcher = secret.matcher(redacted);
+      if (matcher.find()) {
+        redacted = matcher.replaceAll("$1" + MASK);
+      }
+    }
+    return redacted;
+  }
+}
@@ -0,0 +1,97 @@
+package com.progresso.backend.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Marker;
+
+/**
+ * Keeps one in N INFO events of chosen methods, identified by the repo's
+ * {@code "method: message"} convention. Rules are {@code logger#method=N}, comma-separated;
+ * other levels and methods are never sampled. Deciding happens before the event is built, so a
+ * dropped message costs one counter increment.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+  private String rules = "";
+  private Map<String, List<Sampler>> samplers = Map.of();
+
+  public void setRules(String rules) {
+    this.rules = rules;
+  }
+
+  @Override
+  public void start() {
+    Map<String, List<Sampler>> parsed = new HashMap<>();
+    for (String rule : rules.split(",")) {
+      String trimmed = rule.trim();
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+      int hash = trimmed.indexOf('#');
+      int equals = trimmed.indexOf('=', hash);
+      if (hash <= 0 || equals <= hash + 1) {
+        addError("Invalid log sampling rule: " + trimmed + ".");
+        continue;
+      }
+      int oneIn;
+      try {
+        oneIn = Integer.parseInt(trimmed.substring(equals + 1).trim());
+      } catch (NumberFormatException e) {
+        addError("Invalid log sampling rate in rule: " + trimmed + ".");
+        continue;
+      }
+      if (oneIn > 1) {
+        parsed.computeIfAbsent(trimmed.substring(0, hash), logger -> new ArrayList<>())
+            .add(new Sampler(trimmed.substring(hash + 1, equals).trim(), oneIn));
+      }
+    }
+    samplers = parsed;
+    super.start();
+  }
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+      Object[] params, Throwable t) {
+    if (level != Level.INFO || format == null) {
+      return FilterReply.NEUTRAL;
+    }
+    List<Sampler> loggerSamplers = samplers.get(logger.getName());
+    if (loggerSamplers == null) {
+      return FilterReply.NEUTRAL;
+    }
+    for (Sampler sampler : loggerSamplers) {
+      if (sampler.matches(format)) {
+        return sampler.keep() ? FilterReply.NEUTRAL : FilterReply.DENY;
+      }
+    }
+    return FilterReply.NEUTRAL;
+  }
+
+  private static final class Sampler {
+
+    private final String method;
+    private final int oneIn;
+    private final AtomicLong seen = new AtomicLong();
+
+    Sampler(String method, int oneIn) {
+      this.method = method;
+      this.oneIn = oneIn;
+    }
+
+    boolean matches(String format) {
+      return format.length() > method.length() && format.charAt(method.length()) == ':'
+          && format.startsWith(method);
+    }
+
+    boolean keep() {
+      return seen.getAndIncrement() % oneIn == 0;
+    }
+  }
+}
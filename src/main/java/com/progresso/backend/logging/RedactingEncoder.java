@@ -0,0 +1,55 @@
+package com.progresso.backend.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.encoder.EncoderBase;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Passes the output of another encoder through {@link LogRedactor}. Used behind the async
+ * appender, so the masking runs on the logging thread rather than on request threads.
+ */
+public class RedactingEncoder extends EncoderBase<ILoggingEvent> {
+
+  private Encoder<ILoggingEvent> delegate;
+  private Charset charset = StandardCharsets.UTF_8;
+
+  public void setDelegate(Encoder<ILoggingEvent> delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Must match the delegate's charset.
+   */
+  public void setCharset(Charset charset) {
+    this.charset = charset;
+  }
+
+  @Override
+  public void start() {
+    if (delegate == null) {
+      addError("No delegate encoder set for " + getClass().getSimpleName() + ".");
+      return;
+    }
+    super.start();
+  }
+
+  @Override
+  public byte[] headerBytes() {
+    return delegate.headerBytes();
+  }
+
+  @Override
+  public byte[] encode(ILoggingEvent event) {
+    byte[] encoded = delegate.encode(event);
+    String line = new String(encoded, charset);
+    String redacted = LogRedactor.redact(line);
+    return redacted == line ? encoded : redacted.getBytes(charset);
+  }
+
+  @Override
+  public byte[] footerBytes() {
+    return delegate.footerBytes();
+  }
+}
@@ -0,0 +1,70 @@
+package com.progresso.backend.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+  static final String METRIC_NAME = "progresso.service";
+
+  private final MeterRegistry meterRegistry;
+
+  @Autowired
+  public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around("execution(public * *(..)) && ("
+      + "within(com.progresso.backend.projectmanagement.ProjectService) "
+      + "|| within(com.progresso.backend.taskmanagement.TaskService) "
+      + "|| within(com.progresso.backend.teammanagement.TeamService) "
+      + "|| within(com.progresso.backend.commentmanagement.CommentService) "
+      + "|| within(com.progresso.backend.usermanagement.UserService) "
+      + "|| within(com.progresso.backend.authsubsystem.AuthService))")
+  public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+    String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+    String method = joinPoint.getSignature().getName();
+    Timer.Sample sample = Timer.start(meterRegistry);
+
+    Object result;
+    try {
+      result = joinPoint.proceed();
+    } catch (Throwable e) {
+      stop(sample, service, method, e);
+      throw e;
+    }
+
+    if (result instanceof CompletionStage<?> stage) {
+      return stage.whenComplete((value, e) -> stop(sample, service, method, unwrap(e)));
+    }
+
+    stop(sample, service, method, null);
+    return result;
+  }
+
+  private void stop(Timer.Sample sample, String service, String method, Throwable error) {
+    sample.stop(Timer.builder(METRIC_NAME)
+        .description("Service method invocations")
+        .tag("service", service)
+        .tag("method", method)
+        .tag("outcome", error == null ? "success" : "error")
+        .tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+        .register(meterRegistry));
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    if (error instanceof CompletionException && error.getCause() != null) {
+      return error.getCause();
+    }
+    return error;
+  }
+}
@@ -0,0 +1,84 @@
+package com.progresso.backend.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "sql-budget", name = "enabled", matchIfMissing = true)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+  private static final Logger logger = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+  private final SqlStatementTracker tracker;
+  private final MeterRegistry meterRegistry;
+
+  @Autowired
+  public SqlBudgetFilter(SqlStatementTracker tracker, MeterRegistry meterRegistry) {
+    this.tracker = tracker;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    tracker.begin();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      record(request, tracker.end());
+    }
+  }
+
+  private void record(HttpServletRequest request, SqlStatementStats stats) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+    String method = request.getMethod();
+
+    DistributionSummary.builder("progresso.sql.statements")
+        .description("SQL statements issued per HTTP request")
+        .tag("method", method).tag("uri", uri)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(stats.getStatements());
+    DistributionSummary.builder("progresso.sql.rows")
+        .description("Rows read or written per HTTP request")
+        .tag("method", method).tag("uri", uri)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(stats.getRows());
+    Timer.builder("progresso.sql.time")
+        .description("Time spent executing SQL per HTTP request")
+        .tag("method", method).tag("uri", uri)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(stats.getElapsedMillis(), TimeUnit.MILLISECONDS);
+
+    if (tracker.isOverBudget(stats)) {
+      Counter.builder("progresso.sql.budget.exceeded")
+          .tag("method", method).tag("uri", uri)
+          .register(meterRegistry)
+          .increment();
+      logger.warn("record: {} {} issued {} SQL statements (budget {}), {} rows, {} ms.",
+          method, uri, stats.getStatements(), tracker.getMaxStatements(), stats.getRows(),
+          stats.getElapsedMillis());
+    }
+  }
+}
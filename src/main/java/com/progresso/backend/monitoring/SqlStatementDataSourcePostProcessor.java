@@ -0,0 +1,34 @@
+package com.progresso.backend.monitoring;
+
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "sql-budget", name = "enabled", matchIfMissing = true)
+public class SqlStatementDataSourcePostProcessor implements BeanPostProcessor {
+
+  private final ObjectProvider<SqlStatementTracker> trackerProvider;
+
+  public SqlStatementDataSourcePostProcessor(ObjectProvider<SqlStatementTracker> trackerProvider) {
+    this.trackerProvider = trackerProvider;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+      return bean;
+    }
+
+    SqlStatementTracker tracker = trackerProvider.getObject();
+    return ProxyDataSourceBuilder.create(beanName, dataSource)
+        .listener(tracker)
+        .methodListener(tracker)
+        .proxyResultSet()
+        .build();
+  }
+}
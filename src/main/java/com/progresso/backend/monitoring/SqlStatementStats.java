@@ -0,0 +1,33 @@
+package com.progresso.backend.monitoring;
+
+public class SqlStatementStats {
+
+  private int statements;
+  private long rows;
+  private long elapsedMillis;
+
+  public int getStatements() {
+    return statements;
+  }
+
+  public long getRows() {
+    return rows;
+  }
+
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  int incrementStatements(int count) {
+    statements += count;
+    return statements;
+  }
+
+  void addRows(long count) {
+    rows += count;
+  }
+
+  void addElapsedMillis(long millis) {
+    elapsedMillis += millis;
+  }
+}
@@ -0,0 +1,95 @@
+package com.progresso.backend.monitoring;
+
+import com.progresso.backend.exception.SqlBudgetExceededException;
+import java.sql.ResultSet;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SqlStatementTracker implements QueryExecutionListener, MethodExecutionListener {
+
+  private static final Logger logger = LoggerFactory.getLogger(SqlStatementTracker.class);
+
+  private final ThreadLocal<SqlStatementStats> current = new ThreadLocal<>();
+  private final int maxStatements;
+  private final boolean failFast;
+
+  @Autowired
+  public SqlStatementTracker(
+      @Value("${sql-budget.max-statements:100}") int maxStatements,
+      @Value("${sql-budget.fail-fast:false}") boolean failFast) {
+    this.maxStatements = maxStatements;
+    this.failFast = failFast;
+  }
+
+  public SqlStatementStats begin() {
+    SqlStatementStats stats = new SqlStatementStats();
+    current.set(stats);
+    return stats;
+  }
+
+  public SqlStatementStats end() {
+    SqlStatementStats stats = current.get();
+    current.remove();
+    return stats;
+  }
+
+  public boolean isOverBudget(SqlStatementStats stats) {
+    return stats.getStatements() > maxStatements;
+  }
+
+  public int getMaxStatements() {
+    return maxStatements;
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    SqlStatementStats stats = current.get();
+    if (stats == null) {
+      return;
+    }
+
+    int statements = stats.incrementStatements(Math.max(1, queryInfoList.size()));
+    if (failFast && statements > maxStatements) {
+      logger.error("beforeQuery: SQL statement budget of {} exceeded.", maxStatements);
+      throw new SqlBudgetExceededException(
+          "SQL statement budget of " + maxStatements + " exceeded.");
+    }
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    SqlStatementStats stats = current.get();
+    if (stats == null) {
+      return;
+    }
+
+    stats.addElapsedMillis(execInfo.getElapsedTime());
+    if (execInfo.getResult() instanceof Integer updated) {
+      stats.addRows(updated);
+    }
+  }
+
+  @Override
+  public void beforeMethod(MethodExecutionContext executionContext) {
+  }
+
+  @Override
+  public void afterMethod(MethodExecutionContext executionContext) {
+    SqlStatementStats stats = current.get();
+    if (stats != null && executionContext.getTarget() instanceof ResultSet
+        && "next".equals(executionContext.getMethod().getName())
+        && Boolean.TRUE.equals(executionContext.getResult())) {
+      stats.addRows(1);
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package com.progresso.backend.projectmanagement;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProjectChangedEvent {
+
+  private final Long projectId;
+}
@@ -1,7 +1,13 @@
 package com.progresso.backend.projectmanagement;
 
 import com.progresso.backend.dto.ProjectDto;
+import com.progresso.backend.dto.ProjectSummaryDto;
+import com.progresso.backend.enumeration.ProjectRole;
+import com.progresso.backend.security.ProjectAccess;
+import com.progresso.backend.versioning.ResourceType;
+import com.progresso.backend.versioning.ResourceVersionService;
 import jakarta.validation.Valid;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -23,31 +30,63 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProjectController {
 
   private final ProjectService projectService;
+  private final ProjectSummaryService projectSummaryService;
+  private final ResourceVersionService resourceVersionService;
+  private final ProjectFieldService projectFieldService;
 
   @Autowired
-  public ProjectController(ProjectService projectService) {
+  public ProjectController(ProjectService projectService,
+      ProjectSummaryService projectSummaryService,
+      ResourceVersionService resourceVersionService,
+      ProjectFieldService projectFieldService) {
     this.projectService = projectService;
+    this.projectSummaryService = projectSummaryService;
+    this.resourceVersionService = resourceVersionService;
+    this.projectFieldService = projectFieldService;
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or "
-      + "(hasAuthority('PROJECTMANAGER') "
-      + "and @projectService.isManagerOfProject(#projectId, authentication.name)) or "
-      + "(hasAuthority('TEAMMEMBER') "
-      + "and @projectService.isTeamMemberOfProject(#projectId, authentication.name))")
+  @ProjectAccess(project = "#projectId", roles = {ProjectRole.MANAGER, ProjectRole.MEMBER})
   @GetMapping("/{projectId}/completion")
   public ResponseEntity<Long> getProjectCompletionPercentage(@PathVariable Long projectId) {
     long percentage = projectService.getProjectCompletionPercentage(projectId);
     return ResponseEntity.ok(percentage);
   }
 
+  @PreAuthorize("hasAuthority('ADMIN')")
+  @GetMapping("/summary")
+  public ResponseEntity<ProjectSummaryDto> getProjectSummary() {
+    return ResponseEntity.ok(projectSummaryService.getSummary());
+  }
+
+  @PreAuthorize("hasAuthority('ADMIN') OR "
+      + "(hasAuthority('PROJECTMANAGER') and #managerUsername == authentication.name)")
+  @GetMapping("/summary/manager/{managerUsername}")
+  public ResponseEntity<ProjectSummaryDto> getProjectSummaryByManager(
+      @PathVariable String managerUsername) {
+    return ResponseEntity.ok(projectSummaryService.getSummaryByProjectManager(managerUsername));
+  }
+
+  @PreAuthorize("hasAuthority('ADMIN') OR "
+      + "(hasAuthority('TEAMMEMBER') and #teamMemberUsername == authentication.name)")
+  @GetMapping("/summary/teamMember/{teamMemberUsername}")
+  public ResponseEntity<ProjectSummaryDto> getProjectSummaryByTeamMember(
+      @PathVariable String teamMemberUsername) {
+    return ResponseEntity.ok(projectSummaryService.getSummaryByTeamMember(teamMemberUsername));
+  }
+
   @PreAuthorize("hasAuthority('ADMIN')")
   @GetMapping
-  public ResponseEntity<Page<ProjectDto>> getAllProjectsByFilters(
+  public ResponseEntity<Page<?>> getAllProjectsByFilters(
       @RequestParam(required = false) String status,
       @RequestParam(required = false) String priority,
       @RequestParam(required = false) String name,
+      @RequestParam(required = false) String fields,
       Pageable pageable
   ) {
+    if (fields != null) {
+      return ResponseEntity.ok(findProjectFields(fields,
+          ProjectFilter.of(null, null, status, priority, name), pageable));
+    }
     Page<ProjectDto> projects = projectService.findAllProjectsWithFilters(status, priority, name,
         pageable);
 
@@ -57,12 +96,17 @@ public class ProjectController {
   @PreAuthorize("hasAuthority('ADMIN') OR "
       + "(hasAuthority('PROJECTMANAGER') and #managerUsername == authentication.name)")
   @GetMapping("/manager/{managerUsername}")
-  public ResponseEntity<Page<ProjectDto>> getProjectsByManagerAndFilters(
+  public ResponseEntity<Page<?>> getProjectsByManagerAndFilters(
       @PathVariable String managerUsername,
       @RequestParam(required = false) String status,
       @RequestParam(required = false) String priority,
       @RequestParam(required = false) String name,
+      @RequestParam(required = false) String fields,
       Pageable pageable) {
+    if (fields != null) {
+      return ResponseEntity.ok(findProjectFields(fields,
+          ProjectFilter.of(managerUsername, null, status, priority, name), pageable));
+    }
     Page<ProjectDto> projects = projectService.findProjectsByProjectManagerUsernameAndFilters(
         managerUsername,
         status, priority, name, pageable);
@@ -72,12 +116,17 @@ public class ProjectController {
   @PreAuthorize("hasAuthority('ADMIN') OR "
       + "(hasAuthority('TEAMMEMBER') and #teamMemberUsername == authentication.name)")
   @GetMapping("/teamMember/{teamMemberUsername}")
-  public ResponseEntity<Page<ProjectDto>> getProjectsByTeamMemberUsernameAndFilters(
+  public ResponseEntity<Page<?>> getProjectsByTeamMemberUsernameAndFilters(
       @PathVariable String teamMemberUsername,
       @RequestParam(required = false) String status,
       @RequestParam(required = false) String priority,
       @RequestParam(required = false) String name,
+      @RequestParam(required = false) String fields,
       Pageable pageable) {
+    if (fields != null) {
+      return ResponseEntity.ok(findProjectFields(fields,
+          ProjectFilter.of(null, teamMemberUsername, status, priority, name), pageable));
+    }
     Page<ProjectDto> projects = projectService.findProjectsByTeamMemberUsernameAndFilters(
         teamMemberUsername, status, priority, name, pageable);
     return ResponseEntity.ok(projects);
@@ -85,23 +134,26 @@ public class ProjectController {
 
   @PreAuthorize("(hasAuthority('TEAMMEMBER') and #teamMemberUsername == authentication.name)")
   @GetMapping("/active/teamMember/{teamMemberUsername}")
-  public ResponseEntity<Page<ProjectDto>> getActiveProjectsByTeamMemberUsername(
+  public ResponseEntity<Page<?>> getActiveProjectsByTeamMemberUsername(
       @PathVariable String teamMemberUsername,
+      @RequestParam(required = false) String fields,
       Pageable pageable) {
+    if (fields != null) {
+      return ResponseEntity.ok(findProjectFields(fields,
+          ProjectFilter.active(teamMemberUsername), pageable));
+    }
     Page<ProjectDto> projects = projectService.findActiveProjectsByTeamMemberUsername(
         teamMemberUsername, pageable);
     return ResponseEntity.ok(projects);
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or "
-      + "(hasAuthority('PROJECTMANAGER') "
-      + "and @projectService.isManagerOfProject(#id, authentication.name)) or "
-      + "(hasAuthority('TEAMMEMBER') "
-      + "and @projectService.isTeamMemberOfProject(#id, authentication.name))")
+  @ProjectAccess(project = "#id", roles = {ProjectRole.MANAGER, ProjectRole.MEMBER})
   @GetMapping("/{id}")
-  public ResponseEntity<ProjectDto> getProjectById(@PathVariable Long id) {
-    ProjectDto project = projectService.findProjectById(id);
-    return ResponseEntity.ok(project);
+  public ResponseEntity<ProjectDto> getProjectById(@PathVariable Long id,
+      WebRequest webRequest) {
+    String etag = resourceVersionService.etag(ResourceType.PROJECT, id);
+    return resourceVersionService.conditionalGet(webRequest, etag,
+        () -> projectService.findProjectById(id));
   }
 
   @PreAuthorize("hasAuthority('ADMIN')")
@@ -111,8 +163,7 @@ public class ProjectController {
     return ResponseEntity.ok(createdProject);
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or (hasAuthority('PROJECTMANAGER') "
-      + "and @projectService.isManagerOfProject(#projectId, authentication.name))")
+  @ProjectAccess(project = "#projectId", roles = ProjectRole.MANAGER)
   @PutMapping("/{projectId}")
   public ResponseEntity<ProjectDto> updateProject(
       @PathVariable Long projectId,
@@ -123,8 +174,7 @@ public class ProjectController {
     return ResponseEntity.ok(updatedProject);
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or (hasAuthority('PROJECTMANAGER') "
-      + "and @projectService.isManagerOfProject(#projectId, authentication.name))")
+  @ProjectAccess(project = "#projectId", roles = ProjectRole.MANAGER)
   @PutMapping("/{projectId}/remove")
   public ResponseEntity<ProjectDto> removeProject(@PathVariable Long projectId) {
 
@@ -144,9 +194,7 @@ public class ProjectController {
     return ResponseEntity.ok(updatedProject);
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or "
-      + "(hasAuthority('PROJECTMANAGER') "
-      + "and @projectService.isManagerOfProject(#projectId, authentication.name))")
+  @ProjectAccess(project = "#projectId", roles = ProjectRole.MANAGER)
   @PutMapping("/{projectId}/assign-team/{teamId}")
   public ResponseEntity<ProjectDto> assignTeamToProject(
       @PathVariable Long projectId,
@@ -157,9 +205,7 @@ public class ProjectController {
     return ResponseEntity.ok(updatedProject);
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or "
-      + "(hasAuthority('PROJECTMANAGER') "
-      + "and @projectService.isManagerOfProject(#projectId, authentication.name))")
+  @ProjectAccess(project = "#projectId", roles = ProjectRole.MANAGER)
   @PutMapping("/{projectId}/reassign-team/{teamId}")
   public ResponseEntity<ProjectDto> reassignTeamToProject(
       @PathVariable Long projectId,
@@ -170,12 +216,16 @@ public class ProjectController {
     return ResponseEntity.ok(updatedProject);
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or (hasAuthority('PROJECTMANAGER') "
-      + "and @projectService.isManagerOfProject(#projectId, authentication.name))")
+  @ProjectAccess(project = "#projectId", roles = ProjectRole.MANAGER)
   @PutMapping("/{projectId}/complete")
   public ResponseEntity<ProjectDto> completeProject(@PathVariable Long projectId) {
     ProjectDto updatedProject = projectService.completeProject(projectId);
 
     return ResponseEntity.ok(updatedProject);
   }
+
+  private Page<Map<String, Object>> findProjectFields(String fields, ProjectFilter filter,
+      Pageable pageable) {
+    return projectFieldService.findProjects(ProjectField.parse(fields), filter, pageable);
+  }
 }
@@ -0,0 +1,73 @@
+package com.progresso.backend.projectmanagement;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Properties of {@link com.progresso.backend.dto.ProjectDto} a client can ask for with
+ * {@code ?fields=}. Column fields are selected directly; the others are filled in afterwards.
+ */
+public enum ProjectField {
+  ID("id", true),
+  NAME("name", true),
+  DESCRIPTION("description", true),
+  PRIORITY("priority", true),
+  START_DATE("startDate", true),
+  DUE_DATE("dueDate", true),
+  COMPLETION_DATE("completionDate", true),
+  COMPLETION_PERCENTAGE("completionPercentage", false),
+  STATUS("status", true),
+  PROJECT_MANAGER_ID("projectManagerId", true),
+  PROJECT_MANAGER_FIRST_NAME("projectManagerFirstName", true),
+  PROJECT_MANAGER_LAST_NAME("projectManagerLastName", true),
+  PROJECT_MANAGER_USERNAME("projectManagerUsername", true),
+  TASK_IDS("taskIds", false),
+  TEAM_ID("teamId", true),
+  TEAM_NAME("teamName", true),
+  COMMENT_IDS("commentIds", false);
+
+  private static final Map<String, ProjectField> BY_NAME = Arrays.stream(values())
+      .collect(Collectors.toMap(ProjectField::getName, Function.identity()));
+
+  private final String name;
+  private final boolean column;
+
+  ProjectField(String name, boolean column) {
+    this.name = name;
+    this.column = column;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public boolean isColumn() {
+    return column;
+  }
+
+  /**
+   * Parses a comma-separated list of DTO property names, keeping the requested order.
+   */
+  public static Set<ProjectField> parse(String fields) {
+    Set<ProjectField> parsed = new LinkedHashSet<>();
+    for (String name : fields.split(",")) {
+      String trimmed = name.trim();
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+      ProjectField field = BY_NAME.get(trimmed);
+      if (field == null) {
+        throw new IllegalArgumentException("Unknown project field: " + trimmed + ".");
+      }
+      parsed.add(field);
+    }
+    if (parsed.isEmpty()) {
+      throw new IllegalArgumentException("At least one project field must be requested.");
+    }
+    return parsed;
+  }
+}
@@ -0,0 +1,138 @@
+package com.progresso.backend.projectmanagement;
+
+import com.progresso.backend.commentmanagement.CommentRepository;
+import com.progresso.backend.dto.ProjectChildId;
+import com.progresso.backend.entity.Project;
+import com.progresso.backend.entity.ProjectStats;
+import com.progresso.backend.enumeration.Priority;
+import com.progresso.backend.enumeration.Status;
+import com.progresso.backend.exception.NoDataFoundException;
+import com.progresso.backend.taskmanagement.TaskRepository;
+import jakarta.persistence.Tuple;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Serves sparse project pages ({@code ?fields=}): only the requested columns are selected, and
+ * task ids, comment ids and completion are fetched in one extra query each, only when asked for.
+ */
+@Service
+public class ProjectFieldService {
+
+  private static final Logger logger = LoggerFactory.getLogger(ProjectFieldService.class);
+
+  private final ProjectRepository projectRepository;
+  private final TaskRepository taskRepository;
+  private final CommentRepository commentRepository;
+  private final ProjectStatsRepository projectStatsRepository;
+  private final ProjectStatsService projectStatsService;
+  private final ProjectService projectService;
+
+  @Autowired
+  public ProjectFieldService(ProjectRepository projectRepository, TaskRepository taskRepository,
+      CommentRepository commentRepository, ProjectStatsRepository projectStatsRepository,
+      ProjectStatsService projectStatsService, ProjectService projectService) {
+    this.projectRepository = projectRepository;
+    this.taskRepository = taskRepository;
+    this.commentRepository = commentRepository;
+    this.projectStatsRepository = projectStatsRepository;
+    this.projectStatsService = projectStatsService;
+    this.projectService = projectService;
+  }
+
+  @Transactional(readOnly = true)
+  public Page<Map<String, Object>> findProjects(Set<ProjectField> fields, ProjectFilter filter,
+      Pageable pageable) {
+    Set<ProjectField> columns = EnumSet.noneOf(ProjectField.class);
+    for (ProjectField field : fields) {
+      if (field.isColumn()) {
+        columns.add(field);
+      } else {
+        columns.add(ProjectField.ID);
+      }
+    }
+    if (fields.contains(ProjectField.PRIORITY)) {
+      columns.addAll(EnumSet.of(ProjectField.STATUS, ProjectField.START_DATE,
+          ProjectField.DUE_DATE));
+    }
+
+    Page<Tuple> rows = projectRepository.findColumns(columns, filter, pageable);
+    if (rows.isEmpty()) {
+      logger.warn("findProjects: No projects found with the given filters. {}", filter);
+      throw new NoDataFoundException("No projects found.");
+    }
+    logger.info("findProjects: Retrieved {} projects with fields {}. {}",
+        rows.getTotalElements(), fields, filter);
+
+    List<Long> ids = columns.contains(ProjectField.ID)
+        ? rows.getContent().stream().map(row -> row.get("id", Long.class)).toList()
+        : List.of();
+    Map<Long, Long> completion = fields.contains(ProjectField.COMPLETION_PERCENTAGE)
+        ? completionPercentages(ids) : Map.of();
+    Map<Long, List<Long>> taskIds = fields.contains(ProjectField.TASK_IDS)
+        ? groupByProject(taskRepository.findIdsByProjectIds(ids)) : Map.of();
+    Map<Long, List<Long>> commentIds = fields.contains(ProjectField.COMMENT_IDS)
+        ? groupByProject(commentRepository.findIdsByProjectIds(ids)) : Map.of();
+
+    return rows.map(row -> {
+      Long id = columns.contains(ProjectField.ID) ? row.get("id", Long.class) : null;
+      Map<String, Object> project = new LinkedHashMap<>();
+      for (ProjectField field : fields) {
+        project.put(field.getName(), switch (field) {
+          case PRIORITY -> Objects.toString(currentPriority(id, row), null);
+          case STATUS -> Objects.toString(row.get(field.getName()), null);
+          case COMPLETION_PERCENTAGE -> completion.get(id);
+          case TASK_IDS -> taskIds.getOrDefault(id, List.of());
+          case COMMENT_IDS -> commentIds.getOrDefault(id, List.of());
+          default -> row.get(field.getName());
+        });
+      }
+      return project;
+    });
+  }
+
+  /**
+   * Same date-based priority the full DTOs report.
+   */
+  private Priority currentPriority(Long id, Tuple row) {
+    Project project = new Project();
+    project.setId(id);
+    project.setPriority(row.get(ProjectField.PRIORITY.getName(), Priority.class));
+    project.setStatus(row.get(ProjectField.STATUS.getName(), Status.class));
+    project.setStartDate(row.get(ProjectField.START_DATE.getName(), LocalDate.class));
+    project.setDueDate(row.get(ProjectField.DUE_DATE.getName(), LocalDate.class));
+    return projectService.updateProjectPriority(project);
+  }
+
+  private Map<Long, Long> completionPercentages(List<Long> ids) {
+    Map<Long, Long> completion = new HashMap<>();
+    for (ProjectStats stats : projectStatsRepository.findAllById(ids)) {
+      completion.put(stats.getProjectId(), stats.getTotalTasks() > 0
+          ? projectStatsService.getCompletionPercentage(stats) : null);
+    }
+    return completion;
+  }
+
+  private static Map<Long, List<Long>> groupByProject(List<ProjectChildId> children) {
+    Map<Long, List<Long>> grouped = new HashMap<>();
+    for (ProjectChildId child : children) {
+      grouped.computeIfAbsent(child.getProjectId(), projectId -> new ArrayList<>())
+          .add(child.getId());
+    }
+    return grouped;
+  }
+}
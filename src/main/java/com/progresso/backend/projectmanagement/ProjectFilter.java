@@ -0,0 +1,33 @@
+package com.progresso.backend.projectmanagement;
+
+import com.progresso.backend.enumeration.Priority;
+import com.progresso.backend.enumeration.Status;
+import java.util.List;
+import org.apache.commons.lang3.EnumUtils;
+
+/**
+ * Restrictions of the project list endpoints; null components do not restrict.
+ */
+public record ProjectFilter(String managerUsername, String teamMemberUsername,
+    List<Status> statuses, Priority priority, String name) {
+
+  /**
+   * Same lenient parsing as the list endpoints: unknown status or priority values and blank
+   * names are ignored.
+   */
+  public static ProjectFilter of(String managerUsername, String teamMemberUsername,
+      String status, String priority, String name) {
+    Status statusEnum = status != null && EnumUtils.isValidEnum(Status.class, status)
+        ? Status.valueOf(status) : null;
+    Priority priorityEnum = priority != null && EnumUtils.isValidEnum(Priority.class, priority)
+        ? Priority.valueOf(priority) : null;
+    return new ProjectFilter(managerUsername, teamMemberUsername,
+        statusEnum != null ? List.of(statusEnum) : null, priorityEnum,
+        name != null && !name.trim().isEmpty() ? name.trim() : null);
+  }
+
+  public static ProjectFilter active(String teamMemberUsername) {
+    return new ProjectFilter(null, teamMemberUsername,
+        List.of(Status.IN_PROGRESS, Status.NOT_STARTED), null, null);
+  }
+}
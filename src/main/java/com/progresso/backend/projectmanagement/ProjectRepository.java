@@ -1,20 +1,31 @@
 package com.progresso.backend.projectmanagement;
 
+import com.progresso.backend.dto.PriorityCount;
+import com.progresso.backend.dto.ProjectExportRow;
+import com.progresso.backend.dto.StatusCount;
 import com.progresso.backend.entity.Project;
 import com.progresso.backend.entity.Team;
 import com.progresso.backend.entity.User;
 import com.progresso.backend.enumeration.Priority;
 import com.progresso.backend.enumeration.Status;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>,
+    ProjectRepositoryCustom {
 
   @Query("SELECT p FROM Project p WHERE (:status IS NULL OR p.status = :status)"
       + "AND (:priority IS NULL OR p.priority = :priority) "
@@ -66,4 +77,86 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
   long countByTeamAndStatusNotIn(Team team, List<Status> excludedStatus);
 
   boolean existsByNameIgnoreCase(String name);
+
+  boolean existsByTeamIdAndProjectManagerUsername(Long teamId, String username);
+
+  @Query("SELECT p.status AS status, COUNT(p) AS total FROM Project p "
+      + "WHERE (:managerUsername IS NULL OR p.projectManager.username = :managerUsername) "
+      + "AND (:teamMemberUsername IS NULL OR EXISTS ("
+      + "SELECT tm FROM Team t JOIN t.teamMembers tm "
+      + "WHERE t = p.team AND tm.username = :teamMemberUsername)) "
+      + "GROUP BY p.status")
+  List<StatusCount> countByStatusForScope(
+      @Param("managerUsername") String managerUsername,
+      @Param("teamMemberUsername") String teamMemberUsername);
+
+  @Query("SELECT p.priority AS priority, COUNT(p) AS total FROM Project p "
+      + "WHERE (:managerUsername IS NULL OR p.projectManager.username = :managerUsername) "
+      + "AND (:teamMemberUsername IS NULL OR EXISTS ("
+      + "SELECT tm FROM Team t JOIN t.teamMembers tm "
+      + "WHERE t = p.team AND tm.username = :teamMemberUsername)) "
+      + "GROUP BY p.priority")
+  List<PriorityCount> countByPriorityForScope(
+      @Param("managerUsername") String managerUsername,
+      @Param("teamMemberUsername") String teamMemberUsername);
+
+  @Query("SELECT COUNT(p) FROM Project p "
+      + "WHERE p.dueDate < :today AND p.status NOT IN :closedStatuses "
+      + "AND (:managerUsername IS NULL OR p.projectManager.username = :managerUsername) "
+      + "AND (:teamMemberUsername IS NULL OR EXISTS ("
+      + "SELECT tm FROM Team t JOIN t.teamMembers tm "
+      + "WHERE t = p.team AND tm.username = :teamMemberUsername))")
+  long countOverdueForScope(
+      @Param("managerUsername") String managerUsername,
+      @Param("teamMemberUsername") String teamMemberUsername,
+      @Param("today") LocalDate today,
+      @Param("closedStatuses") List<Status> closedStatuses);
+
+  /**
+   * The caller's {@link com.progresso.backend.enumeration.ProjectRole} on project {@code p}
+   * managed by {@code m}: {@code MANAGER}, {@code MEMBER} (of the project's team) or
+   * {@code NONE}. Shared with the task lookup so that both read only the project row, the
+   * manager's username and one membership index entry.
+   */
+  String PROJECT_ROLE = "CASE WHEN m.username = :username THEN 'MANAGER' "
+      + "WHEN EXISTS (SELECT 1 FROM User u JOIN u.teams t "
+      + "WHERE t = p.team AND u.username = :username) THEN 'MEMBER' "
+      + "ELSE 'NONE' END";
+
+  /**
+   * Empty when the project does not exist.
+   */
+  @Query("SELECT " + PROJECT_ROLE + " "
+      + "FROM Project p LEFT JOIN p.projectManager m WHERE p.id = :projectId")
+  Optional<String> findProjectRole(@Param("projectId") Long projectId,
+      @Param("username") String username);
+
+  /**
+   * Same date-based priority as {@code ProjectService.updateProjectPriority}, for every open
+   * project at once.
+   */
+  String CURRENT_PRIORITY = "CASE WHEN p.startDate > :today THEN :low "
+      + "WHEN p.dueDate <= :highUntil THEN :high "
+      + "WHEN p.dueDate <= :mediumUntil THEN :medium ELSE :low END";
+
+  @Modifying
+  @Query("UPDATE Project p SET p.priority = " + CURRENT_PRIORITY + " "
+      + "WHERE p.status NOT IN :closed "
+      + "AND (p.priority IS NULL OR p.priority <> " + CURRENT_PRIORITY + ")")
+  int refreshPriorities(@Param("today") LocalDate today,
+      @Param("highUntil") LocalDate highUntil, @Param("mediumUntil") LocalDate mediumUntil,
+      @Param("low") Priority low, @Param("medium") Priority medium, @Param("high") Priority high,
+      @Param("closed") List<Status> closed);
+
+  @Query("SELECT p.id FROM Project p")
+  List<Long> findAllIds();
+
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT new com.progresso.backend.dto.ProjectExportRow(p.id, p.name, p.description, "
+      + "p.priority, p.status, p.startDate, p.dueDate, p.completionDate, pm.username, t.id, t.name) "
+      + "FROM Project p JOIN p.projectManager pm LEFT JOIN p.team t ORDER BY p.id")
+  Stream<ProjectExportRow> streamAllForExport();
 }
@@ -0,0 +1,15 @@
+package com.progresso.backend.projectmanagement;
+
+import jakarta.persistence.Tuple;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ProjectRepositoryCustom {
+
+  /**
+   * Selects only the given column fields of the matching projects, aliased by field name,
+   * without loading the entities and their eager associations.
+   */
+  Page<Tuple> findColumns(Set<ProjectField> columns, ProjectFilter filter, Pageable pageable);
+}
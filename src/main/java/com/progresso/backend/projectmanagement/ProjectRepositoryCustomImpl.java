@@ -0,0 +1,106 @@
+package com.progresso.backend.projectmanagement;
+
+import com.progresso.backend.entity.Project;
+import com.progresso.backend.entity.Team;
+import com.progresso.backend.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+
+  private final EntityManager entityManager;
+
+  public ProjectRepositoryCustomImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public Page<Tuple> findColumns(Set<ProjectField> columns, ProjectFilter filter,
+      Pageable pageable) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+    CriteriaQuery<Tuple> query = cb.createTupleQuery();
+    Root<Project> project = query.from(Project.class);
+    Join<Project, User> manager = project.join("projectManager");
+    Join<Project, Team> team = project.join("team", JoinType.LEFT);
+    List<Selection<?>> selections = new ArrayList<>();
+    for (ProjectField column : columns) {
+      selections.add(column(column, project, manager, team).alias(column.getName()));
+    }
+    query.multiselect(selections)
+        .where(restrictions(cb, project, manager, filter))
+        .orderBy(QueryUtils.toOrders(pageable.getSort(), project, cb));
+
+    List<Tuple> content = entityManager.createQuery(query)
+        .setFirstResult((int) pageable.getOffset())
+        .setMaxResults(pageable.getPageSize())
+        .getResultList();
+
+    CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+    Root<Project> countProject = countQuery.from(Project.class);
+    countQuery.select(cb.count(countProject))
+        .where(restrictions(cb, countProject, countProject.join("projectManager"), filter));
+    long total = entityManager.createQuery(countQuery).getSingleResult();
+
+    return new PageImpl<>(content, pageable, total);
+  }
+
+  private static Path<?> column(ProjectField field, Root<Project> project,
+      Join<Project, User> manager, Join<Project, Team> team) {
+    return switch (field) {
+      case ID -> project.get("id");
+      case NAME -> project.get("name");
+      case DESCRIPTION -> project.get("description");
+      case PRIORITY -> project.get("priority");
+      case START_DATE -> project.get("startDate");
+      case DUE_DATE -> project.get("dueDate");
+      case COMPLETION_DATE -> project.get("completionDate");
+      case STATUS -> project.get("status");
+      case PROJECT_MANAGER_ID -> manager.get("id");
+      case PROJECT_MANAGER_FIRST_NAME -> manager.get("firstName");
+      case PROJECT_MANAGER_LAST_NAME -> manager.get("lastName");
+      case PROJECT_MANAGER_USERNAME -> manager.get("username");
+      case TEAM_ID -> team.get("id");
+      case TEAM_NAME -> team.get("name");
+      default -> throw new IllegalArgumentException("Not a column field: " + field);
+    };
+  }
+
+  private static Predicate[] restrictions(CriteriaBuilder cb, Root<Project> project,
+      Join<Project, User> manager, ProjectFilter filter) {
+    List<Predicate> predicates = new ArrayList<>();
+    if (filter.managerUsername() != null) {
+      predicates.add(cb.equal(manager.get("username"), filter.managerUsername()));
+    }
+    if (filter.teamMemberUsername() != null) {
+      Join<Team, User> member = project.join("team").join("teamMembers");
+      predicates.add(cb.equal(member.get("username"), filter.teamMemberUsername()));
+    }
+    if (filter.statuses() != null) {
+      predicates.add(project.get("status").in(filter.statuses()));
+    }
+    if (filter.priority() != null) {
+      predicates.add(cb.equal(project.get("priority"), filter.priority()));
+    }
+    if (filter.name() != null) {
+      predicates.add(cb.like(cb.lower(project.get("name")),
+          "%" + filter.name().toLowerCase() + "%"));
+    }
+    return predicates.toArray(Predicate[]::new);
+  }
+}
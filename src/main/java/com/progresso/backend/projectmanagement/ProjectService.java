@@ -1,8 +1,13 @@
 package com.progresso.backend.projectmanagement;
 
+import com.progresso.backend.cache.CacheEviction;
+import com.progresso.backend.cache.CacheEviction.Kind;
+import com.progresso.backend.cache.CacheEvictionEvent;
+import com.progresso.backend.coalescing.Coalesced;
 import com.progresso.backend.dto.ProjectDto;
 import com.progresso.backend.entity.Comment;
 import com.progresso.backend.entity.Project;
+import com.progresso.backend.entity.ProjectStats;
 import com.progresso.backend.entity.Task;
 import com.progresso.backend.entity.Team;
 import com.progresso.backend.entity.User;
@@ -23,12 +28,15 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.apache.commons.lang3.EnumUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
@@ -43,15 +51,20 @@ public class ProjectService {
   private final TeamRepository teamRepository;
   private final TaskRepository taskRepository;
   private final TaskService taskService;
+  private final ProjectStatsService projectStatsService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Autowired
   public ProjectService(ProjectRepository projectRepository, UserRepository userRepository,
-      TeamRepository teamRepository, TaskRepository taskRepository, TaskService taskService) {
+      TeamRepository teamRepository, TaskRepository taskRepository, TaskService taskService,
+      ProjectStatsService projectStatsService, ApplicationEventPublisher eventPublisher) {
     this.projectRepository = projectRepository;
     this.userRepository = userRepository;
     this.teamRepository = teamRepository;
     this.taskRepository = taskRepository;
     this.taskService = taskService;
+    this.projectStatsService = projectStatsService;
+    this.eventPublisher = eventPublisher;
   }
 
   public ProjectDto convertToDto(Project project) {
@@ -63,9 +76,15 @@ public class ProjectService {
     dto.setStartDate(project.getStartDate());
     dto.setDueDate(project.getDueDate());
     dto.setCompletionDate(project.getCompletionDate());
-    dto.setCompletionPercentage(
-        !CollectionUtils.isEmpty(project.getTasks()) ? getProjectCompletionPercentage(
-            project.getId()) : null);
+    Optional<ProjectStats> stats = projectStatsService.findByProjectId(project.getId());
+    if (stats.isPresent()) {
+      dto.setCompletionPercentage(stats.get().getTotalTasks() > 0
+          ? projectStatsService.getCompletionPercentage(stats.get()) : null);
+    } else {
+      dto.setCompletionPercentage(
+          !CollectionUtils.isEmpty(project.getTasks()) ? getProjectCompletionPercentage(
+              project.getId()) : null);
+    }
     dto.setStatus(project.getStatus().toString());
     dto.setProjectManagerId(project.getProjectManager().getId());
     dto.setProjectManagerFirstName(project.getProjectManager().getFirstName());
@@ -115,6 +134,22 @@ public class ProjectService {
     return priority;
   }
 
+  /**
+   * Persists the date-based priority that reads only compute, so that filtering by priority
+   * matches what the project responses show.
+   */
+  @Scheduled(cron = "${project-priority.refresh-cron:0 5 0 * * *}")
+  @Transactional
+  public void refreshPriorities() {
+    LocalDate today = LocalDate.now();
+    int updated = projectRepository.refreshPriorities(today, today.plusDays(7),
+        today.plusDays(30), Priority.LOW, Priority.MEDIUM, Priority.HIGH,
+        List.of(Status.COMPLETED, Status.CANCELLED));
+    eventPublisher.publishEvent(new CacheEvictionEvent(List.of(
+        new CacheEviction(Kind.ENTITY, Project.class.getName(), null))));
+    logger.info("refreshPriorities: Updated the priority of {} projects.", updated);
+  }
+
   private Page<ProjectDto> getProjectsDto(Page<Project> projectsPage) {
     projectsPage.getContent()
         .forEach(project -> project.setPriority(updateProjectPriority(project)));
@@ -128,52 +163,22 @@ public class ProjectService {
     return page;
   }
 
-  public boolean isTeamMemberOfProject(Long projectId, String username) {
-    if (projectId == null) {
-      logger.error("isTeamMemberOfProject: Project id cannot be null.");
-      throw new IllegalArgumentException("Project id cannot be null.");
-    }
-
-    Project project = projectRepository.findById(projectId)
-        .orElseThrow(() -> {
-          logger.error("isTeamMemberOfProject: Project not found with ID: {}", projectId);
-          return new ProjectNotFoundException("Project not found.");
-        });
-
-    boolean isMember = project.getTeam() != null && project.getTeam().getTeamMembers().stream()
-        .anyMatch(user -> user.getUsername().equals(username));
-
-    logger.info("isTeamMemberOfProject: User {} is {}a member of project with ID: {}", username,
-        isMember ? "" : "not ", projectId);
-    return isMember;
-  }
-
-  public boolean isManagerOfProject(Long projectId, String username) {
-    if (projectId == null) {
-      logger.error("isManagerOfProject: Project id cannot be null.");
-      throw new IllegalArgumentException("Project id cannot be null.");
-    }
-
-    Project project = projectRepository.findById(projectId)
-        .orElseThrow(() -> {
-          logger.error("isManagerOfProject: Project not found with ID: {}", projectId);
-          return new ProjectNotFoundException("Project not found.");
-        });
-    User projectManager = project.getProjectManager();
-
-    boolean isManager = projectManager.getUsername().equals(username);
-
-    logger.info("isManagerOfProject: User {} is {}the manager of project with ID: {}", username,
-        isManager ? "" : "not ", projectId);
-    return isManager;
-  }
-
+  @Coalesced
+  @Transactional(readOnly = true)
   public long getProjectCompletionPercentage(Long projectId) {
     if (projectId == null) {
       logger.error("getProjectCompletionPercentage: Project id cannot be null.");
       throw new IllegalArgumentException("Project id cannot be null.");
     }
 
+    Optional<ProjectStats> stats = projectStatsService.findByProjectId(projectId);
+    if (stats.isPresent()) {
+      long completionPercentage = projectStatsService.getCompletionPercentage(stats.get());
+      logger.info("getProjectCompletionPercentage: Project ID: {} is {}% complete.", projectId,
+          completionPercentage);
+      return completionPercentage;
+    }
+
     Project project = projectRepository.findById(projectId)
         .orElseThrow(() -> {
           logger.error("getProjectCompletionPercentage: Project not found with ID: {}", projectId);
@@ -202,6 +207,7 @@ public class ProjectService {
     return completionPercentage;
   }
 
+  @Transactional(readOnly = true)
   @SuppressWarnings("checkstyle:LineLength")
   public Page<ProjectDto> findAllProjectsWithFilters(String status, String priority, String name,
       Pageable pageable) {
@@ -234,6 +240,7 @@ public class ProjectService {
     return getProjectsDto(projectsPage);
   }
 
+  @Transactional(readOnly = true)
   @SuppressWarnings("checkstyle:LineLength")
   public Page<ProjectDto> findProjectsByProjectManagerUsernameAndFilters(String managerUsername,
       String status, String priority, String name, Pageable pageable) {
@@ -273,6 +280,7 @@ public class ProjectService {
     return getProjectsDto(projectsPage);
   }
 
+  @Transactional(readOnly = true)
   @SuppressWarnings("checkstyle:LineLength")
   public Page<ProjectDto> findProjectsByTeamMemberUsernameAndFilters(String teamMemberUsername,
       String status, String priority, String name, Pageable pageable) {
@@ -313,6 +321,7 @@ public class ProjectService {
     return getProjectsDto(projectsPage);
   }
 
+  @Transactional(readOnly = true)
   @SuppressWarnings("checkstyle:LineLength")
   public Page<ProjectDto> findActiveProjectsByTeamMemberUsername(String teamMemberUsername,
       Pageable pageable) {
@@ -341,6 +350,8 @@ public class ProjectService {
     return getProjectsDto(projectsPage);
   }
 
+  @Coalesced
+  @Transactional(readOnly = true)
   public ProjectDto findProjectById(Long id) {
     if (id == null) {
       logger.error("findProjectById: Id cannot be null.");
@@ -354,7 +365,6 @@ public class ProjectService {
         });
 
     project.setPriority(updateProjectPriority(project));
-    projectRepository.save(project);
 
     logger.info("findProjectById: Retrieved project with ID: {}", id);
     return convertToDto(project);
@@ -425,6 +435,8 @@ public class ProjectService {
     project.setPriority(updateProjectPriority(project));
 
     Project savedProject = projectRepository.save(project);
+    projectStatsService.createForProject(savedProject.getId());
+    eventPublisher.publishEvent(new ProjectChangedEvent(savedProject.getId()));
     logger.info("createProject: Created project with name: {}", finalName);
     return convertToDto(savedProject);
   }
@@ -526,6 +538,7 @@ public class ProjectService {
       project.setDueDate(projectDto.getDueDate());
 
       Project updatedProject = projectRepository.save(project);
+      eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
       logger.info("updateProject: Updated project with ID: {}", projectId);
       return convertToDto(updatedProject);
     } else {
@@ -592,6 +605,7 @@ public class ProjectService {
 
     project.setProjectManager(projectManager);
     Project updatedProject = projectRepository.save(project);
+    eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
     logger.info("updateProjectManager: Updated project manager for project with ID: {}", projectId);
     return convertToDto(updatedProject);
@@ -652,6 +666,7 @@ public class ProjectService {
 
     project.setTeam(team);
     Project updatedProject = projectRepository.save(project);
+    eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
     logger.info("assignTeamToProject: Assigned team with ID: {} to project with ID: {}", teamId,
         projectId);
@@ -733,6 +748,7 @@ public class ProjectService {
     projectRepository.save(project);
     teamRepository.save(currTeam);
     teamRepository.save(team);
+    eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
     logger.info("reassignTeamToProject: Reassigned team with ID: {} to project with ID: {}", teamId,
         projectId);
@@ -760,8 +776,10 @@ public class ProjectService {
       throw new IllegalArgumentException("Cannot complete a cancelled or completed project.");
     }
 
-    boolean hasIncompleteTasks = project.getTasks().stream()
-        .anyMatch(task -> task.getStatus().equals(Status.IN_PROGRESS));
+    boolean hasIncompleteTasks = projectStatsService.findByProjectId(projectId)
+        .map(stats -> stats.getInProgressTasks() > 0)
+        .orElseGet(() -> project.getTasks().stream()
+            .anyMatch(task -> task.getStatus().equals(Status.IN_PROGRESS)));
 
     if (hasIncompleteTasks) {
       logger.error("completeProject: At least one task is not completed. Project ID: {}",
@@ -775,6 +793,7 @@ public class ProjectService {
     project.setCompletionDate(LocalDate.now());
 
     Project updatedProject = projectRepository.save(project);
+    eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
     logger.info("completeProject: Project with ID: {} has been completed successfully.", projectId);
     return convertToDto(updatedProject);
@@ -808,6 +827,7 @@ public class ProjectService {
 
     project.setPriority(Priority.LOW);
     Project updatedProject = projectRepository.save(project);
+    eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
     logger.info("removeProject: Project with ID: {} has been cancelled and removed.", projectId);
     return convertToDto(updatedProject);
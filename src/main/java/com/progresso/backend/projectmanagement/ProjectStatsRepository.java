@@ -0,0 +1,76 @@
+package com.progresso.backend.projectmanagement;
+
+import com.progresso.backend.entity.ProjectStats;
+import com.progresso.backend.enumeration.Status;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProjectStatsRepository extends JpaRepository<ProjectStats, Long> {
+
+  String COUNT_TASKS = "(SELECT COUNT(t) FROM Task t WHERE t.project.id = s.projectId";
+
+  @Modifying
+  @Query("UPDATE ProjectStats s SET "
+      + "s.totalTasks = s.totalTasks + :total, "
+      + "s.inProgressTasks = s.inProgressTasks + :inProgress, "
+      + "s.completedTasks = s.completedTasks + :completed, "
+      + "s.cancelledTasks = s.cancelledTasks + :cancelled, "
+      + "s.lastActivity = :lastActivity "
+      + "WHERE s.projectId = :projectId")
+  int applyDelta(@Param("projectId") Long projectId, @Param("total") long total,
+      @Param("inProgress") long inProgress, @Param("completed") long completed,
+      @Param("cancelled") long cancelled, @Param("lastActivity") LocalDateTime lastActivity);
+
+  /**
+   * Adds zeroed counters for every project without them in one statement, keeping the rows
+   * another transaction inserts in the meantime.
+   */
+  @Modifying
+  @Query(value = "INSERT IGNORE INTO project_stats (project_id, total_tasks, in_progress_tasks, "
+      + "completed_tasks, cancelled_tasks, last_activity) "
+      + "SELECT p.id, 0, 0, 0, 0, NULL FROM project p "
+      + "WHERE NOT EXISTS (SELECT 1 FROM project_stats s WHERE s.project_id = p.id)",
+      nativeQuery = true)
+  int insertMissing();
+
+  @Query("SELECT MAX(s.projectId) FROM ProjectStats s")
+  Long findMaxProjectId();
+
+  /**
+   * Adds zeroed counters for the project unless it has some, including a row another
+   * transaction has just inserted.
+   */
+  @Modifying
+  @Query("INSERT INTO ProjectStats (projectId, totalTasks, inProgressTasks, completedTasks, "
+      + "cancelledTasks, lastActivity) "
+      + "VALUES (:projectId, 0, 0, 0, 0, :lastActivity) "
+      + "ON CONFLICT DO NOTHING")
+  int insertIfMissing(@Param("projectId") Long projectId,
+      @Param("lastActivity") LocalDateTime lastActivity);
+
+  /**
+   * Locks the counters of the projects with ids in {@code [fromId, toId]} until the transaction
+   * ends, so no task transition is applied in between. Only the ids are read: the rows are not
+   * loaded into the persistence context.
+   */
+  @Query(value = "SELECT project_id FROM project_stats "
+      + "WHERE project_id BETWEEN :fromId AND :toId FOR UPDATE", nativeQuery = true)
+  List<Long> lockRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE ProjectStats s SET "
+      + "s.totalTasks = " + COUNT_TASKS + "), "
+      + "s.inProgressTasks = " + COUNT_TASKS + " AND t.status = :inProgress), "
+      + "s.completedTasks = " + COUNT_TASKS + " AND t.status = :completed), "
+      + "s.cancelledTasks = " + COUNT_TASKS + " AND t.status = :cancelled) "
+      + "WHERE s.projectId BETWEEN :fromId AND :toId")
+  int recountRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+      @Param("inProgress") Status inProgress, @Param("completed") Status completed,
+      @Param("cancelled") Status cancelled);
+}
@@ -0,0 +1,153 @@
+package com.progresso.backend.projectmanagement;
+
+import com.progresso.backend.entity.ProjectStats;
+import com.progresso.backend.enumeration.Status;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class ProjectStatsService {
+
+  private static final Logger logger = LoggerFactory.getLogger(ProjectStatsService.class);
+
+  private final ProjectStatsRepository projectStatsRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean reconcileOnStartup;
+  private final int rebuildBatchSize;
+
+  @Autowired
+  public ProjectStatsService(ProjectStatsRepository projectStatsRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${project-stats.reconcile-on-startup:true}") boolean reconcileOnStartup,
+      @Value("${project-stats.rebuild-batch-size:1000}") int rebuildBatchSize) {
+    this.projectStatsRepository = projectStatsRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.reconcileOnStartup = reconcileOnStartup;
+    this.rebuildBatchSize = rebuildBatchSize;
+  }
+
+  public Optional<ProjectStats> findByProjectId(Long projectId) {
+    return projectStatsRepository.findById(projectId);
+  }
+
+  public long getCompletionPercentage(ProjectStats stats) {
+    long activeTasks = stats.getTotalTasks() - stats.getCancelledTasks();
+    if (activeTasks <= 0) {
+      return 0;
+    }
+
+    return (stats.getCompletedTasks() * 100L) / activeTasks;
+  }
+
+  @Transactional
+  public void createForProject(Long projectId) {
+    if (projectId == null) {
+      logger.error("createForProject: Project id cannot be null.");
+      throw new IllegalArgumentException("Project id cannot be null.");
+    }
+
+    ProjectStats stats = new ProjectStats(projectId);
+    stats.setLastActivity(LocalDateTime.now());
+    projectStatsRepository.save(stats);
+  }
+
+  @Transactional
+  public void recordTaskTransition(Long projectId, Status from, Status to) {
+    if (projectId == null) {
+      logger.error("recordTaskTransition: Project id cannot be null.");
+      throw new IllegalArgumentException("Project id cannot be null.");
+    }
+
+    long total = from == null ? 1 : 0;
+    long inProgress = delta(Status.IN_PROGRESS, from, to);
+    long completed = delta(Status.COMPLETED, from, to);
+    long cancelled = delta(Status.CANCELLED, from, to);
+
+    int updated = projectStatsRepository.applyDelta(projectId, total, inProgress, completed,
+        cancelled, LocalDateTime.now());
+
+    if (updated == 0) {
+      seedFromTasks(projectId);
+    }
+
+    logger.debug("recordTaskTransition: Project ID: {} task status {} -> {}", projectId, from, to);
+  }
+
+  @Transactional
+  public void recordActivity(Long projectId) {
+    if (projectId == null) {
+      logger.error("recordActivity: Project id cannot be null.");
+      throw new IllegalArgumentException("Project id cannot be null.");
+    }
+
+    int updated = projectStatsRepository.applyDelta(projectId, 0, 0, 0, 0, LocalDateTime.now());
+
+    if (updated == 0) {
+      seedFromTasks(projectId);
+    }
+  }
+
+  @Scheduled(cron = "${project-stats.reconcile-cron:0 0 3 * * *}")
+  public void reconcile() {
+    rebuildAll();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void reconcileOnStartup() {
+    if (reconcileOnStartup) {
+      rebuildAll();
+    }
+  }
+
+  /**
+   * Adds the missing counters in one statement, then recounts them from the tasks in batches of
+   * consecutive project ids, each in its own transaction holding the batch's row locks so that
+   * no concurrent task transition is lost.
+   */
+  private void rebuildAll() {
+    transactionTemplate.executeWithoutResult(status -> projectStatsRepository.insertMissing());
+    Long maxProjectId = projectStatsRepository.findMaxProjectId();
+
+    int rebuilt = 0;
+    for (long start = 0; maxProjectId != null && start <= maxProjectId;
+        start += rebuildBatchSize) {
+      long fromId = start;
+      long toId = start + rebuildBatchSize - 1;
+      rebuilt += transactionTemplate.execute(status -> {
+        projectStatsRepository.lockRange(fromId, toId);
+        return projectStatsRepository.recountRange(fromId, toId, Status.IN_PROGRESS,
+            Status.COMPLETED, Status.CANCELLED);
+      });
+    }
+
+    logger.info("rebuildAll: Rebuilt task counters for {} projects.", rebuilt);
+  }
+
+  /**
+   * Adds the project's missing counters (or keeps the row another transaction has just added)
+   * and counts them from its tasks.
+   */
+  private void seedFromTasks(Long projectId) {
+    projectStatsRepository.insertIfMissing(projectId, LocalDateTime.now());
+    projectStatsRepository.lockRange(projectId, projectId);
+    projectStatsRepository.recountRange(projectId, projectId, Status.IN_PROGRESS,
+        Status.COMPLETED, Status.CANCELLED);
+
+    logger.info("seedFromTasks: Initialized task counters for project with ID: {}", projectId);
+  }
+
+  private static long delta(Status counted, Status from, Status to) {
+    return (counted.equals(to) ? 1 : 0) - (counted.equals(from) ? 1 : 0);
+  }
+}
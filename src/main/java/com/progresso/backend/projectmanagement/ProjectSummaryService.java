@@ -0,0 +1,178 @@
+package com.progresso.backend.projectmanagement;
+
+import com.progresso.backend.dto.PriorityCount;
+import com.progresso.backend.dto.ProjectStatusCount;
+import com.progresso.backend.dto.ProjectSummaryDto;
+import com.progresso.backend.dto.StatusCount;
+import com.progresso.backend.enumeration.Priority;
+import com.progresso.backend.enumeration.Status;
+import com.progresso.backend.taskmanagement.TaskRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class ProjectSummaryService {
+
+  private static final Logger logger = LoggerFactory.getLogger(ProjectSummaryService.class);
+
+  private static final String ALL_PROJECTS_KEY = "all";
+
+  private final ProjectRepository projectRepository;
+  private final TaskRepository taskRepository;
+  private final Duration cacheTtl;
+  private final Map<String, CachedSummary> cache = new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+
+  @Autowired
+  public ProjectSummaryService(ProjectRepository projectRepository, TaskRepository taskRepository,
+      @Value("${dashboard.summary.cache-ttl-seconds:30}") long cacheTtlSeconds) {
+    this.projectRepository = projectRepository;
+    this.taskRepository = taskRepository;
+    this.cacheTtl = Duration.ofSeconds(cacheTtlSeconds);
+  }
+
+  @Transactional(readOnly = true)
+  public ProjectSummaryDto getSummary() {
+    return getCachedSummary(ALL_PROJECTS_KEY, null, null);
+  }
+
+  @Transactional(readOnly = true)
+  public ProjectSummaryDto getSummaryByProjectManager(String managerUsername) {
+    if (managerUsername == null || managerUsername.isEmpty()) {
+      logger.error(
+          "getSummaryByProjectManager: Project Manager's username cannot be null or empty.");
+      throw new IllegalArgumentException("Project Manager's username cannot be null or empty.");
+    }
+
+    return getCachedSummary("manager:" + managerUsername, managerUsername, null);
+  }
+
+  @Transactional(readOnly = true)
+  public ProjectSummaryDto getSummaryByTeamMember(String teamMemberUsername) {
+    if (teamMemberUsername == null || teamMemberUsername.isEmpty()) {
+      logger.error("getSummaryByTeamMember: Team member username cannot be null or empty.");
+      throw new IllegalArgumentException("Team member username cannot be null or empty.");
+    }
+
+    return getCachedSummary("teamMember:" + teamMemberUsername, null, teamMemberUsername);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProjectChanged(ProjectChangedEvent event) {
+    generation.incrementAndGet();
+    cache.clear();
+    logger.debug("onProjectChanged: Summary cache invalidated after change to project with ID: {}",
+        event.getProjectId());
+  }
+
+  private ProjectSummaryDto getCachedSummary(String key, String managerUsername,
+      String teamMemberUsername) {
+    LocalDateTime now = LocalDateTime.now();
+    long generationBefore = generation.get();
+    CachedSummary cached = cache.get(key);
+    if (cached != null && cached.generation() == generationBefore
+        && cached.expiresAt().isAfter(now)) {
+      return cached.summary();
+    }
+
+    // A summary computed while a project changed may predate the change: it is returned but
+    // not cached, and one cached just before the change is ignored by its generation
+    ProjectSummaryDto summary = computeSummary(managerUsername, teamMemberUsername);
+    if (generation.get() == generationBefore) {
+      cache.put(key, new CachedSummary(summary, generationBefore, now.plus(cacheTtl)));
+    }
+
+    logger.info("getCachedSummary: Computed project summary for scope: {}", key);
+    return summary;
+  }
+
+  private ProjectSummaryDto computeSummary(String managerUsername, String teamMemberUsername) {
+    LocalDate today = LocalDate.now();
+
+    Map<String, Long> projectsByStatus = emptyCounts(Status.values());
+    projectRepository.countByStatusForScope(managerUsername, teamMemberUsername)
+        .forEach(count -> projectsByStatus.put(count.getStatus().name(), count.getTotal()));
+
+    Map<String, Long> projectsByPriority = emptyCounts(Priority.values());
+    for (PriorityCount count : projectRepository.countByPriorityForScope(managerUsername,
+        teamMemberUsername)) {
+      if (count.getPriority() != null) {
+        projectsByPriority.put(count.getPriority().name(), count.getTotal());
+      }
+    }
+
+    Map<String, Long> tasksByStatus = emptyCounts(Status.values());
+    for (StatusCount count : taskRepository.countByStatusForScope(managerUsername,
+        teamMemberUsername)) {
+      tasksByStatus.put(count.getStatus().name(), count.getTotal());
+    }
+
+    long overdueProjects = projectRepository.countOverdueForScope(managerUsername,
+        teamMemberUsername, today, List.of(Status.COMPLETED, Status.CANCELLED));
+    long overdueTasks = taskRepository.countOverdueForScope(managerUsername, teamMemberUsername,
+        today, Status.IN_PROGRESS);
+
+    ProjectSummaryDto summary = new ProjectSummaryDto();
+    summary.setTotalProjects(projectsByStatus.values().stream().mapToLong(Long::longValue).sum());
+    summary.setProjectsByStatus(projectsByStatus);
+    summary.setProjectsByPriority(projectsByPriority);
+    summary.setOverdueProjects(overdueProjects);
+    summary.setAverageCompletionPercentage(
+        averageCompletion(managerUsername, teamMemberUsername));
+    summary.setTotalTasks(tasksByStatus.values().stream().mapToLong(Long::longValue).sum());
+    summary.setTasksByStatus(tasksByStatus);
+    summary.setOverdueTasks(overdueTasks);
+    summary.setGeneratedAt(LocalDateTime.now());
+    return summary;
+  }
+
+  private Double averageCompletion(String managerUsername, String teamMemberUsername) {
+    Map<Long, long[]> countsByProject = new HashMap<>();
+
+    for (ProjectStatusCount count : taskRepository.countByProjectAndStatusForScope(
+        managerUsername, teamMemberUsername)) {
+      long[] counts = countsByProject.computeIfAbsent(count.getProjectId(), id -> new long[2]);
+      if (!Status.CANCELLED.equals(count.getStatus())) {
+        counts[0] += count.getTotal();
+      }
+      if (Status.COMPLETED.equals(count.getStatus())) {
+        counts[1] += count.getTotal();
+      }
+    }
+
+    OptionalDouble average = countsByProject.values().stream()
+        .filter(counts -> counts[0] > 0)
+        .mapToLong(counts -> (counts[1] * 100L) / counts[0])
+        .average();
+
+    return average.isPresent() ? average.getAsDouble() : null;
+  }
+
+  private static Map<String, Long> emptyCounts(Enum<?>[] values) {
+    Map<String, Long> counts = new LinkedHashMap<>();
+    for (Enum<?> value : values) {
+      counts.put(value.name(), 0L);
+    }
+    return counts;
+  }
+
+  private record CachedSummary(ProjectSummaryDto summary, long generation,
+      LocalDateTime expiresAt) {
+
+  }
+}
@@ -0,0 +1,65 @@
+package com.progresso.backend.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * In-memory token buckets kept as a single "theoretical arrival time" per key (GCRA), so taking
+ * a token is one compare-and-set on a long, without locks. A bucket that has refilled completely
+ * carries no state and is dropped by {@link #evictIdle()}.
+ */
+public class LocalRateLimitStore implements RateLimitStore {
+
+  private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+  private final LongSupplier nanoClock;
+  private final long origin;
+
+  public LocalRateLimitStore() {
+    this(System::nanoTime);
+  }
+
+  LocalRateLimitStore(LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+    this.origin = nanoClock.getAsLong();
+  }
+
+  @Override
+  public long tryAcquire(String key, RateLimit limit) {
+    long now = now();
+    long interval = limit.intervalNanos();
+    long tolerance = interval * (limit.burst() - 1);
+    AtomicLong arrival = buckets.get(key);
+    if (arrival == null) {
+      arrival = buckets.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    while (true) {
+      long current = arrival.get();
+      long next = Math.max(current, now);
+      long waitNanos = next - now - tolerance;
+      if (waitNanos > 0) {
+        return waitNanos;
+      }
+      if (arrival.compareAndSet(current, next + interval)) {
+        return 0;
+      }
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+  public void evictIdle() {
+    long now = now();
+    buckets.values().removeIf(arrival -> arrival.get() <= now);
+  }
+
+  int size() {
+    return buckets.size();
+  }
+
+  private long now() {
+    return nanoClock.getAsLong() - origin;
+  }
+}
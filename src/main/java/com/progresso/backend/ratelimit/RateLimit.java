@@ -0,0 +1,23 @@
+package com.progresso.backend.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket refilled at {@code permitsPerSecond} that holds at most {@code burst} tokens.
+ */
+public record RateLimit(double permitsPerSecond, int burst) {
+
+  public RateLimit {
+    if (permitsPerSecond <= 0 || burst < 1) {
+      throw new IllegalArgumentException(
+          "Rate limits need a positive rate and a burst of at least 1.");
+    }
+  }
+
+  /**
+   * Time in which one token is refilled.
+   */
+  long intervalNanos() {
+    return Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+  }
+}
@@ -0,0 +1,49 @@
+package com.progresso.backend.ratelimit;
+
+import com.progresso.backend.enumeration.Role;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+
+/**
+ * Binds {@code rate-limit.groups.<group>} (comma-separated path patterns) and
+ * {@code rate-limit.limits.<ROLE>.<group>.permits-per-second|burst}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitConfig {
+
+  @Bean
+  public RateLimitPolicy rateLimitPolicy(Environment environment) {
+    Binder binder = Binder.get(environment);
+    Map<String, List<String>> groups = binder.bind("rate-limit.groups",
+        Bindable.<Map<String, List<String>>>of(mapOf(String.class,
+            ResolvableType.forClassWithGenerics(List.class, String.class))))
+        .orElse(Map.of());
+    Map<Role, Map<String, RateLimit>> limits = binder.bind("rate-limit.limits",
+        Bindable.<Map<Role, Map<String, RateLimit>>>of(mapOf(Role.class,
+            ResolvableType.forClassWithGenerics(Map.class, String.class, RateLimit.class))))
+        .orElse(Map.of());
+    return new RateLimitPolicy(groups, limits);
+  }
+
+  /**
+   * Per-node buckets unless a shared {@link RateLimitStore} is defined.
+   */
+  @Bean
+  @ConditionalOnMissingBean(RateLimitStore.class)
+  public LocalRateLimitStore localRateLimitStore() {
+    return new LocalRateLimitStore();
+  }
+
+  private static ResolvableType mapOf(Class<?> key, ResolvableType value) {
+    return ResolvableType.forClassWithGenerics(Map.class, ResolvableType.forClass(key), value);
+  }
+}
@@ -0,0 +1,97 @@
+package com.progresso.backend.ratelimit;
+
+import com.progresso.backend.enumeration.Role;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.EnumUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Limits authenticated requests per user and endpoint group. Runs in the security chain right
+ * after {@link com.progresso.backend.security.JwtRequestFilter}, so the user is known and a
+ * rejected request never reaches a controller; anonymous requests (the login) are not limited
+ * here.
+ */
+@Component
+@ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+  private final RateLimitPolicy policy;
+  private final RateLimitStore store;
+  private final MeterRegistry meterRegistry;
+
+  @Autowired
+  public RateLimitFilter(RateLimitPolicy policy, RateLimitStore store,
+      MeterRegistry meterRegistry) {
+    this.policy = policy;
+    this.store = store;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected void doFilterInternal(@NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response, @NonNull FilterChain chain)
+      throws ServletException, IOException {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    Role role = authentication != null && authentication.isAuthenticated()
+        ? roleOf(authentication) : null;
+    if (role == null) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    String group = policy.groupOf(request.getRequestURI()
+        .substring(request.getContextPath().length()));
+    RateLimit limit = policy.limitFor(role, group);
+    long waitNanos = limit != null
+        ? store.tryAcquire(authentication.getName() + ":" + group, limit) : 0;
+    if (waitNanos == 0) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    long retryAfterSeconds = Math.max(1L,
+        (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    Counter.builder("progresso.ratelimit.rejected")
+        .description("Requests rejected by the per-user rate limit")
+        .tag("group", group).tag("role", role.name())
+        .register(meterRegistry)
+        .increment();
+    logger.warn("doFilterInternal: Rate limit of group {} exceeded by user {}.", group,
+        authentication.getName());
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+    response.getWriter().write("Too many requests. Please retry later.");
+  }
+
+  private static Role roleOf(Authentication authentication) {
+    for (GrantedAuthority authority : authentication.getAuthorities()) {
+      Role role = EnumUtils.getEnum(Role.class, authority.getAuthority());
+      if (role != null) {
+        return role;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,58 @@
+package com.progresso.backend.ratelimit;
+
+import com.progresso.backend.enumeration.Role;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Sorts requests into endpoint groups by path and gives each role a limit per group. A group
+ * without its own limit uses the role's {@value #DEFAULT_GROUP} limit; a role without any limit
+ * is not limited.
+ */
+public class RateLimitPolicy {
+
+  public static final String DEFAULT_GROUP = "default";
+
+  private final Map<String, List<PathPattern>> groups = new LinkedHashMap<>();
+  private final Map<Role, Map<String, RateLimit>> limits;
+
+  /**
+   * @param groups path patterns per group, matched in the given order
+   * @param limits limits per role and group
+   */
+  public RateLimitPolicy(Map<String, List<String>> groups,
+      Map<Role, Map<String, RateLimit>> limits) {
+    groups.forEach((group, patterns) -> this.groups.put(group, patterns.stream()
+        .map(pattern -> PathPatternParser.defaultInstance.parse(pattern.trim()))
+        .toList()));
+    this.limits = limits;
+  }
+
+  public String groupOf(String path) {
+    PathContainer container = PathContainer.parsePath(path);
+    for (Map.Entry<String, List<PathPattern>> group : groups.entrySet()) {
+      for (PathPattern pattern : group.getValue()) {
+        if (pattern.matches(container)) {
+          return group.getKey();
+        }
+      }
+    }
+    return DEFAULT_GROUP;
+  }
+
+  /**
+   * @return the limit, or null when the role is not limited
+   */
+  public RateLimit limitFor(Role role, String group) {
+    Map<String, RateLimit> roleLimits = limits.get(role);
+    if (roleLimits == null) {
+      return null;
+    }
+    RateLimit limit = roleLimits.get(group);
+    return limit != null ? limit : roleLimits.get(DEFAULT_GROUP);
+  }
+}
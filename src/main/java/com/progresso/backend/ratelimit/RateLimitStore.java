@@ -0,0 +1,16 @@
+package com.progresso.backend.ratelimit;
+
+/**
+ * Holds the token buckets. {@link LocalRateLimitStore} keeps them in memory, which limits each
+ * node separately; an implementation backed by shared state can be registered as a bean to
+ * enforce the limits across nodes.
+ */
+public interface RateLimitStore {
+
+  /**
+   * Takes one token from the bucket identified by {@code key}.
+   *
+   * @return 0 when a token was taken, otherwise the nanoseconds until one is available
+   */
+  long tryAcquire(String key, RateLimit limit);
+}
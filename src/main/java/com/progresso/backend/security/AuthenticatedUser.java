@@ -0,0 +1,32 @@
+package com.progresso.backend.security;
+
+import com.progresso.backend.dto.UserCredentials;
+import java.util.List;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * Snapshot of the caller taken once per request by {@link JwtRequestFilter} and kept as the
+ * authentication principal, so neither token validation nor later layers reload the user
+ * aggregate to learn who is calling.
+ */
+public class AuthenticatedUser extends User {
+
+  private final boolean active;
+  private final Integer tokenVersion;
+
+  public AuthenticatedUser(UserCredentials credentials) {
+    super(credentials.getUsername(), credentials.getPassword(),
+        List.of(new SimpleGrantedAuthority(credentials.getRole().toString())));
+    this.active = Boolean.TRUE.equals(credentials.getActive());
+    this.tokenVersion = credentials.getTokenVersion();
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public Integer getTokenVersion() {
+    return tokenVersion;
+  }
+}
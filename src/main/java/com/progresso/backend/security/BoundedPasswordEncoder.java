@@ -0,0 +1,129 @@
+package com.progresso.backend.security;
+
+import com.progresso.backend.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final long timeoutMillis;
+  private final long retryAfterSeconds;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Timer queueWaitTimer;
+  private final Counter rejectedCounter;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+      long timeoutMillis, long retryAfterSeconds, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.timeoutMillis = timeoutMillis;
+    this.retryAfterSeconds = retryAfterSeconds;
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), hashingThreadFactory(),
+        new ThreadPoolExecutor.AbortPolicy());
+
+    this.encodeTimer = Timer.builder("password.hashing.duration")
+        .tag("operation", "encode").register(meterRegistry);
+    this.matchesTimer = Timer.builder("password.hashing.duration")
+        .tag("operation", "matches").register(meterRegistry);
+    this.queueWaitTimer = Timer.builder("password.hashing.queue.wait").register(meterRegistry);
+    this.rejectedCounter = Counter.builder("password.hashing.rejected").register(meterRegistry);
+    Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+        .register(meterRegistry);
+    Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+  }
+
+  public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+    return submit(() -> delegate.encode(rawPassword), encodeTimer);
+  }
+
+  public CompletableFuture<Boolean> matchesAsync(CharSequence rawPassword,
+      String encodedPassword) {
+    return submit(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return await(encodeAsync(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return await(matchesAsync(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  private <T> CompletableFuture<T> submit(Supplier<T> operation, Timer timer) {
+    long queuedAt = System.nanoTime();
+    try {
+      return CompletableFuture.supplyAsync(() -> {
+        queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        return timer.record(operation);
+      }, executor);
+    } catch (RejectedExecutionException e) {
+      rejectedCounter.increment();
+      logger.warn("submit: Password hashing queue is full ({} queued).",
+          executor.getQueue().size());
+      throw new PasswordHashingUnavailableException(
+          "Authentication service is busy. Please retry shortly.", retryAfterSeconds);
+    }
+  }
+
+  private <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(false);
+      logger.warn("await: Password hashing timed out after {} ms.", timeoutMillis);
+      throw new PasswordHashingUnavailableException(
+          "Authentication service is busy. Please retry shortly.", retryAfterSeconds);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Password hashing was interrupted.", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Password hashing failed.", e.getCause());
+    }
+  }
+
+  private static ThreadFactory hashingThreadFactory() {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
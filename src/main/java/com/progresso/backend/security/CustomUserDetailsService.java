@@ -1,11 +1,9 @@
 package com.progresso.backend.security;
 
-import com.progresso.backend.entity.User;
 import com.progresso.backend.usermanagement.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -23,19 +21,15 @@ public class CustomUserDetailsService implements UserDetailsService {
   }
 
   @Override
-  public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-    User user = userRepository.findByUsername(username)
+  public AuthenticatedUser loadUserByUsername(String username)
+      throws UsernameNotFoundException {
+    AuthenticatedUser userDetails = userRepository.findCredentialsByUsername(username)
+        .map(AuthenticatedUser::new)
         .orElseThrow(() -> {
           logger.error("loadUserByUsername: User not found with username: {}", username);
           return new UsernameNotFoundException("User not found with username: " + username);
         });
 
-    UserDetails userDetails = org.springframework.security.core.userdetails.User
-        .withUsername(user.getUsername())
-        .password(user.getPassword())
-        .authorities(user.getRole().toString())
-        .build();
-
     logger.info("loadUserByUsername: User {} loaded successfully.", username);
     return userDetails;
   }
@@ -1,6 +1,8 @@
 package com.progresso.backend.security;
 
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,8 +12,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,33 +19,43 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
 
+  static final String OBSERVATION_NAME = "progresso.security.jwt";
+
   private final JwtUtil jwtUtil;
-  private final UserDetailsService userDetailsService;
+  private final CustomUserDetailsService userDetailsService;
+  private final ObservationRegistry observationRegistry;
 
   @Autowired
-  public JwtRequestFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+  public JwtRequestFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService,
+      ObservationRegistry observationRegistry) {
     this.jwtUtil = jwtUtil;
     this.userDetailsService = userDetailsService;
+    this.observationRegistry = observationRegistry;
   }
 
   @Override
   protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
       @NonNull FilterChain chain) throws ServletException, IOException {
     final String authorizationHeader = request.getHeader("Authorization");
-    String username = null;
-    String jwt = null;
     if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-      jwt = authorizationHeader.substring(7);
-      try {
-        username = jwtUtil.extractUsername(jwt);
-      } catch (ExpiredJwtException e) {
-        logger.warn("JWT token has expired", e);
-      }
+      Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+          .contextualName("jwt authentication")
+          .observe(() -> authenticate(request, authorizationHeader.substring(7)));
+    }
+    chain.doFilter(request, response);
+  }
+
+  private void authenticate(HttpServletRequest request, String jwt) {
+    String username = null;
+    try {
+      username = jwtUtil.extractUsername(jwt);
+    } catch (ExpiredJwtException e) {
+      logger.warn("JWT token has expired", e);
     }
 
     if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-      UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-      if (jwtUtil.validateToken(jwt, username)) {
+      AuthenticatedUser userDetails = userDetailsService.loadUserByUsername(username);
+      if (jwtUtil.validateToken(jwt, userDetails)) {
         UsernamePasswordAuthenticationToken authenticationToken =
             new UsernamePasswordAuthenticationToken(userDetails, null,
                 userDetails.getAuthorities());
@@ -53,6 +63,5 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
       }
     }
-    chain.doFilter(request, response);
   }
 }
@@ -1,8 +1,6 @@
 package com.progresso.backend.security;
 
 import com.progresso.backend.entity.User;
-import com.progresso.backend.exception.UserNotFoundException;
-import com.progresso.backend.usermanagement.UserRepository;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -18,11 +16,9 @@ import org.springframework.stereotype.Component;
 public class JwtUtil {
 
   private final SecretKey key;
-  private final UserRepository userRepository;
 
-  public JwtUtil(@Value("${jwt.secret}") String secret, UserRepository userRepository) {
+  public JwtUtil(@Value("${jwt.secret}") String secret) {
     this.key = Keys.hmacShaKeyFor(secret.getBytes());
-    this.userRepository = userRepository;
   }
 
   public String extractUsername(String token) {
@@ -71,22 +67,19 @@ public class JwtUtil {
         .compact();
   }
 
-  public Boolean validateToken(String token, String username) {
+  public Boolean validateToken(String token, AuthenticatedUser user) {
     final String extractedUsername = extractUsername(token);
 
-    if (!extractedUsername.equals(username) || isTokenExpired(token)) {
+    if (!extractedUsername.equals(user.getUsername()) || isTokenExpired(token)) {
       return false;
     }
 
-    User user = userRepository.findByUsername(username).orElseThrow(
-        () -> new UserNotFoundException("User not found with username: " + username));
-
-    if (!user.getActive()) {
+    if (!user.isActive()) {
       return false;
     }
 
-    int tokenVersion = extractClaim(token, claims -> claims.get("tokenVersion", Integer.class));
+    Integer tokenVersion = extractClaim(token, claims -> claims.get("tokenVersion", Integer.class));
 
-    return user.getTokenVersion() == tokenVersion;
+    return tokenVersion != null && tokenVersion.equals(user.getTokenVersion());
   }
 }
\ No newline at end of file
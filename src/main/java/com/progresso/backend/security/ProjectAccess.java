@@ -0,0 +1,35 @@
+package com.progresso.backend.security;
+
+import com.progresso.backend.enumeration.ProjectRole;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Method security for project-scoped endpoints, checked by
+ * {@link ProjectAccessAuthorizationManager} where {@code @PreAuthorize} would run. Admins are
+ * always granted; a project manager needs {@link ProjectRole#MANAGER} and a team member
+ * {@link ProjectRole#MEMBER} on the project, and only when that role is listed. Exactly one of
+ * {@link #project()} and {@link #task()} identifies the project.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ProjectAccess {
+
+  /**
+   * SpEL expression over the method parameters that yields the project id, e.g.
+   * {@code "#taskDto.projectId"}.
+   */
+  String project() default "";
+
+  /**
+   * SpEL expression over the method parameters that yields a task id; the task's project is
+   * checked.
+   */
+  String task() default "";
+
+  ProjectRole[] roles();
+}
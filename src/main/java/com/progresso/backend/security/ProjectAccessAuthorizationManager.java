@@ -0,0 +1,104 @@
+package com.progresso.backend.security;
+
+import com.progresso.backend.enumeration.ProjectRole;
+import com.progresso.backend.enumeration.Role;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.lang3.EnumUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Decides {@link ProjectAccess} methods. The caller's role is read from the authorities once and
+ * only that role's branch is evaluated: admins are granted without a query, and a project
+ * manager or team member costs one {@link ProjectAccessResolver} query, or none when the
+ * endpoint does not admit the role at all.
+ */
+public class ProjectAccessAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+  private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+  private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+  private final Supplier<ProjectAccessResolver> resolver;
+  private final SpelExpressionParser parser = new SpelExpressionParser();
+  private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+  private final Map<Method, Rule> rules = new ConcurrentHashMap<>();
+
+  /**
+   * @param resolver looked up on first use, so that the security infrastructure does not
+   *                 initialize the repositories early
+   */
+  public ProjectAccessAuthorizationManager(Supplier<ProjectAccessResolver> resolver) {
+    this.resolver = resolver;
+  }
+
+  @Override
+  public AuthorizationDecision check(Supplier<Authentication> authentication,
+      MethodInvocation invocation) {
+    Authentication caller = authentication.get();
+    if (caller == null || !caller.isAuthenticated()) {
+      return DENIED;
+    }
+    Role role = roleOf(caller);
+    if (role == Role.ADMIN) {
+      return GRANTED;
+    }
+    ProjectRole required = role == Role.PROJECTMANAGER ? ProjectRole.MANAGER
+        : role == Role.TEAMMEMBER ? ProjectRole.MEMBER : null;
+    Rule rule = rules.computeIfAbsent(invocation.getMethod(), this::parse);
+    if (required == null || !rule.roles().contains(required)) {
+      return DENIED;
+    }
+
+    Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(),
+        AopUtils.getTargetClass(invocation.getThis()));
+    Object value = rule.id().getValue(new MethodBasedEvaluationContext(null, method,
+        invocation.getArguments(), parameterNames));
+    Long id = value instanceof Number number ? number.longValue() : null;
+    ProjectRole actual = rule.byTask()
+        ? resolver.get().taskProjectRole(id, caller.getName())
+        : resolver.get().projectRole(id, caller.getName());
+    return new AuthorizationDecision(actual == required);
+  }
+
+  private Rule parse(Method method) {
+    ProjectAccess access = AnnotationUtils.findAnnotation(method, ProjectAccess.class);
+    if (access == null) {
+      throw new IllegalStateException("No @ProjectAccess on " + method);
+    }
+    if (access.project().isEmpty() == access.task().isEmpty()) {
+      throw new IllegalStateException("@ProjectAccess needs exactly one of project and task on "
+          + method);
+    }
+    boolean byTask = !access.task().isEmpty();
+    return new Rule(parser.parseExpression(byTask ? access.task() : access.project()), byTask,
+        Arrays.asList(access.roles()));
+  }
+
+  private static Role roleOf(Authentication authentication) {
+    for (GrantedAuthority authority : authentication.getAuthorities()) {
+      Role role = EnumUtils.getEnum(Role.class, authority.getAuthority());
+      if (role != null) {
+        return role;
+      }
+    }
+    return null;
+  }
+
+  private record Rule(Expression id, boolean byTask, List<ProjectRole> roles) {
+  }
+}
@@ -0,0 +1,31 @@
+package com.progresso.backend.security;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+
+@Configuration
+public class ProjectAccessConfig {
+
+  /**
+   * Runs {@link ProjectAccess} checks in the slot of {@code @PreAuthorize}. Static and
+   * infrastructure-only, like Spring Security's own method interceptors.
+   */
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  static Advisor projectAccessAuthorizationAdvisor(
+      ObjectProvider<ProjectAccessResolver> resolver) {
+    AuthorizationManagerBeforeMethodInterceptor interceptor =
+        new AuthorizationManagerBeforeMethodInterceptor(
+            new AnnotationMatchingPointcut(null, ProjectAccess.class, true),
+            new ProjectAccessAuthorizationManager(resolver::getObject));
+    interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+    return interceptor;
+  }
+}
@@ -0,0 +1,100 @@
+package com.progresso.backend.security;
+
+import com.progresso.backend.commentmanagement.CommentRepository;
+import com.progresso.backend.enumeration.ProjectRole;
+import com.progresso.backend.exception.CommentNotFoundException;
+import com.progresso.backend.exception.ProjectNotFoundException;
+import com.progresso.backend.exception.TaskNotFoundException;
+import com.progresso.backend.projectmanagement.ProjectRepository;
+import com.progresso.backend.taskmanagement.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Answers "what is user U on the project owning X" for projects, tasks and comments, and whether
+ * U manages a project of a team, with one query over ids and usernames, without loading any
+ * entity graph.
+ */
+@Service
+public class ProjectAccessResolver {
+
+  private static final Logger logger = LoggerFactory.getLogger(ProjectAccessResolver.class);
+
+  private final ProjectRepository projectRepository;
+  private final TaskRepository taskRepository;
+  private final CommentRepository commentRepository;
+
+  @Autowired
+  public ProjectAccessResolver(ProjectRepository projectRepository,
+      TaskRepository taskRepository, CommentRepository commentRepository) {
+    this.projectRepository = projectRepository;
+    this.taskRepository = taskRepository;
+    this.commentRepository = commentRepository;
+  }
+
+  @Transactional(readOnly = true)
+  public ProjectRole projectRole(Long projectId, String username) {
+    if (projectId == null) {
+      logger.error("projectRole: Project id cannot be null.");
+      throw new IllegalArgumentException("Project id cannot be null.");
+    }
+
+    ProjectRole role = projectRepository.findProjectRole(projectId, username)
+        .map(ProjectRole::valueOf)
+        .orElseThrow(() -> {
+          logger.error("projectRole: Project not found with ID: {}", projectId);
+          return new ProjectNotFoundException("Project not found.");
+        });
+    logger.debug("projectRole: User {} is {} of project with ID: {}", username, role, projectId);
+    return role;
+  }
+
+  @Transactional(readOnly = true)
+  public ProjectRole taskProjectRole(Long taskId, String username) {
+    if (taskId == null) {
+      logger.error("taskProjectRole: Task id cannot be null.");
+      throw new IllegalArgumentException("Task id cannot be null.");
+    }
+
+    ProjectRole role = taskRepository.findProjectRole(taskId, username)
+        .map(ProjectRole::valueOf)
+        .orElseThrow(() -> {
+          logger.error("taskProjectRole: Task not found with ID: {}", taskId);
+          return new TaskNotFoundException("Task not found.");
+        });
+    logger.debug("taskProjectRole: User {} is {} of the project of task with ID: {}", username,
+        role, taskId);
+    return role;
+  }
+
+  /**
+   * Whether the user manages at least one project assigned to the team.
+   */
+  @Transactional(readOnly = true)
+  public boolean managesTeam(Long teamId, String username) {
+    if (teamId == null) {
+      logger.error("managesTeam: Team id cannot be null.");
+      throw new IllegalArgumentException("Team id cannot be null.");
+    }
+
+    return projectRepository.existsByTeamIdAndProjectManagerUsername(teamId, username);
+  }
+
+  @Transactional(readOnly = true)
+  public boolean isCommentAuthor(Long commentId, String username) {
+    if (commentId == null) {
+      logger.error("isCommentAuthor: Comment id cannot be null.");
+      throw new IllegalArgumentException("Comment id cannot be null.");
+    }
+
+    String author = commentRepository.findAuthorUsername(commentId)
+        .orElseThrow(() -> {
+          logger.error("isCommentAuthor: Comment not found with ID: {}", commentId);
+          return new CommentNotFoundException("Comment not found.");
+        });
+    return author.equals(username);
+  }
+}
@@ -2,9 +2,15 @@ package com.progresso.backend.security;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
+import jakarta.servlet.DispatcherType;
+import com.progresso.backend.logging.CorrelationIdFilter;
+import com.progresso.backend.ratelimit.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Arrays;
 import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,7 +19,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -26,10 +31,13 @@ import org.springframework.web.filter.CorsFilter;
 public class SecurityConfig {
 
   private final JwtRequestFilter jwtRequestFilter;
+  private final ObjectProvider<RateLimitFilter> rateLimitFilter;
 
   @Autowired
-  public SecurityConfig(JwtRequestFilter jwtRequestFilter) {
+  public SecurityConfig(JwtRequestFilter jwtRequestFilter,
+      ObjectProvider<RateLimitFilter> rateLimitFilter) {
     this.jwtRequestFilter = jwtRequestFilter;
+    this.rateLimitFilter = rateLimitFilter;
   }
 
   @Bean
@@ -37,18 +45,30 @@ public class SecurityConfig {
     http
         .csrf(AbstractHttpConfigurer::disable)
         .authorizeHttpRequests(authorize -> authorize
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
+            .requestMatchers("/actuator/health").permitAll()
+            .requestMatchers("/actuator/**").hasAuthority("ADMIN")
             .anyRequest().authenticated())
         .cors(withDefaults());
 
     http.addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class);
+    rateLimitFilter.ifAvailable(filter -> http.addFilterAfter(filter, JwtRequestFilter.class));
 
     return http.build();
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public BoundedPasswordEncoder passwordEncoder(
+      @Value("${security.password.bcrypt-strength:10}") int strength,
+      @Value("${security.password.hashing-threads:0}") int threads,
+      @Value("${security.password.hashing-queue-capacity:64}") int queueCapacity,
+      @Value("${security.password.hashing-timeout-ms:5000}") long timeoutMillis,
+      @Value("${security.password.retry-after-seconds:1}") long retryAfterSeconds,
+      MeterRegistry meterRegistry) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize,
+        queueCapacity, timeoutMillis, retryAfterSeconds, meterRegistry);
   }
 
   @Bean
@@ -57,8 +77,10 @@ public class SecurityConfig {
     config.setAllowedOrigins(List.of("http://localhost:4200"));
     config.setAllowedMethods(
         List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-    config.setAllowedHeaders(Arrays.asList("Authorization", "Cache-Control", "Content-Type"));
-    config.setExposedHeaders(List.of("Authorization"));
+    config.setAllowedHeaders(Arrays.asList("Authorization", "Cache-Control", "Content-Type",
+        "If-None-Match", CorrelationIdFilter.HEADER));
+    config.setExposedHeaders(List.of("Authorization", "ETag", "Retry-After",
+        CorrelationIdFilter.HEADER));
     config.setAllowCredentials(true);
     UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
     source.registerCorsConfiguration("/**", config);
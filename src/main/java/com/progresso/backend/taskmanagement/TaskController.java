@@ -1,13 +1,16 @@
 package com.progresso.backend.taskmanagement;
 
 import com.progresso.backend.dto.TaskDto;
+import com.progresso.backend.enumeration.ProjectRole;
+import com.progresso.backend.security.ProjectAccess;
+import com.progresso.backend.versioning.ResourceType;
+import com.progresso.backend.versioning.ResourceVersionService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -18,35 +21,36 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
   private final TaskService taskService;
+  private final ResourceVersionService resourceVersionService;
 
   @Autowired
-  public TaskController(TaskService taskService) {
+  public TaskController(TaskService taskService,
+      ResourceVersionService resourceVersionService) {
     this.taskService = taskService;
+    this.resourceVersionService = resourceVersionService;
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or "
-      + "(hasAuthority('PROJECTMANAGER') "
-      + "and @projectService.isManagerOfProject(#projectId, authentication.name)) or "
-      + "(hasAuthority('TEAMMEMBER') "
-      + "and @projectService.isTeamMemberOfProject(#projectId, authentication.name))")
+  @ProjectAccess(project = "#projectId", roles = {ProjectRole.MANAGER, ProjectRole.MEMBER})
   @GetMapping("/project/{projectId}")
   public ResponseEntity<Page<TaskDto>> getTasksByProjectIdAndFilters(@PathVariable Long projectId,
       @RequestParam(required = false) String status,
       @RequestParam(required = false) String priority,
-      Pageable pageable) {
-    Page<TaskDto> tasks = taskService.findByProjectIdAndStatusAndPriority(projectId, status,
-        priority, pageable);
-    return ResponseEntity.ok(tasks);
+      Pageable pageable, WebRequest webRequest) {
+    // Every task change bumps its project's stamp, so it covers all pages and filters.
+    String etag = resourceVersionService.etag(ResourceType.PROJECT, projectId);
+    return resourceVersionService.conditionalGet(webRequest, etag,
+        () -> taskService.findByProjectIdAndStatusAndPriority(projectId, status, priority,
+            pageable));
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or (hasAuthority('PROJECTMANAGER') "
-      + "and @projectService.isManagerOfProject(#taskDto.projectId, authentication.name))")
+  @ProjectAccess(project = "#taskDto.projectId", roles = ProjectRole.MANAGER)
   @PostMapping
   public ResponseEntity<TaskDto> createAndAssignTask(@Valid @RequestBody TaskDto taskDto,
       @RequestParam Long userId) {
@@ -54,9 +58,7 @@ public class TaskController {
     return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or (hasAuthority('PROJECTMANAGER') "
-      + "and @projectService.isManagerOfProject(@taskService.getProjectIdByTaskId(#taskId), "
-      + "authentication.name))")
+  @ProjectAccess(task = "#taskId", roles = ProjectRole.MANAGER)
   @PostMapping("/{taskId}/reassign/{userId}")
   public ResponseEntity<TaskDto> reassignTaskToUser(@PathVariable Long taskId,
       @PathVariable Long userId) {
@@ -64,8 +66,7 @@ public class TaskController {
     return ResponseEntity.ok(reassignedTask);
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or (hasAuthority('PROJECTMANAGER') "
-      + "and @projectService.isManagerOfProject(#taskDto.projectId, authentication.name))")
+  @ProjectAccess(task = "#taskId", roles = ProjectRole.MANAGER)
   @PutMapping("/{taskId}")
   public ResponseEntity<TaskDto> updateTask(@PathVariable Long taskId,
       @Valid @RequestBody TaskDto taskDto) {
@@ -73,17 +74,14 @@ public class TaskController {
     return ResponseEntity.ok(updatedTask);
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or (hasAuthority('PROJECTMANAGER') "
-      + "and @projectService.isManagerOfProject(@taskService.getProjectIdByTaskId(#taskId), "
-      + "authentication.name))")
+  @ProjectAccess(task = "#taskId", roles = ProjectRole.MANAGER)
   @PatchMapping("/{taskId}/complete")
   public ResponseEntity<TaskDto> completeTask(@PathVariable Long taskId) {
     TaskDto completedTask = taskService.completeTask(taskId);
     return ResponseEntity.ok(completedTask);
   }
 
-  @PreAuthorize("hasAuthority('ADMIN') or (hasAuthority('PROJECTMANAGER') "
-      + "and @projectService.isManagerOfProject(#projectId, authentication.name))")
+  @ProjectAccess(project = "#projectId", roles = ProjectRole.MANAGER)
   @DeleteMapping("/project/{projectId}/task/{taskId}")
   public ResponseEntity<TaskDto> removeTaskFromProject(@PathVariable Long projectId,
       @PathVariable Long taskId) {
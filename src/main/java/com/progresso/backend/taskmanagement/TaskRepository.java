@@ -1,12 +1,25 @@
 package com.progresso.backend.taskmanagement;
 
+import com.progresso.backend.dto.ProjectChildId;
+import com.progresso.backend.dto.ProjectStatusCount;
+import com.progresso.backend.dto.StatusCount;
+import com.progresso.backend.dto.TaskExportRow;
 import com.progresso.backend.entity.Task;
 import com.progresso.backend.enumeration.Priority;
 import com.progresso.backend.enumeration.Status;
+import com.progresso.backend.projectmanagement.ProjectRepository;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -23,7 +36,67 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
       @Param("priority") Priority priority,
       Pageable pageable);
 
+  /**
+   * The caller's role on the task's project, see {@link ProjectRepository#PROJECT_ROLE}; empty
+   * when the task does not exist.
+   */
+  @Query("SELECT " + ProjectRepository.PROJECT_ROLE + " "
+      + "FROM Task task JOIN task.project p LEFT JOIN p.projectManager m "
+      + "WHERE task.id = :taskId")
+  Optional<String> findProjectRole(@Param("taskId") Long taskId,
+      @Param("username") String username);
+
+  @Query("SELECT t.project.id AS projectId, t.id AS id FROM Task t "
+      + "WHERE t.project.id IN :projectIds ORDER BY t.id")
+  List<ProjectChildId> findIdsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
   @Query("SELECT COUNT(t) > 0 FROM Task t WHERE t.project.id = :projectId AND t.name = :name")
   boolean existsByProjectIdAndName(@Param("projectId") Long projectId,
       @Param("name") String name);
+
+  @Query("SELECT t.status AS status, COUNT(t) AS total FROM Task t "
+      + "WHERE (:managerUsername IS NULL OR t.project.projectManager.username = :managerUsername) "
+      + "AND (:teamMemberUsername IS NULL OR EXISTS ("
+      + "SELECT tm FROM Team tt JOIN tt.teamMembers tm "
+      + "WHERE tt = t.project.team AND tm.username = :teamMemberUsername)) "
+      + "GROUP BY t.status")
+  List<StatusCount> countByStatusForScope(
+      @Param("managerUsername") String managerUsername,
+      @Param("teamMemberUsername") String teamMemberUsername);
+
+  @Query("SELECT t.project.id AS projectId, t.status AS status, COUNT(t) AS total FROM Task t "
+      + "WHERE (:managerUsername IS NULL OR t.project.projectManager.username = :managerUsername) "
+      + "AND (:teamMemberUsername IS NULL OR EXISTS ("
+      + "SELECT tm FROM Team tt JOIN tt.teamMembers tm "
+      + "WHERE tt = t.project.team AND tm.username = :teamMemberUsername)) "
+      + "GROUP BY t.project.id, t.status")
+  List<ProjectStatusCount> countByProjectAndStatusForScope(
+      @Param("managerUsername") String managerUsername,
+      @Param("teamMemberUsername") String teamMemberUsername);
+
+  @Query("SELECT t.status AS status, COUNT(t) AS total FROM Task t "
+      + "WHERE t.project.id = :projectId GROUP BY t.status")
+  List<StatusCount> countByStatusForProject(@Param("projectId") Long projectId);
+
+  @Query("SELECT COUNT(t) FROM Task t "
+      + "WHERE t.dueDate < :today AND t.status = :openStatus "
+      + "AND (:managerUsername IS NULL OR t.project.projectManager.username = :managerUsername) "
+      + "AND (:teamMemberUsername IS NULL OR EXISTS ("
+      + "SELECT tm FROM Team tt JOIN tt.teamMembers tm "
+      + "WHERE tt = t.project.team AND tm.username = :teamMemberUsername))")
+  long countOverdueForScope(
+      @Param("managerUsername") String managerUsername,
+      @Param("teamMemberUsername") String teamMemberUsername,
+      @Param("today") LocalDate today,
+      @Param("openStatus") Status openStatus);
+
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT new com.progresso.backend.dto.TaskExportRow(t.id, t.project.id, t.name, "
+      + "t.description, t.priority, t.status, t.startDate, t.dueDate, t.completionDate, "
+      + "u.username) "
+      + "FROM Task t LEFT JOIN t.assignedUser u ORDER BY t.id")
+  Stream<TaskExportRow> streamAllForExport();
 }
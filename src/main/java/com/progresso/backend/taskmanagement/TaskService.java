@@ -1,5 +1,6 @@
 package com.progresso.backend.taskmanagement;
 
+import com.progresso.backend.coalescing.Coalesced;
 import com.progresso.backend.dto.TaskDto;
 import com.progresso.backend.entity.Project;
 import com.progresso.backend.entity.Task;
@@ -13,17 +14,20 @@ import com.progresso.backend.exception.ProjectNotFoundException;
 import com.progresso.backend.exception.TaskNotFoundException;
 import com.progresso.backend.exception.UserNotActiveException;
 import com.progresso.backend.exception.UserNotFoundException;
+import com.progresso.backend.projectmanagement.ProjectChangedEvent;
+import com.progresso.backend.projectmanagement.ProjectStatsService;
 import com.progresso.backend.projectmanagement.ProjectRepository;
 import com.progresso.backend.usermanagement.UserRepository;
-import jakarta.transaction.Transactional;
 import java.time.LocalDate;
 import org.apache.commons.lang3.EnumUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class TaskService {
@@ -33,13 +37,18 @@ public class TaskService {
   private final TaskRepository taskRepository;
   private final ProjectRepository projectRepository;
   private final UserRepository userRepository;
+  private final ProjectStatsService projectStatsService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Autowired
   public TaskService(TaskRepository taskRepository, ProjectRepository projectRepository,
-      UserRepository userRepository) {
+      UserRepository userRepository, ProjectStatsService projectStatsService,
+      ApplicationEventPublisher eventPublisher) {
     this.taskRepository = taskRepository;
     this.projectRepository = projectRepository;
     this.userRepository = userRepository;
+    this.projectStatsService = projectStatsService;
+    this.eventPublisher = eventPublisher;
   }
 
   private TaskDto convertToDto(Task task) {
@@ -60,24 +69,8 @@ public class TaskService {
     return taskDto;
   }
 
-  public Long getProjectIdByTaskId(Long taskId) {
-    if (taskId == null) {
-      logger.error("getProjectIdByTaskId: Task id cannot be null.");
-      throw new IllegalArgumentException("Task id cannot be null.");
-    }
-
-    return taskRepository.findById(taskId)
-        .map(task -> {
-          logger.info("getProjectIdByTaskId: Found project ID {} for task ID {}",
-              task.getProject().getId(), taskId);
-          return task.getProject().getId();
-        })
-        .orElseThrow(() -> {
-          logger.error("getProjectIdByTaskId: Task not found with ID: {}", taskId);
-          return new TaskNotFoundException("Task not found.");
-        });
-  }
-
+  @Coalesced
+  @Transactional(readOnly = true)
   public Page<TaskDto> findByProjectIdAndStatusAndPriority(Long projectId, String status,
       String priority, Pageable pageable) {
     if (projectId == null) {
@@ -225,6 +218,9 @@ public class TaskService {
       projectRepository.save(project);
     }
 
+    projectStatsService.recordTaskTransition(project.getId(), null, Status.IN_PROGRESS);
+    eventPublisher.publishEvent(new ProjectChangedEvent(project.getId()));
+
     logger.info("createAndAssignTask: Created and assigned task {} to user {} for project {}",
         savedTask.getName(), user.getUsername(), project.getId());
     return convertToDto(savedTask);
@@ -297,6 +293,8 @@ public class TaskService {
     task.setDueDate(taskDto.getDueDate());
 
     Task updatedTask = taskRepository.save(task);
+    projectStatsService.recordActivity(project.getId());
+    eventPublisher.publishEvent(new ProjectChangedEvent(project.getId()));
     logger.info("updateTask: Updated task with ID: {}", taskId);
     return convertToDto(updatedTask);
   }
@@ -407,6 +405,8 @@ public class TaskService {
 
     taskRepository.save(task);
     userRepository.save(newUser);
+    projectStatsService.recordActivity(task.getProject().getId());
+    eventPublisher.publishEvent(new ProjectChangedEvent(task.getProject().getId()));
 
     logger.info("reassignTaskToTeamMember: Reassigned task {} to user {}", taskId,
         newUser.getUsername());
@@ -448,10 +448,14 @@ public class TaskService {
           "Cannot complete a task in a completed or cancelled project.");
     }
 
+    Status previousStatus = task.getStatus();
     task.setStatus(Status.COMPLETED);
     task.setCompletionDate(LocalDate.now());
 
     Task completedTask = taskRepository.save(task);
+    projectStatsService.recordTaskTransition(task.getProject().getId(), previousStatus,
+        Status.COMPLETED);
+    eventPublisher.publishEvent(new ProjectChangedEvent(task.getProject().getId()));
 
     logger.info("completeTask: Task {} has been completed.", taskId);
     return convertToDto(completedTask);
@@ -501,11 +505,14 @@ public class TaskService {
       throw new IllegalStateException("Cannot cancel a completed or cancelled task.");
     }
 
+    Status previousStatus = task.getStatus();
     task.setStatus(Status.CANCELLED);
     task.setPriority(Priority.LOW);
     task.setCompletionDate(null);
 
     Task cancelledTask = taskRepository.save(task);
+    projectStatsService.recordTaskTransition(projectId, previousStatus, Status.CANCELLED);
+    eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
     logger.info("removeTaskFromProject: Task with ID: {} has been removed from project with ID: {}",
         taskId, projectId);
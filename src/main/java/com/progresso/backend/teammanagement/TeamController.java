@@ -1,6 +1,8 @@
 package com.progresso.backend.teammanagement;
 
 import com.progresso.backend.dto.TeamDto;
+import com.progresso.backend.versioning.ResourceType;
+import com.progresso.backend.versioning.ResourceVersionService;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.util.List;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/teams")
@@ -27,10 +30,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class TeamController {
 
   private final TeamService teamService;
+  private final ResourceVersionService resourceVersionService;
 
   @Autowired
-  public TeamController(TeamService teamService) {
+  public TeamController(TeamService teamService,
+      ResourceVersionService resourceVersionService) {
     this.teamService = teamService;
+    this.resourceVersionService = resourceVersionService;
   }
 
   @PreAuthorize("hasAuthority('ADMIN')")
@@ -44,9 +50,11 @@ public class TeamController {
   }
 
   @GetMapping("/{teamId}")
-  public ResponseEntity<TeamDto> getTeamById(@PathVariable Long teamId) {
-    TeamDto teamDto = teamService.getTeamById(teamId);
-    return ResponseEntity.ok(teamDto);
+  public ResponseEntity<TeamDto> getTeamById(@PathVariable Long teamId,
+      WebRequest webRequest) {
+    String etag = resourceVersionService.etag(ResourceType.TEAM, teamId);
+    return resourceVersionService.conditionalGet(webRequest, etag,
+        () -> teamService.getTeamById(teamId));
   }
 
   @PreAuthorize("hasAuthority('ADMIN') or hasAuthority('PROJECTMANAGER')")
@@ -14,7 +14,6 @@ import com.progresso.backend.exception.UserNotActiveException;
 import com.progresso.backend.exception.UserNotFoundException;
 import com.progresso.backend.taskmanagement.TaskRepository;
 import com.progresso.backend.usermanagement.UserRepository;
-import jakarta.transaction.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import org.slf4j.Logger;
@@ -23,6 +22,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 @Service
@@ -57,6 +57,7 @@ public class TeamService {
     return teamDto;
   }
 
+  @Transactional(readOnly = true)
   @SuppressWarnings("checkstyle:LineLength")
   public boolean isProjectManagerOfTeamProjects(Long teamId, String username) {
     if (teamId == null || username == null || username.isEmpty()) {
@@ -99,8 +100,8 @@ public class TeamService {
     return isProjectManager;
   }
 
+  @Transactional(readOnly = true)
   public boolean isTeamMemberOfTeam(Long teamId, String username) {
-    logger.info("Checking if user {} is a member of team {}", username, teamId);
     if (teamId == null || username == null || username.isEmpty()) {
       logger.error("isTeamMemberOfTeam: Team ID and username cannot be null or empty.");
       throw new IllegalArgumentException("Team ID and username cannot be null or empty.");
@@ -119,11 +120,13 @@ public class TeamService {
 
     boolean isMember = team.getTeamMembers().stream().map(User::getUsername)
         .anyMatch(username::equals);
-    logger.info("User {} is a member of team {}: {}", username, teamId, isMember);
+    logger.info("isTeamMemberOfTeam: User {} is {}a member of team with ID: {}", username,
+        isMember ? "" : "not ", teamId);
 
     return isMember;
   }
 
+  @Transactional(readOnly = true)
   public TeamDto getTeamById(Long id) {
     if (id == null) {
       logger.error("getTeamById: Team id cannot be null.");
@@ -141,6 +144,7 @@ public class TeamService {
         });
   }
 
+  @Transactional(readOnly = true)
   public Page<TeamDto> getAllTeamsWithFilters(Boolean active, String searchTerm,
       Pageable pageable) {
     String processedSearchTerm =
@@ -158,6 +162,7 @@ public class TeamService {
     return teamsDto;
   }
 
+  @Transactional(readOnly = true)
   @SuppressWarnings("checkstyle:LineLength")
   public Page<TeamDto> getTeamsWithoutActiveProjects(Pageable pageable, String searchTerm) {
     List<Status> activeStatuses = List.of(Status.NOT_STARTED, Status.IN_PROGRESS);
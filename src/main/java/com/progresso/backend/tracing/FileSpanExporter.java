@@ -0,0 +1,109 @@
+package com.progresso.backend.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Appends exported spans to a file, one JSON object per line. Writes are serialized with a
+ * lock rather than a monitor, so a virtual thread blocked on the file does not pin its carrier.
+ */
+public class FileSpanExporter implements SpanExporter {
+
+  private static final Logger logger = LoggerFactory.getLogger(FileSpanExporter.class);
+
+  private final ObjectMapper objectMapper;
+  private final BufferedWriter writer;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  public FileSpanExporter(Path file, ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    try {
+      if (file.getParent() != null) {
+        Files.createDirectories(file.getParent());
+      }
+      this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot open span export file " + file, e);
+    }
+  }
+
+  @Override
+  public CompletableResultCode export(Collection<SpanData> spans) {
+    lock.lock();
+    try {
+      for (SpanData span : spans) {
+        writer.write(objectMapper.writeValueAsString(toMap(span)));
+        writer.newLine();
+      }
+      writer.flush();
+      return CompletableResultCode.ofSuccess();
+    } catch (IOException e) {
+      logger.warn("export: Failed to write {} spans: {}", spans.size(), e.getMessage());
+      return CompletableResultCode.ofFailure();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public CompletableResultCode flush() {
+    lock.lock();
+    try {
+      writer.flush();
+      return CompletableResultCode.ofSuccess();
+    } catch (IOException e) {
+      return CompletableResultCode.ofFailure();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    lock.lock();
+    try {
+      writer.close();
+      return CompletableResultCode.ofSuccess();
+    } catch (IOException e) {
+      return CompletableResultCode.ofFailure();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  static Map<String, Object> toMap(SpanData span) {
+    Map<String, Object> json = new LinkedHashMap<>();
+    json.put("traceId", span.getTraceId());
+    json.put("spanId", span.getSpanId());
+    json.put("parentSpanId", span.getParentSpanContext().isValid()
+        ? span.getParentSpanId() : null);
+    json.put("name", span.getName());
+    json.put("kind", span.getKind().name());
+    json.put("start", Instant.ofEpochSecond(0, span.getStartEpochNanos()).toString());
+    json.put("durationMicros",
+        TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()));
+    json.put("status", span.getStatus().getStatusCode().name());
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+    json.put("attributes", attributes);
+    return json;
+  }
+}
@@ -0,0 +1,140 @@
+package com.progresso.backend.tracing;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Tail sampling by latency: ended spans are held per trace until the local root span (the
+ * request, or a scheduled job) ends, and the whole trace is passed on only when the root took at
+ * least the threshold. Fast traces are dropped without being exported.
+ *
+ * <p>At most {@code maxTraces} traces and {@code maxSpansPerTrace} spans per trace are held;
+ * traces whose root never ends locally are discarded after {@code maxTraceAgeMillis}.
+ */
+public class SlowTraceSpanProcessor implements SpanProcessor {
+
+  private final SpanProcessor delegate;
+  private final long thresholdNanos;
+  private final int maxTraces;
+  private final int maxSpansPerTrace;
+  private final long maxTraceAgeNanos;
+  private final LongSupplier nanoClock;
+  private final Map<String, PendingTrace> pending = new ConcurrentHashMap<>();
+
+  public SlowTraceSpanProcessor(SpanProcessor delegate, long thresholdMillis, int maxTraces,
+      int maxSpansPerTrace, long maxTraceAgeMillis) {
+    this(delegate, thresholdMillis, maxTraces, maxSpansPerTrace, maxTraceAgeMillis,
+        System::nanoTime);
+  }
+
+  SlowTraceSpanProcessor(SpanProcessor delegate, long thresholdMillis, int maxTraces,
+      int maxSpansPerTrace, long maxTraceAgeMillis, LongSupplier nanoClock) {
+    this.delegate = delegate;
+    this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    this.maxTraces = maxTraces;
+    this.maxSpansPerTrace = maxSpansPerTrace;
+    this.maxTraceAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxTraceAgeMillis);
+    this.nanoClock = nanoClock;
+  }
+
+  @Override
+  public void onStart(Context parentContext, ReadWriteSpan span) {
+  }
+
+  @Override
+  public boolean isStartRequired() {
+    return false;
+  }
+
+  @Override
+  public void onEnd(ReadableSpan span) {
+    String traceId = span.getSpanContext().getTraceId();
+    SpanContext parent = span.getParentSpanContext();
+    if (parent.isValid() && !parent.isRemote()) {
+      hold(traceId, span);
+      return;
+    }
+
+    PendingTrace trace = pending.remove(traceId);
+    if (span.getLatencyNanos() < thresholdNanos) {
+      return;
+    }
+    if (trace != null) {
+      trace.spans().forEach(delegate::onEnd);
+    }
+    delegate.onEnd(span);
+  }
+
+  @Override
+  public boolean isEndRequired() {
+    return true;
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    pending.clear();
+    return delegate.shutdown();
+  }
+
+  @Override
+  public CompletableResultCode forceFlush() {
+    return delegate.forceFlush();
+  }
+
+  int pendingTraces() {
+    return pending.size();
+  }
+
+  private void hold(String traceId, ReadableSpan span) {
+    PendingTrace trace = pending.get(traceId);
+    if (trace == null) {
+      if (pending.size() >= maxTraces) {
+        evictStale();
+        if (pending.size() >= maxTraces) {
+          return;
+        }
+      }
+      trace = pending.computeIfAbsent(traceId, id -> new PendingTrace(nanoClock.getAsLong()));
+    }
+    trace.add(span, maxSpansPerTrace);
+  }
+
+  private void evictStale() {
+    long oldest = nanoClock.getAsLong() - maxTraceAgeNanos;
+    pending.values().removeIf(trace -> trace.createdNanos() - oldest < 0);
+  }
+
+  private static final class PendingTrace {
+
+    private final long createdNanos;
+    private final List<ReadableSpan> spans = new ArrayList<>();
+
+    PendingTrace(long createdNanos) {
+      this.createdNanos = createdNanos;
+    }
+
+    long createdNanos() {
+      return createdNanos;
+    }
+
+    synchronized void add(ReadableSpan span, int maxSpans) {
+      if (spans.size() < maxSpans) {
+        spans.add(span);
+      }
+    }
+
+    synchronized List<ReadableSpan> spans() {
+      return new ArrayList<>(spans);
+    }
+  }
+}
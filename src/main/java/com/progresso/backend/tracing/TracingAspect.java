@@ -0,0 +1,104 @@
+package com.progresso.backend.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Opens a span around every service and repository call, named {@code Class.method}. Ordered
+ * first, so a service span also covers its transaction's commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingAspect {
+
+  private final Tracer tracer;
+  private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+  @Autowired
+  public TracingAspect(Tracer tracer) {
+    this.tracer = tracer;
+  }
+
+  @Around("execution(public * *(..)) && ("
+      + "within(com.progresso.backend.projectmanagement.ProjectService) "
+      + "|| within(com.progresso.backend.taskmanagement.TaskService) "
+      + "|| within(com.progresso.backend.teammanagement.TeamService) "
+      + "|| within(com.progresso.backend.commentmanagement.CommentService) "
+      + "|| within(com.progresso.backend.usermanagement.UserService) "
+      + "|| within(com.progresso.backend.authsubsystem.AuthService))")
+  public Object traceServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+    return trace(joinPoint, "service",
+        joinPoint.getSignature().getDeclaringType().getSimpleName());
+  }
+
+  @Around("execution(public * *(..)) && this(org.springframework.data.repository.Repository)")
+  public Object traceRepositoryMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+    return trace(joinPoint, "repository", repositoryName(joinPoint.getThis().getClass()));
+  }
+
+  private Object trace(ProceedingJoinPoint joinPoint, String component, String type)
+      throws Throwable {
+    String method = joinPoint.getSignature().getName();
+    Span span = tracer.nextSpan().name(type + "." + method)
+        .tag("component", component)
+        .tag("class", type)
+        .tag("method", method)
+        .start();
+
+    Object result;
+    try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+      result = joinPoint.proceed();
+    } catch (Throwable e) {
+      span.error(e).end();
+      throw e;
+    }
+
+    if (result instanceof CompletionStage<?> stage) {
+      return stage.whenComplete((value, e) -> {
+        if (e != null) {
+          span.error(unwrap(e));
+        }
+        span.end();
+      });
+    }
+    span.end();
+    return result;
+  }
+
+  /**
+   * The application's repository interface rather than the Spring Data interface declaring the
+   * method (e.g. {@code ProjectRepository}, not {@code CrudRepository}).
+   */
+  private String repositoryName(Class<?> proxyClass) {
+    return repositoryNames.computeIfAbsent(proxyClass, type -> {
+      for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+        if (Repository.class.isAssignableFrom(candidate)
+            && candidate.getName().startsWith("com.progresso.")) {
+          return candidate.getSimpleName();
+        }
+      }
+      return type.getSimpleName();
+    });
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    if (error instanceof CompletionException && error.getCause() != null) {
+      return error.getCause();
+    }
+    return error;
+  }
+}
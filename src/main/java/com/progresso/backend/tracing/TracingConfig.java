@@ -0,0 +1,45 @@
+package com.progresso.backend.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.tracing.SpanExporters;
+import org.springframework.boot.actuate.autoconfigure.tracing.SpanProcessors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Every request is traced, but only traces of requests slower than
+ * {@code tracing.slow-request-threshold-ms} reach the span exporters: the file exporter below or
+ * any other {@code SpanExporter} bean, such as an in-memory one in tests.
+ */
+@Configuration
+public class TracingConfig {
+
+  /**
+   * Puts the slow-trace filter in front of Boot's exporting processor, which would otherwise be
+   * registered with the tracer directly and export every span.
+   */
+  @Bean
+  public SpanProcessors spanProcessors(SpanExporters spanExporters,
+      BatchSpanProcessor otelSpanProcessor,
+      @Value("${tracing.slow-request-threshold-ms:500}") long thresholdMillis,
+      @Value("${tracing.max-pending-traces:1000}") int maxTraces,
+      @Value("${tracing.max-spans-per-trace:500}") int maxSpansPerTrace,
+      @Value("${tracing.max-trace-age-ms:60000}") long maxTraceAgeMillis) {
+    if (spanExporters.list().isEmpty()) {
+      return SpanProcessors.of();
+    }
+    return SpanProcessors.of(new SlowTraceSpanProcessor(otelSpanProcessor, thresholdMillis,
+        maxTraces, maxSpansPerTrace, maxTraceAgeMillis));
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "tracing.export.file")
+  public FileSpanExporter fileSpanExporter(@Value("${tracing.export.file}") String file,
+      ObjectMapper objectMapper) {
+    return new FileSpanExporter(Path.of(file), objectMapper);
+  }
+}
@@ -2,6 +2,8 @@ package com.progresso.backend.usermanagement;
 
 import com.progresso.backend.dto.UserResponseDto;
 import com.progresso.backend.dto.UserUpdateDtoAdmin;
+import com.progresso.backend.versioning.ResourceType;
+import com.progresso.backend.versioning.ResourceVersionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,21 +14,28 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
 
   private final UserService userService;
+  private final ResourceVersionService resourceVersionService;
 
   @Autowired
-  public UserController(UserService userService) {
+  public UserController(UserService userService,
+      ResourceVersionService resourceVersionService) {
     this.userService = userService;
+    this.resourceVersionService = resourceVersionService;
   }
 
   @GetMapping("/{userId}")
-  public ResponseEntity<UserResponseDto> getUserById(@PathVariable Long userId) {
-    return ResponseEntity.ok(userService.getUserById(userId));
+  public ResponseEntity<UserResponseDto> getUserById(@PathVariable Long userId,
+      WebRequest webRequest) {
+    String etag = resourceVersionService.etag(ResourceType.USER, userId);
+    return resourceVersionService.conditionalGet(webRequest, etag,
+        () -> userService.getUserById(userId));
   }
 
   @PreAuthorize("hasAuthority('ADMIN')")
@@ -40,29 +49,32 @@ public class UserController {
   public ResponseEntity<Page<UserResponseDto>> getAllUsers(Pageable pageable,
       @RequestParam(required = false) String searchTerm,
       @RequestParam(required = false) String role,
-      @RequestParam(required = false) Boolean active) {
+      @RequestParam(required = false) Boolean active,
+      @RequestParam(defaultValue = "true") boolean includeIds) {
     Page<UserResponseDto> usersDto = userService.getAllUsersWithFilters(pageable, searchTerm, role,
         active);
-    return ResponseEntity.ok(usersDto);
+    return ResponseEntity.ok(withIdLists(usersDto, includeIds));
   }
 
   @PreAuthorize("hasAuthority('ADMIN')")
   @GetMapping("/available-project-managers")
   public ResponseEntity<Page<UserResponseDto>> getAvailablePms(Pageable pageable,
-      @RequestParam(required = false) String searchTerm) {
+      @RequestParam(required = false) String searchTerm,
+      @RequestParam(defaultValue = "true") boolean includeIds) {
     Page<UserResponseDto> usersDto = userService.getAvailableProjectManagers(pageable, searchTerm);
-    return ResponseEntity.ok(usersDto);
+    return ResponseEntity.ok(withIdLists(usersDto, includeIds));
   }
 
   @PreAuthorize("hasAuthority('ADMIN') or hasAuthority('PROJECTMANAGER')")
   @GetMapping("/available-team-members")
   public ResponseEntity<Page<UserResponseDto>> getAvailableTeamMembers(
       @RequestParam(required = false) String searchTerm,
+      @RequestParam(defaultValue = "true") boolean includeIds,
       Pageable pageable) {
 
     Page<UserResponseDto> availableMembers = userService.getAvailableTeamMembers(pageable,
         searchTerm);
-    return ResponseEntity.ok(availableMembers);
+    return ResponseEntity.ok(withIdLists(availableMembers, includeIds));
   }
 
   @PreAuthorize("hasAuthority('ADMIN') "
@@ -72,10 +84,27 @@ public class UserController {
   public ResponseEntity<Page<UserResponseDto>> getUsersByTeamId(
       @PathVariable Long teamId,
       @RequestParam(required = false) String searchTerm,
+      @RequestParam(defaultValue = "true") boolean includeIds,
       Pageable pageable) {
 
     Page<UserResponseDto> users = userService.getUsersByTeamId(teamId, pageable, searchTerm);
 
-    return ResponseEntity.ok(users);
+    return ResponseEntity.ok(withIdLists(users, includeIds));
+  }
+
+  /**
+   * {@code includeIds=false} drops the unbounded ID lists from list responses.
+   */
+  private static Page<UserResponseDto> withIdLists(Page<UserResponseDto> users,
+      boolean includeIds) {
+    if (!includeIds) {
+      users.forEach(user -> {
+        user.setAssignedTaskIds(null);
+        user.setManagedProjectIds(null);
+        user.setTeamIds(null);
+        user.setCommentIds(null);
+      });
+    }
+    return users;
   }
 }
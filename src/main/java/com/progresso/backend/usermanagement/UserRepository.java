@@ -1,20 +1,33 @@
 package com.progresso.backend.usermanagement;
 
+import com.progresso.backend.dto.UserCredentials;
+import com.progresso.backend.dto.WorkloadCount;
 import com.progresso.backend.entity.User;
 import com.progresso.backend.enumeration.Role;
+import com.progresso.backend.enumeration.Status;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-
-  Optional<User> findByUsername(String username);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
   Optional<User> findByEmail(String email);
 
+  /**
+   * What authenticating a request needs, without hydrating the user's eager associations.
+   */
+  @Query("SELECT u.username AS username, u.password AS password, u.role AS role, "
+      + "u.active AS active, u.tokenVersion AS tokenVersion FROM User u "
+      + "WHERE u.username = :username")
+  Optional<UserCredentials> findCredentialsByUsername(@Param("username") String username);
+
   @Query("SELECT COUNT(u) FROM User u WHERE  u.role = :role")
   int countByRole(@Param("role") Role role);
 
@@ -145,4 +158,47 @@ public interface UserRepository extends JpaRepository<User, Long> {
       @Param("teamId") Long teamId,
       @Param("searchTerm") String searchTerm,
       Pageable pageable);
+
+  @Query("SELECT u.id AS userId, u.username AS username, u.firstName AS firstName, "
+      + "u.lastName AS lastName, "
+      + "COALESCE(SUM(CASE WHEN t.status <> :completed AND t.status <> :cancelled "
+      + "THEN 1 ELSE 0 END), 0) AS openTasks, "
+      + "COALESCE(SUM(CASE WHEN t.status <> :completed AND t.status <> :cancelled "
+      + "AND t.dueDate < :today THEN 1 ELSE 0 END), 0) AS overdueTasks, "
+      + "COALESCE(SUM(CASE WHEN t.status <> :completed AND t.status <> :cancelled "
+      + "AND t.dueDate >= :today AND t.dueDate <= :in7Days THEN 1 ELSE 0 END), 0) "
+      + "AS tasksDueNext7Days, "
+      + "COALESCE(SUM(CASE WHEN t.status <> :completed AND t.status <> :cancelled "
+      + "AND t.dueDate >= :today AND t.dueDate <= :in30Days THEN 1 ELSE 0 END), 0) "
+      + "AS tasksDueNext30Days, "
+      + "COALESCE(SUM(CASE WHEN t.status = :completed THEN 1 ELSE 0 END), 0) AS completedTasks "
+      + "FROM User u LEFT JOIN u.assignedTasks t "
+      + "WHERE u.role = :role AND u.active = true "
+      + "AND (:teamId IS NULL OR EXISTS ("
+      + "SELECT tm FROM Team team JOIN team.teamMembers tm WHERE team.id = :teamId AND tm = u)) "
+      + "GROUP BY u.id, u.username, u.firstName, u.lastName")
+  List<WorkloadCount> aggregateWorkload(
+      @Param("teamId") Long teamId,
+      @Param("role") Role role,
+      @Param("completed") Status completed,
+      @Param("cancelled") Status cancelled,
+      @Param("today") LocalDate today,
+      @Param("in7Days") LocalDate in7Days,
+      @Param("in30Days") LocalDate in30Days);
+
+  @Query("SELECT u FROM User u WHERE u.role = :role AND u.active = true "
+      + "AND (:teamId IS NULL OR EXISTS ("
+      + "SELECT tm FROM Team team JOIN team.teamMembers tm WHERE team.id = :teamId AND tm = u))")
+  List<User> findActiveByRoleAndTeam(
+      @Param("teamId") Long teamId,
+      @Param("role") Role role);
+
+  @Modifying
+  @Transactional
+  @Query("UPDATE User u SET u.password = :newHash "
+      + "WHERE u.id = :userId AND u.password = :currentHash")
+  int updatePassword(
+      @Param("userId") Long userId,
+      @Param("currentHash") String currentHash,
+      @Param("newHash") String newHash);
 }
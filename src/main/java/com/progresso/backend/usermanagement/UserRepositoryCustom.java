@@ -0,0 +1,13 @@
+package com.progresso.backend.usermanagement;
+
+import com.progresso.backend.entity.User;
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+  /**
+   * Resolves the user through the username natural id, so repeated lookups (every authenticated
+   * request) are served by the second-level cache.
+   */
+  Optional<User> findByUsername(String username);
+}
@@ -0,0 +1,27 @@
+package com.progresso.backend.usermanagement;
+
+import com.progresso.backend.entity.User;
+import jakarta.persistence.EntityManager;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+  private final EntityManager entityManager;
+
+  public UserRepositoryCustomImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<User> findByUsername(String username) {
+    if (username == null) {
+      return Optional.empty();
+    }
+    return entityManager.unwrap(Session.class)
+        .bySimpleNaturalId(User.class)
+        .loadOptional(username);
+  }
+}
@@ -21,6 +21,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 @Service
@@ -71,6 +72,7 @@ public class UserService {
     return convertToDtoCommon(user);
   }
 
+  @Transactional(readOnly = true)
   public UserResponseDto getUserById(Long id) {
     if (id == null) {
       logger.error("getUserById: User id cannot be null.");
@@ -88,6 +90,7 @@ public class UserService {
     }
   }
 
+  @Transactional(readOnly = true)
   public UserUpdateDtoAdmin getUserDetailsAdmin(Long userId) {
     if (userId == null) {
       logger.error("getUserDetailsAdmin: User id cannot be null.");
@@ -111,6 +114,7 @@ public class UserService {
     );
   }
 
+  @Transactional(readOnly = true)
   @SuppressWarnings("checkstyle:LineLength")
   public Page<UserResponseDto> getAllUsersWithFilters(Pageable pageable, String searchTerm,
       String role, Boolean active) {
@@ -146,6 +150,7 @@ public class UserService {
     return usersDto;
   }
 
+  @Transactional(readOnly = true)
   public Page<UserResponseDto> getAvailableProjectManagers(Pageable pageable, String searchTerm) {
     logger.info(
         "getAvailableProjectManagers: Fetching available project managers with search term: {}",
@@ -171,6 +176,7 @@ public class UserService {
     return usersPage;
   }
 
+  @Transactional(readOnly = true)
   public Page<UserResponseDto> getAvailableTeamMembers(Pageable pageable, String searchTerm) {
     logger.info("getAvailableTeamMembers: Fetching available team members with searchTerm: {}",
         searchTerm);
@@ -197,6 +203,7 @@ public class UserService {
     return userPage;
   }
 
+  @Transactional(readOnly = true)
   public Page<UserResponseDto> getUsersByTeamId(Long teamId, Pageable pageable, String searchTerm) {
     if (teamId == null) {
       logger.error("getUsersByTeamId: Team ID cannot be null.");
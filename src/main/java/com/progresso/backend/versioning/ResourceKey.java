@@ -0,0 +1,18 @@
+package com.progresso.backend.versioning;
+
+import java.util.Comparator;
+
+/**
+ * Ordered so that concurrent transactions lock {@code resource_version} rows in the same order.
+ */
+record ResourceKey(ResourceType type, long id) implements Comparable<ResourceKey> {
+
+  private static final Comparator<ResourceKey> ORDER = Comparator
+      .comparing(ResourceKey::type)
+      .thenComparingLong(ResourceKey::id);
+
+  @Override
+  public int compareTo(ResourceKey other) {
+    return ORDER.compare(this, other);
+  }
+}
@@ -0,0 +1,10 @@
+package com.progresso.backend.versioning;
+
+/**
+ * Aggregates that carry a change stamp. A project's stamp also covers its task pages.
+ */
+public enum ResourceType {
+  PROJECT,
+  TEAM,
+  USER
+}
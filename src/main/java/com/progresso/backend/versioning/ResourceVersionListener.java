@@ -0,0 +1,257 @@
+package com.progresso.backend.versioning;
+
+import com.progresso.backend.entity.Comment;
+import com.progresso.backend.entity.Project;
+import com.progresso.backend.entity.Task;
+import com.progresso.backend.entity.Team;
+import com.progresso.backend.entity.User;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Works out which project, team and user representations a flushed change affects and bumps
+ * their {@code resource_version} rows just before the transaction commits, so a stamp never
+ * advances without the data behind it (and never stays behind after a commit).
+ */
+class ResourceVersionListener implements PostInsertEventListener, PostUpdateEventListener,
+    PostDeleteEventListener, PostCollectionRecreateEventListener,
+    PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+  static final String BUMP = "INSERT INTO resource_version (resource_type, resource_id, version) "
+      + "VALUES (?, ?, 1) ON DUPLICATE KEY UPDATE version = version + 1";
+
+  /**
+   * User properties shown on project responses and task pages.
+   */
+  private static final Set<String> DISPLAYED_USER_PROPERTIES = Set.of("firstName", "lastName",
+      "username");
+
+  private final Map<SessionImplementor, Set<ResourceKey>> pending = new ConcurrentHashMap<>();
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    enqueue(event.getSession(),
+        affectedBy(event.getEntity(), event.getPersister(), null, null));
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    enqueue(event.getSession(), affectedBy(event.getEntity(), event.getPersister(),
+        event.getOldState(), event.getDirtyProperties()));
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    enqueue(event.getSession(),
+        affectedBy(event.getEntity(), event.getPersister(), null, null));
+  }
+
+  @Override
+  public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+    onCollectionChange(event);
+  }
+
+  @Override
+  public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+    onCollectionChange(event);
+  }
+
+  @Override
+  public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+    onCollectionChange(event);
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  /**
+   * Resources whose representation changes with an entity. {@code oldState} is null for inserts
+   * and deletes, where every association of the entity counts as changed.
+   */
+  Set<ResourceKey> affectedBy(Object entity, EntityPersister persister, Object[] oldState,
+      int[] dirtyProperties) {
+    Set<ResourceKey> keys = new TreeSet<>();
+
+    if (entity instanceof Project project) {
+      add(keys, ResourceType.PROJECT, project.getId());
+      Team oldTeam = (Team) previous(persister, oldState, "team", project.getTeam());
+      User oldManager = (User) previous(persister, oldState, "projectManager",
+          project.getProjectManager());
+      if (oldState == null || !sameId(oldTeam, project.getTeam())) {
+        add(keys, ResourceType.TEAM, oldTeam);
+        add(keys, ResourceType.TEAM, project.getTeam());
+      }
+      if (oldState == null || !sameId(oldManager, project.getProjectManager())) {
+        add(keys, ResourceType.USER, oldManager);
+        add(keys, ResourceType.USER, project.getProjectManager());
+      }
+    } else if (entity instanceof Task task) {
+      add(keys, ResourceType.PROJECT, task.getProject());
+      add(keys, ResourceType.PROJECT,
+          previous(persister, oldState, "project", task.getProject()));
+      User oldAssignee = (User) previous(persister, oldState, "assignedUser",
+          task.getAssignedUser());
+      if (oldState == null || !sameId(oldAssignee, task.getAssignedUser())) {
+        add(keys, ResourceType.USER, oldAssignee);
+        add(keys, ResourceType.USER, task.getAssignedUser());
+      }
+    } else if (entity instanceof Comment comment) {
+      add(keys, ResourceType.PROJECT, comment.getProject());
+      add(keys, ResourceType.USER, comment.getUser());
+    } else if (entity instanceof Team team) {
+      add(keys, ResourceType.TEAM, team.getId());
+      if (oldState == null || isDirty(persister, dirtyProperties, Set.of("name"))) {
+        addAll(keys, ResourceType.PROJECT, team.getProjects());
+      }
+    } else if (entity instanceof User user) {
+      add(keys, ResourceType.USER, user.getId());
+      if (oldState != null && isDirty(persister, dirtyProperties, DISPLAYED_USER_PROPERTIES)) {
+        addAll(keys, ResourceType.PROJECT, user.getManagedProjects());
+        if (user.getAssignedTasks() != null) {
+          user.getAssignedTasks().forEach(task -> add(keys, ResourceType.PROJECT,
+              task.getProject()));
+        }
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * Team membership is owned by {@code User.teams}; both the user and every team that gained or
+   * lost the user change.
+   */
+  Set<ResourceKey> affectedBy(AbstractCollectionEvent event) {
+    Set<ResourceKey> keys = new TreeSet<>();
+    if (!(event.getAffectedOwnerOrNull() instanceof User user)
+        || !event.getCollection().getRole().endsWith(".teams")) {
+      return keys;
+    }
+    add(keys, ResourceType.USER, user.getId());
+    Set<ResourceKey> current = new TreeSet<>();
+    Set<ResourceKey> snapshot = new TreeSet<>();
+    if (event.getCollection() instanceof Collection<?> elements) {
+      addAll(current, ResourceType.TEAM, elements);
+    }
+    if (!(event instanceof PostCollectionRecreateEvent)
+        && event.getCollection().getStoredSnapshot() instanceof Collection<?> elements) {
+      addAll(snapshot, ResourceType.TEAM, elements);
+    }
+    for (ResourceKey team : current) {
+      if (!snapshot.remove(team)) {
+        keys.add(team);
+      }
+    }
+    keys.addAll(snapshot);
+    return keys;
+  }
+
+  private void onCollectionChange(AbstractCollectionEvent event) {
+    if (event.getCollection().getRole() != null) {
+      enqueue(event.getSession(), affectedBy(event));
+    }
+  }
+
+  private void enqueue(EventSource session, Set<ResourceKey> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    pending.computeIfAbsent(session, source -> {
+      source.getActionQueue().registerProcess(
+          (BeforeTransactionCompletionProcess) this::bump);
+      source.getActionQueue().registerProcess(
+          (AfterTransactionCompletionProcess) (success, completed) -> pending.remove(source));
+      return new TreeSet<>();
+    }).addAll(keys);
+  }
+
+  private void bump(SessionImplementor session) {
+    Set<ResourceKey> keys = pending.remove(session);
+    if (keys == null || keys.isEmpty()) {
+      return;
+    }
+    session.doWork(connection -> {
+      try (PreparedStatement statement = connection.prepareStatement(BUMP)) {
+        for (ResourceKey key : keys) {
+          statement.setString(1, key.type().name());
+          statement.setLong(2, key.id());
+          statement.addBatch();
+        }
+        statement.executeBatch();
+      }
+    });
+  }
+
+  private static Object previous(EntityPersister persister, Object[] oldState, String property,
+      Object current) {
+    return oldState == null ? current : oldState[persister.getPropertyIndex(property)];
+  }
+
+  private static boolean isDirty(EntityPersister persister, int[] dirtyProperties,
+      Set<String> properties) {
+    if (dirtyProperties == null) {
+      return true;
+    }
+    String[] names = persister.getPropertyNames();
+    for (int dirty : dirtyProperties) {
+      if (properties.contains(names[dirty])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean sameId(Object left, Object right) {
+    return Objects.equals(idOf(left), idOf(right));
+  }
+
+  private static void add(Set<ResourceKey> keys, ResourceType type, Object entityOrId) {
+    Long id = entityOrId instanceof Long value ? value : idOf(entityOrId);
+    if (id != null) {
+      keys.add(new ResourceKey(type, id));
+    }
+  }
+
+  private static void addAll(Set<ResourceKey> keys, ResourceType type, Collection<?> entities) {
+    if (entities != null) {
+      entities.forEach(entity -> add(keys, type, entity));
+    }
+  }
+
+  private static Long idOf(Object entity) {
+    if (entity instanceof Project project) {
+      return project.getId();
+    }
+    if (entity instanceof Team team) {
+      return team.getId();
+    }
+    if (entity instanceof User user) {
+      return user.getId();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,85 @@
+package com.progresso.backend.versioning;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * ETags for project, team and user resources, derived from the change stamps kept in
+ * {@code resource_version}. Checking a cached representation costs one primary-key lookup.
+ */
+@Service
+public class ResourceVersionService {
+
+  static final String SELECT_VERSION = "SELECT version FROM resource_version "
+      + "WHERE resource_type = ? AND resource_id = ?";
+
+  /**
+   * Lets clients keep representations but forces a revalidation on every use; without an
+   * explicit value Spring Security sends {@code no-store} and nothing would be revalidated.
+   */
+  private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public ResourceVersionService(EntityManagerFactory entityManagerFactory,
+      JdbcTemplate jdbcTemplate) {
+    this(entityManagerFactory.unwrap(SessionFactoryImplementor.class), jdbcTemplate);
+  }
+
+  ResourceVersionService(SessionFactoryImplementor sessionFactory, JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+
+    ResourceVersionListener listener = new ResourceVersionListener();
+    EventListenerRegistry listeners = sessionFactory.getServiceRegistry()
+        .requireService(EventListenerRegistry.class);
+    listeners.appendListeners(EventType.POST_INSERT, listener);
+    listeners.appendListeners(EventType.POST_UPDATE, listener);
+    listeners.appendListeners(EventType.POST_DELETE, listener);
+    listeners.appendListeners(EventType.POST_COLLECTION_RECREATE, listener);
+    listeners.appendListeners(EventType.POST_COLLECTION_UPDATE, listener);
+    listeners.appendListeners(EventType.POST_COLLECTION_REMOVE, listener);
+  }
+
+  /**
+   * Read-only so that, with replica routing, the stamp comes from the same kind of node as the
+   * representation and never runs ahead of it.
+   */
+  @Transactional(readOnly = true)
+  public String etag(ResourceType type, Long id) {
+    List<Long> versions = jdbcTemplate.queryForList(SELECT_VERSION, Long.class, type.name(), id);
+    String etag = type.name().toLowerCase(Locale.ROOT) + "-" + id + "-"
+        + (versions.isEmpty() ? 0L : versions.get(0));
+    // A project's priority is recomputed from the current date.
+    return type == ResourceType.PROJECT ? etag + "-" + LocalDate.now() : etag;
+  }
+
+  /**
+   * Answers {@code 304 Not Modified} when the request's {@code If-None-Match} matches, without
+   * building the body. The tag is sent as a weak validator: it identifies the data, not the
+   * bytes, and Tomcat does not gzip responses that carry a strong one.
+   */
+  public <T> ResponseEntity<T> conditionalGet(WebRequest request, String version,
+      Supplier<T> body) {
+    String etag = "W/\"" + version + "\"";
+    if (request.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).eTag(etag)
+          .build();
+    }
+    return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag).body(body.get());
+  }
+}
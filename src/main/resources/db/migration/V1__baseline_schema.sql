@@ -0,0 +1,126 @@
+-- Baseline schema, identical to what Hibernate generated with ddl-auto=update.
+-- Existing databases are baselined at this version instead of re-running it.
+
+create table comment (
+    deleted bit not null,
+    modified bit not null,
+    creation_date datetime(6) not null,
+    id bigint not null auto_increment,
+    modified_date datetime(6),
+    parent_id bigint,
+    project_id bigint not null,
+    user_id bigint not null,
+    content varchar(500) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table project (
+    completion_date date,
+    due_date date not null,
+    start_date date not null,
+    id bigint not null auto_increment,
+    project_manager_id bigint not null,
+    team_id bigint,
+    description varchar(255) not null,
+    name varchar(255) not null,
+    priority enum ('HIGH','LOW','MEDIUM'),
+    status enum ('CANCELLED','COMPLETED','IN_PROGRESS','NOT_STARTED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table task (
+    completion_date date,
+    due_date date not null,
+    start_date date not null,
+    assigned_user_id bigint,
+    id bigint not null auto_increment,
+    project_id bigint not null,
+    description varchar(255) not null,
+    name varchar(255) not null,
+    priority enum ('HIGH','LOW','MEDIUM') not null,
+    status enum ('CANCELLED','COMPLETED','IN_PROGRESS','NOT_STARTED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table team (
+    active bit not null,
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table user (
+    active bit not null,
+    birth_date date not null,
+    token_version integer not null,
+    id bigint not null auto_increment,
+    city varchar(255) not null,
+    country varchar(255) not null,
+    email varchar(255) not null,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    password varchar(255) not null,
+    phone_number varchar(255) not null,
+    state_province_region varchar(255) not null,
+    street_address varchar(255) not null,
+    username varchar(255) not null,
+    zip_code varchar(255) not null,
+    role enum ('ADMIN','PROJECTMANAGER','TEAMMEMBER') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table user_teams (
+    team_members_id bigint not null,
+    teams_id bigint not null
+) engine=InnoDB;
+
+alter table user
+   add constraint UKob8kqyqqgmefl0aco34akdtpe unique (email);
+
+alter table user
+   add constraint UKsb8bbouer5wak8vyiiy4pf2bx unique (username);
+
+alter table comment
+   add constraint FKde3rfu96lep00br5ov0mdieyt
+   foreign key (parent_id)
+   references comment (id);
+
+alter table comment
+   add constraint FKb5kenf6fjka6ck0snroeb5tmh
+   foreign key (project_id)
+   references project (id);
+
+alter table comment
+   add constraint FK8kcum44fvpupyw6f5baccx25c
+   foreign key (user_id)
+   references user (id);
+
+alter table project
+   add constraint FKfnapwc6fl0j2cpm9tvoi49ftn
+   foreign key (project_manager_id)
+   references user (id);
+
+alter table project
+   add constraint FK99hcloicqmg95ty11qht49n8x
+   foreign key (team_id)
+   references team (id);
+
+alter table task
+   add constraint FKoc64witx9tu41jkguqaeernus
+   foreign key (assigned_user_id)
+   references user (id);
+
+alter table task
+   add constraint FKk8qrwowg31kx7hp93sru1pdqa
+   foreign key (project_id)
+   references project (id);
+
+alter table user_teams
+   add constraint FKjqux92pssgho3pl0eh3vfx25l
+   foreign key (teams_id)
+   references team (id);
+
+alter table user_teams
+   add constraint FKl3g07v3qo2idhxvatcyux9iw4
+   foreign key (team_members_id)
+   references user (id);
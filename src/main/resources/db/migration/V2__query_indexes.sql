@@ -0,0 +1,39 @@
+-- Composite indexes for the repository queries on the request path.
+-- Equality columns come first, then the range or sort column.
+
+-- TaskRepository.findByProjectIdAndStatusAndPriority, countByStatusForProject,
+-- countByProjectAndStatusForScope
+create index idx_task_project_status_priority on task (project_id, status, priority);
+
+-- TaskRepository.existsByProjectIdAndName
+create index idx_task_project_name on task (project_id, name);
+
+-- TaskRepository.countOverdueForScope
+create index idx_task_status_due_date on task (status, due_date);
+
+-- UserRepository.aggregateWorkload (assigned tasks per user)
+create index idx_task_assigned_user_status on task (assigned_user_id, status, due_date);
+
+-- Manager-scoped project listings and counts, the active-project limit in
+-- findAvailableProjectManagers and countByProjectManagerAndStatusNotIn
+create index idx_project_manager_status on project (project_manager_id, status);
+
+-- Team-scoped project listings, countByTeamAndStatusNotIn and
+-- TeamRepository.findTeamsWithoutActiveProjects
+create index idx_project_team_status on project (team_id, status);
+
+-- ProjectRepository.findAllWithFilters and the status/priority breakdowns
+create index idx_project_status_priority on project (status, priority);
+
+-- ProjectRepository.countOverdueForScope
+create index idx_project_due_date_status on project (due_date, status);
+
+-- CommentRepository.findByProjectId, usually sorted by creation date
+create index idx_comment_project_creation on comment (project_id, creation_date);
+
+-- Membership checks in both directions: members of a team, teams of a user
+create index idx_user_teams_team_member on user_teams (teams_id, team_members_id);
+create index idx_user_teams_member_team on user_teams (team_members_id, teams_id);
+
+-- Role listings, countByRole and the available manager/member searches
+create index idx_user_role_active on user (role, active);
@@ -0,0 +1,9 @@
+-- Single-row heartbeat written on the primary by ReplicaLagMonitor; the value a
+-- replica has applied tells how far behind it is.
+create table replica_heartbeat (
+    id integer not null,
+    beat_millis bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+insert into replica_heartbeat (id, beat_millis) values (1, 0);
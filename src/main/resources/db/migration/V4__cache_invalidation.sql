@@ -0,0 +1,13 @@
+-- Second-level cache evictions shared between nodes by ClusterCacheInvalidator; entity_id is
+-- null when a whole region has to be dropped.
+create table cache_invalidation (
+    id bigint not null auto_increment,
+    node_id varchar(64) not null,
+    kind varchar(16) not null,
+    cache_role varchar(255) not null,
+    entity_id bigint,
+    created_at bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_cache_invalidation_created on cache_invalidation (created_at);
@@ -0,0 +1,8 @@
+-- Change stamps behind the ETags of project, team and user resources; bumped in the writing
+-- transaction by ResourceVersionListener. A missing row means version 0.
+create table resource_version (
+    resource_type varchar(16) not null,
+    resource_id bigint not null,
+    version bigint not null,
+    primary key (resource_type, resource_id)
+) engine=InnoDB;
@@ -0,0 +1,22 @@
+-- Per-project task counters maintained by ProjectStatsService, seeded from the existing tasks.
+create table project_stats (
+    cancelled_tasks bigint not null,
+    completed_tasks bigint not null,
+    in_progress_tasks bigint not null,
+    last_activity datetime(6),
+    project_id bigint not null,
+    total_tasks bigint not null,
+    primary key (project_id)
+) engine=InnoDB;
+
+insert into project_stats (project_id, total_tasks, in_progress_tasks, completed_tasks,
+    cancelled_tasks, last_activity)
+select p.id,
+    count(t.id),
+    coalesce(sum(case when t.status = 'IN_PROGRESS' then 1 else 0 end), 0),
+    coalesce(sum(case when t.status = 'COMPLETED' then 1 else 0 end), 0),
+    coalesce(sum(case when t.status = 'CANCELLED' then 1 else 0 end), 0),
+    null
+from project p
+left join task t on t.project_id = p.id
+group by p.id;
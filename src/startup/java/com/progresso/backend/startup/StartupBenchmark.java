@@ -0,0 +1,184 @@
+package com.progresso.backend.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures application startup in separate JVMs with the prod profile: the fat jar, the extracted
+ * jar, the extracted jar with an AppCDS archive, and the same with Spring AOT initializers. Each
+ * CDS variant first performs a training run that exits right after the context refresh.
+ */
+public final class StartupBenchmark {
+
+  private static final Logger logger = LoggerFactory.getLogger(StartupBenchmark.class);
+
+  private static final Pattern STARTED = Pattern.compile(
+      "Started \\S+ in ([0-9.]+) seconds \\(process running for ([0-9.]+)\\)");
+
+  private static final List<String> APP_ARGS = List.of(
+      "--spring.profiles.active=prod",
+      "--server.port=0",
+      "--spring.datasource.url=jdbc:h2:mem:startup;MODE=MySQL;NON_KEYWORDS=USER",
+      "--spring.datasource.driver-class-name=org.h2.Driver",
+      "--spring.datasource.username=sa",
+      "--spring.datasource.password=",
+      "--jwt.secret=StartupBenchmarkSecretKey123456789012345678901234567890",
+      "--logging.level.root=WARN",
+      "--logging.level.com.progresso.backend=INFO");
+
+  private final Path jar;
+  private final Path workDir;
+  private final int runs;
+  private final Path report;
+  private final String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+  private StartupBenchmark(Path jar, Path workDir, int runs, Path report) {
+    this.jar = jar;
+    this.workDir = workDir;
+    this.runs = runs;
+    this.report = report;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Path target = Path.of(System.getProperty("startup.target-dir", "target"));
+    new StartupBenchmark(
+        Path.of(System.getProperty("startup.jar")),
+        target.resolve("startup"),
+        Integer.getInteger("startup.runs", 5),
+        Path.of(System.getProperty("startup.report",
+            target.resolve("startup-report.json").toString())))
+        .run();
+  }
+
+  private void run() throws IOException, InterruptedException {
+    Files.createDirectories(workDir);
+    Path extracted = extract();
+
+    Map<String, Object> results = new LinkedHashMap<>();
+    results.put("jar", measure(List.of("-jar", jar.toString())));
+    results.put("extracted", measure(List.of("-jar", extracted.toString())));
+    results.put("extracted+cds", measure(withArchive("cds",
+        List.of("-jar", extracted.toString()))));
+    results.put("extracted+cds+aot", measure(withArchive("cds-aot",
+        List.of("-Dspring.aot.enabled=true", "-jar", extracted.toString()))));
+
+    Map<String, Object> output = new LinkedHashMap<>();
+    output.put("finishedAt", Instant.now().toString());
+    output.put("javaVersion", System.getProperty("java.version"));
+    output.put("runs", runs);
+    output.put("variants", results);
+
+    ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    Files.createDirectories(report.toAbsolutePath().getParent());
+    objectMapper.writeValue(report.toFile(), output);
+    logger.info("run: Startup report written to {}\n{}", report,
+        objectMapper.writeValueAsString(results));
+  }
+
+  private Path extract() throws IOException, InterruptedException {
+    Path destination = workDir.resolve("app");
+    execute(List.of(java, "-Djarmode=tools", "-jar", jar.toString(), "extract", "--destination",
+        destination.toString(), "--force"));
+    return destination.resolve(jar.getFileName());
+  }
+
+  /**
+   * Creates a dynamic AppCDS archive with a training run and returns the launch arguments that
+   * use it.
+   */
+  private List<String> withArchive(String name, List<String> launch)
+      throws IOException, InterruptedException {
+    Path archive = workDir.resolve(name + ".jsa");
+    Files.deleteIfExists(archive);
+
+    List<String> training = new ArrayList<>();
+    training.add(java);
+    training.add("-XX:ArchiveClassesAtExit=" + archive);
+    training.add("-Dspring.context.exit=onRefresh");
+    training.addAll(launch);
+    training.addAll(APP_ARGS);
+    execute(training);
+
+    List<String> arguments = new ArrayList<>();
+    arguments.add("-XX:SharedArchiveFile=" + archive);
+    arguments.addAll(launch);
+    return arguments;
+  }
+
+  private Map<String, Object> measure(List<String> launch)
+      throws IOException, InterruptedException {
+    List<Double> contextSeconds = new ArrayList<>();
+    List<Double> processSeconds = new ArrayList<>();
+    for (int i = 0; i < runs; i++) {
+      List<String> command = new ArrayList<>();
+      command.add(java);
+      command.addAll(launch);
+      command.addAll(APP_ARGS);
+      double[] started = startAndStop(command);
+      contextSeconds.add(started[0]);
+      processSeconds.add(started[1]);
+    }
+
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("contextSeconds", median(contextSeconds));
+    result.put("processSeconds", median(processSeconds));
+    result.put("processSecondsPerRun", processSeconds);
+    return result;
+  }
+
+  /**
+   * Launches the application, waits for Spring Boot's "Started" line and stops the process.
+   */
+  private double[] startAndStop(List<String> command) throws IOException, InterruptedException {
+    Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        Matcher matcher = STARTED.matcher(line);
+        if (matcher.find()) {
+          return new double[]{Double.parseDouble(matcher.group(1)),
+              Double.parseDouble(matcher.group(2))};
+        }
+      }
+    } finally {
+      process.destroy();
+      if (!process.waitFor(30, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+      }
+    }
+    throw new IllegalStateException("Application exited before it started: " + command);
+  }
+
+  private void execute(List<String> command) throws IOException, InterruptedException {
+    Process process = new ProcessBuilder(command).redirectErrorStream(true)
+        .redirectOutput(workDir.resolve("last-command.log").toFile()).start();
+    if (process.waitFor() != 0) {
+      throw new IllegalStateException("Command failed, see " + workDir.resolve(
+          "last-command.log") + ": " + command);
+    }
+  }
+
+  private static double median(List<Double> values) {
+    List<Double> sorted = values.stream().sorted().toList();
+    int middle = sorted.size() / 2;
+    return sorted.size() % 2 == 1 ? sorted.get(middle)
+        : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+  }
+}
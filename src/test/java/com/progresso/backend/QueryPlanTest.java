@@ -0,0 +1,283 @@
+package com.progresso.backend;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.progresso.backend.commentmanagement.CommentRepository;
+import com.progresso.backend.datagen.GeneratedDataset;
+import com.progresso.backend.datagen.SyntheticDataGenerator;
+import com.progresso.backend.datagen.SyntheticDataSpec;
+import com.progresso.backend.entity.Team;
+import com.progresso.backend.entity.User;
+import com.progresso.backend.enumeration.Priority;
+import com.progresso.backend.enumeration.Role;
+import com.progresso.backend.enumeration.Status;
+import com.progresso.backend.projectmanagement.ProjectRepository;
+import com.progresso.backend.taskmanagement.TaskRepository;
+import com.progresso.backend.teammanagement.TeamRepository;
+import com.progresso.backend.usermanagement.UserRepository;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs the hot repository queries against the migrated schema, then EXPLAINs every SQL
+ * statement they issued, bound to the values it ran with, and fails if one of them scans a whole
+ * table.
+ */
+@SpringBootTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:queryplan;MODE=MySQL;NON_KEYWORDS=USER")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+  private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private ProjectRepository projectRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private CommentRepository commentRepository;
+
+  @Autowired
+  private TeamRepository teamRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private GeneratedDataset dataset;
+
+  @BeforeAll
+  void seed() {
+    dataset = new SyntheticDataGenerator(jdbcTemplate, passwordEncoder).generate(
+        new SyntheticDataSpec(400, 40, 300, 6_000, 6_000, 7L, 1_000, 2, 3, "password123"));
+    jdbcTemplate.execute("ANALYZE");
+    assertTrue(dataSource instanceof ProxyDataSource, "SQL statement tracking is disabled");
+    ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener()
+        .addListener(new SqlRecorder());
+  }
+
+  @BeforeEach
+  void clearStatements() {
+    statements.clear();
+  }
+
+  @Test
+  void tasksOfProject_UseProjectIndexes() {
+    taskRepository.findByProjectIdAndStatusAndPriority(1L, Status.IN_PROGRESS, Priority.HIGH,
+        PageRequest.of(0, 20));
+    taskRepository.countByStatusForProject(1L);
+    taskRepository.existsByProjectIdAndName(1L, "Task 1");
+
+    assertNoFullScan("task");
+    assertUsesIndex("IDX_TASK_PROJECT_STATUS_PRIORITY");
+    assertUsesIndex("IDX_TASK_PROJECT_NAME");
+  }
+
+  @Test
+  void overdueTasks_UseStatusDueDateIndex() {
+    taskRepository.countOverdueForScope(null, null, LocalDate.now(), Status.IN_PROGRESS);
+
+    assertNoFullScan("task");
+    assertUsesIndex("IDX_TASK_STATUS_DUE_DATE");
+  }
+
+  @Test
+  void commentsOfProject_UseProjectIndex() {
+    commentRepository.findByProjectId(1L,
+        PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "creationDate")));
+
+    assertNoFullScan("comment");
+  }
+
+  @Test
+  void statusBreakdown_UsesStatusPriorityIndex() {
+    projectRepository.countByStatusForScope(null, null);
+
+    assertNoFullScan("project");
+    assertUsesIndex("IDX_PROJECT_STATUS_PRIORITY");
+  }
+
+  @Test
+  void overdueProjects_UseDueDateStatusIndex() {
+    projectRepository.countOverdueForScope(null, null, LocalDate.now(),
+        List.of(Status.COMPLETED, Status.CANCELLED));
+
+    assertNoFullScan("project");
+    assertUsesIndex("IDX_PROJECT_DUE_DATE_STATUS");
+  }
+
+  @Test
+  void workload_UsesAssignedUserIndex() {
+    LocalDate today = LocalDate.now();
+    userRepository.aggregateWorkload(null, Role.TEAMMEMBER, Status.COMPLETED, Status.CANCELLED,
+        today, today.plusDays(7), today.plusDays(30));
+
+    assertNoFullScan("task", "user");
+    assertUsesIndex("IDX_TASK_ASSIGNED_USER_STATUS");
+  }
+
+  @Test
+  void usersByRole_UseRoleIndex() {
+    userRepository.countByRole(Role.ADMIN);
+    userRepository.findActiveByRoleAndTeam(null, Role.PROJECTMANAGER);
+
+    assertNoFullScan("user");
+    assertUsesIndex("IDX_USER_ROLE_ACTIVE");
+  }
+
+  @Test
+  void projectsOfManager_UseManagerIndex() {
+    GeneratedDataset.Member manager = dataset.projectManagers().get(0);
+    projectRepository.findByProjectManagerUsernameAndFilters(manager.username(), null, null,
+        null, PageRequest.of(0, 20));
+    User managerEntity = userRepository.findById(manager.id()).orElseThrow();
+    projectRepository.countByProjectManagerAndStatusNotIn(managerEntity,
+        List.of(Status.COMPLETED, Status.CANCELLED));
+
+    assertNoFullScan("project", "user");
+    assertUsesIndex("IDX_PROJECT_MANAGER_STATUS");
+  }
+
+  @Test
+  void projectsOfTeamMember_UseMembershipAndTeamIndexes() {
+    GeneratedDataset.Member member = dataset.teamMembers().stream()
+        .filter(candidate -> !candidate.teamIds().isEmpty())
+        .findFirst().orElseThrow();
+    projectRepository.findByTeamMemberUsernameAndFilters(member.username(), null, null, null,
+        PageRequest.of(0, 20));
+    Team team = teamRepository.findById(member.teamIds().get(0)).orElseThrow();
+    projectRepository.countByTeamAndStatusNotIn(team,
+        List.of(Status.COMPLETED, Status.CANCELLED));
+
+    assertNoFullScan("project", "user_teams");
+    assertUsesIndex("IDX_PROJECT_TEAM_STATUS");
+  }
+
+  @Test
+  void usersOfTeam_UseMembershipIndex() {
+    userRepository.findUsersByTeamId(1L, null, PageRequest.of(0, 20));
+
+    assertNoFullScan("user_teams");
+    assertUsesIndex("IDX_USER_TEAMS_TEAM_MEMBER");
+  }
+
+  @Test
+  void projectAccess_UsesKeysOnly() {
+    GeneratedDataset.Member member = dataset.teamMembers().stream()
+        .filter(candidate -> !candidate.teamIds().isEmpty())
+        .findFirst().orElseThrow();
+    projectRepository.findProjectRole(1L, member.username());
+    taskRepository.findProjectRole(1L, member.username());
+    commentRepository.findAuthorUsername(1L);
+
+    assertNoFullScan("project", "task", "comment", "user", "user_teams");
+  }
+
+  private void assertNoFullScan(String... tables) {
+    List<String> plans = plans();
+    assertFalse(plans.isEmpty(), "No SQL statements were recorded");
+    for (String plan : plans) {
+      for (String table : tables) {
+        assertFalse(plan.contains("PUBLIC." + table.toUpperCase(Locale.ROOT) + ".tableScan"),
+            () -> "Full scan of " + table + ":\n" + plan);
+      }
+    }
+  }
+
+  private void assertUsesIndex(String index) {
+    List<String> plans = plans();
+    assertTrue(plans.stream().anyMatch(plan -> plan.contains("PUBLIC." + index)),
+        () -> index + " not used by:\n" + String.join("\n\n", plans));
+  }
+
+  private List<String> plans() {
+    List<String> plans = new ArrayList<>();
+    for (RecordedStatement statement : statements) {
+      if (statement.sql().stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+        plans.add(explain(statement));
+      }
+    }
+    return plans;
+  }
+
+  /**
+   * EXPLAINs the statement with the parameter values it was executed with, so the plan is the
+   * one the optimizer picked for those values.
+   */
+  private String explain(RecordedStatement recorded) {
+    return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+      try (PreparedStatement statement = connection.prepareStatement(
+          "EXPLAIN " + recorded.sql())) {
+        for (ParameterSetOperation parameter : recorded.parameters()) {
+          try {
+            parameter.getMethod().invoke(statement, parameter.getArgs());
+          } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot bind " + parameter.getMethod(), e);
+          }
+        }
+        try (ResultSet resultSet = statement.executeQuery()) {
+          resultSet.next();
+          return resultSet.getString(1);
+        }
+      }
+    });
+  }
+
+  private record RecordedStatement(String sql, List<ParameterSetOperation> parameters) {
+  }
+
+  /**
+   * Records every statement that reaches the data source together with its first set of
+   * parameters.
+   */
+  private class SqlRecorder implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+      for (QueryInfo query : queryInfoList) {
+        List<List<ParameterSetOperation>> parameters = query.getParametersList();
+        statements.add(new RecordedStatement(query.getQuery(),
+            parameters.isEmpty() ? List.of() : List.copyOf(parameters.get(0))));
+      }
+    }
+  }
+}
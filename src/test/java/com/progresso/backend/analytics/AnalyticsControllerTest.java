@@ -0,0 +1,88 @@
+package com.progresso.backend.analytics;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.progresso.backend.datagen.SyntheticDataGenerator;
+import com.progresso.backend.datagen.SyntheticDataSpec;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:analyticscontroller;MODE=MySQL;NON_KEYWORDS=USER")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class AnalyticsControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  private String manager;
+  private Long managedTeamId;
+  private Long otherTeamId;
+
+  @BeforeEach
+  void setUp() {
+    if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project", Long.class) == 0) {
+      new SyntheticDataGenerator(jdbcTemplate, passwordEncoder).generate(
+          new SyntheticDataSpec(10, 2, 4, 0, 0, 7L, 1_000, 1, 0, "password123"));
+      jdbcTemplate.update("INSERT INTO team (name, active) VALUES ('Unmanaged', true)");
+    }
+    Map<String, Object> project = jdbcTemplate.queryForMap(
+        "SELECT u.username, p.team_id FROM project p "
+            + "JOIN `user` u ON u.id = p.project_manager_id "
+            + "WHERE p.team_id IS NOT NULL ORDER BY p.id LIMIT 1");
+    manager = (String) project.get("username");
+    managedTeamId = ((Number) project.get("team_id")).longValue();
+    otherTeamId = jdbcTemplate.queryForObject(
+        "SELECT id FROM team WHERE name = 'Unmanaged'", Long.class);
+  }
+
+  @Test
+  void projectManager_SeesTeamOfAProjectTheyManage() throws Exception {
+    mockMvc.perform(get("/api/analytics/workload").param("teamId", managedTeamId.toString())
+            .with(user(manager).authorities(() -> "PROJECTMANAGER")))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void projectManager_IsDeniedOtherTeams() throws Exception {
+    mockMvc.perform(get("/api/analytics/workload").param("teamId", otherTeamId.toString())
+            .with(user(manager).authorities(() -> "PROJECTMANAGER")))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void projectManager_IsDeniedAllTeams() throws Exception {
+    mockMvc.perform(get("/api/analytics/workload")
+            .with(user(manager).authorities(() -> "PROJECTMANAGER")))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void admin_SeesAnyTeam() throws Exception {
+    mockMvc.perform(get("/api/analytics/workload").param("teamId", otherTeamId.toString())
+            .with(user("admin").authorities(() -> "ADMIN")))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/api/analytics/workload")
+            .with(user("admin").authorities(() -> "ADMIN")))
+        .andExpect(status().isOk());
+  }
+}
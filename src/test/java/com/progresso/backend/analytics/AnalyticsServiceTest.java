@@ -0,0 +1,103 @@
+package com.progresso.backend.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import com.progresso.backend.dto.WorkloadDto;
+import com.progresso.backend.entity.Task;
+import com.progresso.backend.entity.User;
+import com.progresso.backend.enumeration.Role;
+import com.progresso.backend.enumeration.Status;
+import com.progresso.backend.exception.TeamNotFoundException;
+import com.progresso.backend.teammanagement.TeamRepository;
+import com.progresso.backend.usermanagement.UserRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsServiceTest {
+
+  private AnalyticsService analyticsService;
+
+  @Mock
+  private TeamRepository teamRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @BeforeEach
+  void setUp() {
+    analyticsService = new AnalyticsService(teamRepository,
+        List.of(new SqlWorkloadAggregator(userRepository),
+            new InMemoryWorkloadAggregator(userRepository)));
+  }
+
+  @Test
+  void getWorkload_MemoryEngine() {
+    LocalDate today = LocalDate.now();
+
+    User busy = createUser(1L, "busy@progresso.com");
+    busy.getAssignedTasks().add(createTask(Status.IN_PROGRESS, today.minusDays(1)));
+    busy.getAssignedTasks().add(createTask(Status.IN_PROGRESS, today.plusDays(3)));
+    busy.getAssignedTasks().add(createTask(Status.IN_PROGRESS, today.plusDays(20)));
+    busy.getAssignedTasks().add(createTask(Status.COMPLETED, today.plusDays(3)));
+    busy.getAssignedTasks().add(createTask(Status.CANCELLED, today.plusDays(3)));
+
+    User idle = createUser(2L, "idle@progresso.com");
+
+    when(teamRepository.existsById(1L)).thenReturn(true);
+    when(userRepository.findActiveByRoleAndTeam(1L, Role.TEAMMEMBER))
+        .thenReturn(List.of(idle, busy));
+
+    List<WorkloadDto> result = analyticsService.getWorkload(1L, "memory");
+
+    assertEquals(2, result.size());
+    WorkloadDto first = result.get(0);
+    assertEquals("busy@progresso.com", first.getUsername());
+    assertEquals(3L, first.getOpenTasks());
+    assertEquals(1L, first.getOverdueTasks());
+    assertEquals(1L, first.getTasksDueNext7Days());
+    assertEquals(2L, first.getTasksDueNext30Days());
+    assertEquals(1L, first.getCompletedTasks());
+    assertEquals(25.0, first.getCompletionRate());
+    assertNull(result.get(1).getCompletionRate());
+  }
+
+  @Test
+  void getWorkload_InvalidEngine() {
+    assertThrows(IllegalArgumentException.class,
+        () -> analyticsService.getWorkload(null, "spreadsheet"));
+  }
+
+  @Test
+  void getWorkload_TeamNotFound() {
+    when(teamRepository.existsById(99L)).thenReturn(false);
+
+    assertThrows(TeamNotFoundException.class, () -> analyticsService.getWorkload(99L, null));
+  }
+
+  private User createUser(Long id, String username) {
+    User user = new User();
+    user.setId(id);
+    user.setUsername(username);
+    user.setRole(Role.TEAMMEMBER);
+    user.setActive(true);
+    user.setAssignedTasks(new ArrayList<>());
+    return user;
+  }
+
+  private Task createTask(Status status, LocalDate dueDate) {
+    Task task = new Task();
+    task.setStatus(status);
+    task.setDueDate(dueDate);
+    return task;
+  }
+}
@@ -11,42 +11,67 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.progresso.backend.cache.CacheEviction;
+import com.progresso.backend.cache.CacheEviction.Kind;
+import com.progresso.backend.cache.CacheEvictionEvent;
+import com.progresso.backend.dto.UserLoginDto;
+import com.progresso.backend.dto.UserLoginResponseDto;
 import com.progresso.backend.dto.UserRegistrationDto;
 import com.progresso.backend.dto.UserResponseDto;
 import com.progresso.backend.enumeration.Role;
 import com.progresso.backend.exception.EmailAlreadyExistsException;
+import com.progresso.backend.exception.InvalidPasswordException;
 import com.progresso.backend.entity.User;
 import com.progresso.backend.usermanagement.UserRepository;
+import com.progresso.backend.security.BoundedPasswordEncoder;
+import com.progresso.backend.security.JwtUtil;
 import com.progresso.backend.security.PasswordGenerator;
 import com.progresso.backend.usermanagement.UserService;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceTest {
 
-  @InjectMocks
   private AuthService authService;
 
   @Mock
   private UserRepository userRepository;
 
   @Mock
-  private PasswordEncoder passwordEncoder;
+  private BoundedPasswordEncoder passwordEncoder;
+
+  @Mock
+  private JwtUtil jwtUtil;
 
   @Mock
   private UserService userService;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private final List<Runnable> responseTasks = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    authService = new AuthService(userRepository, userService, passwordEncoder, jwtUtil, null,
+        responseTasks::add, eventPublisher);
+  }
+
   @Test
   void registerUser_EmailAlreadyExists() {
     UserRegistrationDto dto = mock(UserRegistrationDto.class);
@@ -109,6 +134,7 @@ public class AuthServiceTest {
       assertTrue(result.getManagedProjectIds().isEmpty());
       assertTrue(result.getTeamIds().isEmpty());
       assertTrue(result.getCommentIds().isEmpty());
+      assertEquals(generatedPassword, result.getTemporaryPassword());
       assertTrue(result.getActive());
 
       ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
@@ -152,4 +178,92 @@ public class AuthServiceTest {
     responseDto.setActive(true);
     return responseDto;
   }
+
+  @Test
+  void authenticateUser_InvalidPassword() {
+    User user = loginUser();
+    when(userRepository.findByUsername("a.smith.tm1@progresso.com"))
+        .thenReturn(Optional.of(user));
+    when(passwordEncoder.matchesAsync("wrong", "$2a$10$hash"))
+        .thenReturn(CompletableFuture.completedFuture(false));
+
+    CompletableFuture<UserLoginResponseDto> result =
+        authService.authenticateUser(loginDto("wrong"));
+    runResponseTasks();
+
+    ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+    assertTrue(exception.getCause() instanceof InvalidPasswordException);
+    verify(jwtUtil, never()).generateToken(any(User.class));
+  }
+
+  @Test
+  void authenticateUser_RehashesOutdatedPassword() throws Exception {
+    User user = loginUser();
+    UserLoginResponseDto response = new UserLoginResponseDto();
+    when(userRepository.findByUsername("a.smith.tm1@progresso.com"))
+        .thenReturn(Optional.of(user));
+    when(passwordEncoder.matchesAsync("secret", "$2a$10$hash"))
+        .thenReturn(CompletableFuture.completedFuture(true));
+    when(passwordEncoder.upgradeEncoding("$2a$10$hash")).thenReturn(true);
+    when(passwordEncoder.encodeAsync("secret"))
+        .thenReturn(CompletableFuture.completedFuture("$2a$12$hash"));
+    when(userRepository.updatePassword(1L, "$2a$10$hash", "$2a$12$hash")).thenReturn(1);
+    when(jwtUtil.generateToken(user)).thenReturn("token");
+    when(userService.convertToDtoToken(user, "token")).thenReturn(response);
+
+    CompletableFuture<UserLoginResponseDto> result =
+        authService.authenticateUser(loginDto("secret"));
+    runResponseTasks();
+
+    assertEquals(response, result.get());
+    verify(userRepository, times(1)).updatePassword(1L, "$2a$10$hash", "$2a$12$hash");
+    ArgumentCaptor<CacheEvictionEvent> event = ArgumentCaptor.forClass(CacheEvictionEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertEquals(List.of(new CacheEviction(Kind.ENTITY, User.class.getName(), 1L)),
+        event.getValue().getEvictions());
+  }
+
+  @Test
+  void authenticateUser_SignsTokenOffTheHashingPool() throws Exception {
+    User user = loginUser();
+    UserLoginResponseDto response = new UserLoginResponseDto();
+    when(userRepository.findByUsername("a.smith.tm1@progresso.com"))
+        .thenReturn(Optional.of(user));
+    when(passwordEncoder.matchesAsync("secret", "$2a$10$hash"))
+        .thenReturn(CompletableFuture.completedFuture(true));
+    when(jwtUtil.generateToken(user)).thenReturn("token");
+    when(userService.convertToDtoToken(user, "token")).thenReturn(response);
+
+    CompletableFuture<UserLoginResponseDto> result =
+        authService.authenticateUser(loginDto("secret"));
+
+    assertEquals(1, responseTasks.size());
+    verify(jwtUtil, never()).generateToken(any(User.class));
+
+    runResponseTasks();
+
+    assertEquals(response, result.get());
+  }
+
+  private void runResponseTasks() {
+    while (!responseTasks.isEmpty()) {
+      responseTasks.remove(0).run();
+    }
+  }
+
+  private static User loginUser() {
+    User user = new User();
+    user.setId(1L);
+    user.setUsername("a.smith.tm1@progresso.com");
+    user.setPassword("$2a$10$hash");
+    user.setActive(true);
+    return user;
+  }
+
+  private static UserLoginDto loginDto(String password) {
+    UserLoginDto dto = new UserLoginDto();
+    dto.setUsername("a.smith.tm1@progresso.com");
+    dto.setPassword(password);
+    return dto;
+  }
 }
@@ -0,0 +1,154 @@
+package com.progresso.backend.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.progresso.backend.cache.CacheEviction.Kind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class ClusterCacheInvalidatorTest {
+
+  private static final String USER = "com.progresso.backend.entity.User";
+  private static final String PROJECT = "com.progresso.backend.entity.Project";
+  private static final long NOW = 10_000_000L;
+
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE cache_invalidation (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+        + "node_id VARCHAR(64) NOT NULL, kind VARCHAR(16) NOT NULL, "
+        + "cache_role VARCHAR(255) NOT NULL, entity_id BIGINT, created_at BIGINT NOT NULL)");
+  }
+
+  @Test
+  void synchronize_AppliesEvictionsFromOtherNodesOnly() {
+    CacheImplementor cacheA = mock(CacheImplementor.class);
+    CacheImplementor cacheB = mock(CacheImplementor.class);
+    ClusterCacheInvalidator nodeA = node("node-a", cacheA);
+    ClusterCacheInvalidator nodeB = node("node-b", cacheB);
+
+    nodeA.publish(List.of(
+        new CacheEviction(Kind.ENTITY, USER, 8L),
+        new CacheEviction(Kind.COLLECTION, USER + ".teams", 8L),
+        new CacheEviction(Kind.COLLECTION, "com.progresso.backend.entity.Team.teamMembers", null),
+        new CacheEviction(Kind.NATURAL_ID, USER, null)));
+    nodeA.synchronize();
+    nodeB.synchronize();
+
+    verify(cacheB).evictEntityData(USER, 8L);
+    verify(cacheB).evictCollectionData(USER + ".teams", 8L);
+    verify(cacheB).evictCollectionData("com.progresso.backend.entity.Team.teamMembers");
+    verify(cacheB).evictNaturalIdData(USER);
+    verifyNoInteractions(cacheA);
+  }
+
+  @Test
+  void synchronize_AppliesEachRowOnce() {
+    CacheImplementor cacheB = mock(CacheImplementor.class);
+    ClusterCacheInvalidator nodeA = node("node-a", mock(CacheImplementor.class));
+    ClusterCacheInvalidator nodeB = node("node-b", cacheB);
+
+    nodeA.publish(List.of(new CacheEviction(Kind.ENTITY, USER, 1L)));
+    nodeA.synchronize();
+    nodeB.synchronize();
+    nodeB.synchronize();
+
+    verify(cacheB, times(1)).evictEntityData(USER, 1L);
+  }
+
+  @Test
+  void synchronize_AppliesRowsCommittedOutOfIdOrder() {
+    CacheImplementor cacheB = mock(CacheImplementor.class);
+    ClusterCacheInvalidator nodeB = node("node-b", cacheB);
+
+    insertRow(5L, 5L);
+    nodeB.synchronize();
+    insertRow(3L, 3L);
+    nodeB.synchronize();
+    nodeB.synchronize();
+
+    verify(cacheB, times(1)).evictEntityData(USER, 5L);
+    verify(cacheB, times(1)).evictEntityData(USER, 3L);
+  }
+
+  @Test
+  void onCacheEviction_PublishesBulkUpdateEvictions() {
+    CacheImplementor cacheB = mock(CacheImplementor.class);
+    ClusterCacheInvalidator nodeA = node("node-a", mock(CacheImplementor.class));
+    ClusterCacheInvalidator nodeB = node("node-b", cacheB);
+
+    nodeA.onCacheEviction(new CacheEvictionEvent(List.of(
+        new CacheEviction(Kind.ENTITY, PROJECT, null))));
+    nodeA.synchronize();
+    nodeB.synchronize();
+
+    verify(cacheB).evictEntityData(PROJECT);
+  }
+
+  @Test
+  void newNode_IgnoresRowsWrittenBeforeItStarted() {
+    ClusterCacheInvalidator nodeA = node("node-a", mock(CacheImplementor.class));
+    nodeA.publish(List.of(new CacheEviction(Kind.ENTITY, USER, 1L)));
+    nodeA.synchronize();
+
+    CacheImplementor cacheB = mock(CacheImplementor.class);
+    node("node-b", cacheB).synchronize();
+
+    verifyNoInteractions(cacheB);
+  }
+
+  @Test
+  void purgeExpired_DeletesRowsOlderThanRetention() {
+    ClusterCacheInvalidator nodeA = node("node-a", mock(CacheImplementor.class));
+    nodeA.publish(List.of(new CacheEviction(Kind.ENTITY, USER, 1L)));
+    nodeA.synchronize();
+    jdbcTemplate.update(ClusterCacheInvalidator.INSERT, "node-b", "ENTITY", USER, 2L,
+        NOW - 120_000);
+
+    nodeA.purgeExpired();
+
+    assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cache_invalidation",
+        Integer.class));
+  }
+
+  private void insertRow(long id, long entityId) {
+    jdbcTemplate.update("INSERT INTO cache_invalidation "
+        + "(id, node_id, kind, cache_role, entity_id, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+        id, "node-a", "ENTITY", USER, entityId, NOW);
+  }
+
+  private ClusterCacheInvalidator node(String nodeId, CacheImplementor cache) {
+    SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+    ServiceRegistryImplementor serviceRegistry = mock(ServiceRegistryImplementor.class);
+    EventListenerRegistry listeners = mock(EventListenerRegistry.class);
+    when(sessionFactory.getCache()).thenReturn(cache);
+    when(sessionFactory.getMappingMetamodel()).thenReturn(mock(MappingMetamodelImplementor.class));
+    when(sessionFactory.getServiceRegistry()).thenReturn(serviceRegistry);
+    when(serviceRegistry.requireService(EventListenerRegistry.class)).thenReturn(listeners);
+
+    return new ClusterCacheInvalidator(sessionFactory, jdbcTemplate, new SimpleMeterRegistry(),
+        nodeId, 60_000, 100, Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+  }
+}
@@ -0,0 +1,156 @@
+package com.progresso.backend.coalescing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class CoalescingAspectTest {
+
+  private static final int CALLERS = 5;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+  private SlowReads target;
+  private SlowReads reads;
+
+  @BeforeEach
+  void setUp() {
+    target = new SlowReads();
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new CoalescingAspect(meterRegistry, new ObjectMapper()));
+    reads = factory.getProxy();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void callsArrivingDuringAnExecution_ShareTheNextOne() throws Exception {
+    Future<List<Long>> first = executor.submit(() -> reads.find(1L));
+    List<Future<List<Long>>> later = callWhileRunning(() -> reads.find(1L));
+    target.release.countDown();
+
+    assertEquals(List.of(1L, 1L), first.get(5, TimeUnit.SECONDS));
+    Set<List<Long>> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Future<List<Long>> result : later) {
+      List<Long> shared = result.get(5, TimeUnit.SECONDS);
+      assertEquals(List.of(1L, 2L), shared);
+      distinct.add(shared);
+    }
+    assertEquals(later.size(), distinct.size());
+    assertEquals(2, target.executions.get());
+    assertEquals(CALLERS - 2, meterRegistry.get(CoalescingAspect.METRIC_NAME)
+        .tag("method", "find").counter().count());
+  }
+
+  @Test
+  void differentArguments_AreNotCoalesced() {
+    target.release.countDown();
+
+    reads.find(1L);
+    reads.find(2L);
+    reads.find(1L);
+
+    assertEquals(3, target.executions.get());
+  }
+
+  @Test
+  void failure_IsPropagatedToEveryWaitingCaller() throws Exception {
+    Future<List<Long>> first = executor.submit(() -> reads.find(-1L));
+    List<Future<List<Long>>> later = callWhileRunning(() -> reads.find(-1L));
+    target.release.countDown();
+
+    List<Future<List<Long>>> results = new ArrayList<>(later);
+    results.add(first);
+    for (Future<List<Long>> result : results) {
+      ExecutionException e = assertThrows(ExecutionException.class,
+          () -> result.get(5, TimeUnit.SECONDS));
+      assertTrue(e.getCause() instanceof IllegalArgumentException);
+    }
+    assertEquals(2, target.executions.get());
+  }
+
+  @Test
+  void callsInsideTransaction_AreNotCoalesced() throws Exception {
+    target.release.countDown();
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    try {
+      reads.find(1L);
+      reads.find(1L);
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    assertEquals(2, target.executions.get());
+  }
+
+  /**
+   * Once the first call is executing, starts the remaining callers and waits until one of them
+   * leads the next execution and the others are waiting for it.
+   */
+  private List<Future<List<Long>>> callWhileRunning(Callable<List<Long>> call)
+      throws InterruptedException {
+    assertTrue(target.started.await(5, TimeUnit.SECONDS));
+    List<Future<List<Long>>> results = new ArrayList<>();
+    for (int i = 1; i < CALLERS; i++) {
+      results.add(executor.submit(call));
+    }
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (waiting() < CALLERS - 2 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    return results;
+  }
+
+  private double waiting() {
+    return meterRegistry.find(CoalescingAspect.METRIC_NAME).counters().stream()
+        .mapToDouble(counter -> counter.count()).sum();
+  }
+
+  static class SlowReads {
+
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger executions = new AtomicInteger();
+
+    @Coalesced
+    public List<Long> find(Long id) {
+      long execution = executions.incrementAndGet();
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (id < 0) {
+        throw new IllegalArgumentException("Id cannot be negative.");
+      }
+      return List.of(id, execution);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.progresso.backend.dataexport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.progresso.backend.commentmanagement.CommentRepository;
+import com.progresso.backend.dto.TaskExportRow;
+import com.progresso.backend.enumeration.Priority;
+import com.progresso.backend.enumeration.Status;
+import com.progresso.backend.projectmanagement.ProjectRepository;
+import com.progresso.backend.taskmanagement.TaskRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class DataExportServiceTest {
+
+  private DataExportService dataExportService;
+
+  @Mock
+  private ProjectRepository projectRepository;
+
+  @Mock
+  private TaskRepository taskRepository;
+
+  @Mock
+  private CommentRepository commentRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @BeforeEach
+  void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    dataExportService = new DataExportService(projectRepository, taskRepository,
+        commentRepository, objectMapper, transactionManager);
+  }
+
+  @Test
+  void exportTasks_Csv() {
+    when(taskRepository.streamAllForExport()).thenReturn(Stream.of(createRow()));
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    dataExportService.exportTasks(ExportFormat.CSV, outputStream);
+
+    assertEquals("id,projectId,name,description,priority,status,startDate,dueDate,"
+            + "completionDate,assignedUsername\r\n"
+            + "1,2,\"Design, draft\",\"Say \"\"hi\"\"\",HIGH,IN_PROGRESS,2025-01-01,2025-02-01,,\r\n",
+        outputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void exportTasks_CsvNeutralizesFormulas() {
+    when(taskRepository.streamAllForExport()).thenReturn(Stream.of(new TaskExportRow(1L, 2L,
+        "=HYPERLINK(\"http://x\")", "@SUM(A1)", Priority.HIGH, Status.IN_PROGRESS,
+        LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), null, "-user")));
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    dataExportService.exportTasks(ExportFormat.CSV, outputStream);
+
+    assertEquals("1,2,\"'=HYPERLINK(\"\"http://x\"\")\",'@SUM(A1),HIGH,IN_PROGRESS,"
+            + "2025-01-01,2025-02-01,,'-user\r\n",
+        outputStream.toString(StandardCharsets.UTF_8).split("\r\n", 2)[1]);
+  }
+
+  @Test
+  void exportTasks_Ndjson() {
+    when(taskRepository.streamAllForExport()).thenReturn(Stream.of(createRow(), createRow()));
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    dataExportService.exportTasks(ExportFormat.NDJSON, outputStream);
+
+    String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, lines.length);
+    assertEquals("{\"id\":1,\"projectId\":2,\"name\":\"Design, draft\","
+        + "\"description\":\"Say \\\"hi\\\"\",\"priority\":\"HIGH\",\"status\":\"IN_PROGRESS\","
+        + "\"startDate\":\"2025-01-01\",\"dueDate\":\"2025-02-01\",\"completionDate\":null,"
+        + "\"assignedUsername\":null}", lines[0]);
+  }
+
+  @Test
+  void parseFormat_Invalid() {
+    assertThrows(IllegalArgumentException.class, () -> dataExportService.parseFormat("xml"));
+  }
+
+  private TaskExportRow createRow() {
+    return new TaskExportRow(1L, 2L, "Design, draft", "Say \"hi\"", Priority.HIGH,
+        Status.IN_PROGRESS, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), null, null);
+  }
+}
@@ -0,0 +1,168 @@
+package com.progresso.backend.datagen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@ExtendWith(MockitoExtension.class)
+public class SyntheticDataGeneratorTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2025, 1, 15);
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private PasswordEncoder passwordEncoder;
+
+  private Map<String, List<Object[]>> rows;
+
+  @BeforeEach
+  void setUp() {
+    rows = new ConcurrentHashMap<>();
+  }
+
+  @Test
+  void generate_SameSeedSameRowsRegardlessOfThreads() {
+    generate(spec(42L, 1));
+    Map<String, List<String>> singleThreaded = snapshot();
+
+    rows.clear();
+    generate(spec(42L, 4));
+
+    assertEquals(singleThreaded, snapshot());
+  }
+
+  @Test
+  void generate_DifferentSeedDifferentRows() {
+    generate(spec(42L, 2));
+    Map<String, List<String>> first = snapshot();
+
+    rows.clear();
+    generate(spec(7L, 2));
+
+    assertNotEquals(first.get("task"), snapshot().get("task"));
+  }
+
+  @Test
+  void generate_ProducesRequestedSizesAndConsistentStats() {
+    SyntheticDataSpec spec = spec(42L, 3);
+
+    GeneratedDataset dataset = generate(spec);
+
+    assertEquals(spec.users(), rows.get("user").size());
+    assertEquals(spec.teams(), rows.get("team").size());
+    assertEquals(spec.projects(), rows.get("project").size());
+    assertEquals(spec.tasks(), rows.get("task").size());
+    assertEquals(spec.comments(), rows.get("comment").size());
+    assertEquals(spec.users(), dataset.users());
+    assertEquals(spec.tasks(), rows.get("project_stats").stream()
+        .mapToLong(row -> (Long) row[1]).sum());
+    assertEquals(spec.projects(), rows.get("project_stats").size());
+  }
+
+  @Test
+  void generate_ManagersGetTheTeamsOfTheirProjects() {
+    GeneratedDataset dataset = generate(spec(42L, 2));
+
+    for (GeneratedDataset.Member manager : dataset.projectManagers()) {
+      Set<Object> teams = rows.get("project").stream()
+          .filter(row -> row[8].equals(manager.id()) && row[9] != null)
+          .map(row -> row[9])
+          .collect(Collectors.toSet());
+      assertEquals(teams, Set.copyOf(manager.teamIds()));
+      assertEquals(teams.size(), manager.teamIds().size());
+    }
+  }
+
+  @Test
+  void generate_RepliesStayInProjectAndRespectMaxDepth() {
+    SyntheticDataSpec spec = spec(42L, 3);
+
+    generate(spec);
+
+    Map<Long, Object[]> comments = new HashMap<>();
+    rows.get("comment").forEach(row -> comments.put((Long) row[0], row));
+    int replies = 0;
+    for (Object[] comment : comments.values()) {
+      int depth = 0;
+      Object[] current = comment;
+      while (current[5] != null) {
+        Object[] parent = comments.get((Long) current[5]);
+        assertTrue((Long) parent[0] < (Long) current[0]);
+        assertEquals(parent[4], current[4]);
+        current = parent;
+        depth++;
+      }
+      assertTrue(depth <= spec.maxReplyDepth());
+      replies += comment[5] != null ? 1 : 0;
+    }
+    assertTrue(replies > 0);
+  }
+
+  @Test
+  void generate_UsernamesAreUniqueAndLoginable() {
+    GeneratedDataset dataset = generate(spec(42L, 2));
+
+    List<String> usernames = rows.get("user").stream().map(row -> (String) row[11]).toList();
+    assertEquals(usernames.size(), new HashSet<>(usernames).size());
+    usernames.forEach(username -> assertTrue(username.matches(
+        "^[a-zA-Z]\\.[a-zA-Z_]+\\.(am|pm|tm)[0-9]+@progresso\\.com$"), username));
+    assertTrue(usernames.contains(dataset.teamMembers().get(0).username()));
+    assertTrue(usernames.contains(dataset.projectManagers().get(0).username()));
+  }
+
+  @Test
+  void spec_RejectsEmptyDataset() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new SyntheticDataSpec(1, 1, 1, 0, 0, 42L, 100, 1, 3, "secret123"));
+  }
+
+  private GeneratedDataset generate(SyntheticDataSpec spec) {
+    when(passwordEncoder.encode("secret123")).thenReturn("hash");
+    doAnswer(invocation -> {
+      String table = invocation.<String>getArgument(0).split("[ (]")[2];
+      List<Object[]> batch = invocation.getArgument(1);
+      rows.computeIfAbsent(table, t -> new ArrayList<>());
+      synchronized (rows.get(table)) {
+        rows.get(table).addAll(batch);
+      }
+      return new int[batch.size()];
+    }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+    return new SyntheticDataGenerator(jdbcTemplate, passwordEncoder, TODAY).generate(spec);
+  }
+
+  private static SyntheticDataSpec spec(long seed, int threads) {
+    return new SyntheticDataSpec(200, 20, 60, 2_000, 3_000, seed, 97, threads, 3, "secret123");
+  }
+
+  private Map<String, List<String>> snapshot() {
+    Map<String, List<String>> snapshot = new HashMap<>();
+    rows.forEach((table, tableRows) -> snapshot.put(table,
+        tableRows.stream().map(Arrays::toString).sorted().toList()));
+    return snapshot;
+  }
+}
@@ -0,0 +1,180 @@
+package com.progresso.backend.dataimport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.progresso.backend.authsubsystem.AuthService;
+import com.progresso.backend.dto.ProjectDto;
+import com.progresso.backend.dto.TaskDto;
+import com.progresso.backend.dto.TeamDto;
+import com.progresso.backend.dto.UserRegistrationDto;
+import com.progresso.backend.dto.UserResponseDto;
+import com.progresso.backend.projectmanagement.ProjectService;
+import com.progresso.backend.taskmanagement.TaskService;
+import com.progresso.backend.teammanagement.TeamService;
+import jakarta.validation.Validation;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportRowProcessorTest {
+
+  private ImportRowProcessor importRowProcessor;
+
+  @Mock
+  private AuthService authService;
+
+  @Mock
+  private TeamService teamService;
+
+  @Mock
+  private ProjectService projectService;
+
+  @Mock
+  private TaskService taskService;
+
+  @BeforeEach
+  void setUp() {
+    importRowProcessor = new ImportRowProcessor(authService, teamService, projectService,
+        taskService, new ObjectMapper().registerModule(new JavaTimeModule()),
+        Validation.buildDefaultValidatorFactory().getValidator());
+  }
+
+  @Test
+  void validate_UnknownReference() {
+    ImportRow row = new ImportRow(1, "TEAM_MEMBERS", null,
+        Map.of("team", "core", "members", List.of("alice")));
+
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> importRowProcessor.validate(row, Set.of("TEAM:core")));
+
+    assertEquals("Unknown USER reference: alice", exception.getMessage());
+  }
+
+  @Test
+  void validate_InvalidType() {
+    ImportRow row = new ImportRow(1, "comment", null, Map.of());
+
+    assertThrows(IllegalArgumentException.class,
+        () -> importRowProcessor.validate(row, Set.of()));
+  }
+
+  @Test
+  void validate_DuplicateReference() {
+    ImportRow row = new ImportRow(1, "team", "core", Map.of("name", "Core"));
+
+    assertThrows(IllegalArgumentException.class,
+        () -> importRowProcessor.validate(row, Set.of("TEAM:core")));
+  }
+
+  @Test
+  void validate_ConstraintViolation() {
+    ImportRow row = new ImportRow(1, "TEAM", "core", Map.of("name", " Core"));
+
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> importRowProcessor.validate(row, Set.of()));
+
+    assertTrue(exception.getMessage().startsWith("Team name must not start with a space."));
+  }
+
+  @Test
+  void apply_ProjectWithTeamReference() {
+    LocalDate startDate = LocalDate.now().plusDays(1);
+    Map<String, Object> fields = new HashMap<>();
+    fields.put("name", "Apollo");
+    fields.put("description", "Moon landing");
+    fields.put("startDate", startDate.toString());
+    fields.put("dueDate", startDate.plusDays(30).toString());
+    fields.put("projectManager", "pm");
+    fields.put("team", 7);
+
+    ProjectDto created = new ProjectDto();
+    created.setId(42L);
+    when(projectService.createProject(any(ProjectDto.class))).thenReturn(created);
+
+    ImportedRow imported = importRowProcessor.apply(
+        new ImportRow(1, "PROJECT", "apollo", fields), Map.of("USER:pm", 3L)::get);
+
+    assertEquals(42L, imported.id());
+    verify(projectService).assignTeamToProject(42L, 7L);
+  }
+
+  @Test
+  void apply_TaskWithCsvValues() {
+    Map<String, Object> fields = new HashMap<>();
+    fields.put("name", "Design");
+    fields.put("description", "Draft the design");
+    fields.put("priority", "HIGH");
+    fields.put("startDate", "2030-01-01");
+    fields.put("dueDate", "2030-01-10");
+    fields.put("project", "12");
+    fields.put("assignedUser", "alice");
+
+    TaskDto created = new TaskDto();
+    created.setId(5L);
+    when(taskService.createAndAssignTask(any(TaskDto.class), eq(9L))).thenReturn(created);
+
+    ImportedRow imported = importRowProcessor.apply(new ImportRow(1, "TASK", null, fields),
+        Map.of("USER:alice", 9L)::get);
+
+    assertEquals(5L, imported.id());
+    assertNull(imported.temporaryPassword());
+  }
+
+  @Test
+  void apply_TeamMembersFromDelimitedList() {
+    TeamDto team = new TeamDto();
+    team.setId(1L);
+    when(teamService.addMembersToTeam(1L, List.of(2L, 3L))).thenReturn(team);
+
+    importRowProcessor.apply(new ImportRow(1, "TEAM_MEMBERS", null,
+        Map.of("team", "1", "members", "2; bob")), Map.of("USER:bob", 3L)::get);
+
+    verify(teamService).addMembersToTeam(1L, List.of(2L, 3L));
+  }
+
+  @Test
+  void apply_UserKeepsTemporaryPassword() {
+    Map<String, Object> fields = new HashMap<>();
+    fields.put("firstName", "Alice");
+    fields.put("lastName", "Smith");
+    fields.put("birthDate", "1990-05-01");
+    fields.put("phoneNumber", "5550100");
+    fields.put("streetAddress", "1 Main Street");
+    fields.put("city", "Springfield");
+    fields.put("stateProvinceRegion", "Illinois");
+    fields.put("country", "United States");
+    fields.put("zipCode", "62701");
+    fields.put("email", "alice.smith@example.com");
+    fields.put("role", "TEAMMEMBER");
+
+    UserResponseDto created = new UserResponseDto();
+    created.setId(11L);
+    created.setUsername("a.smith.tm1@progresso.com");
+    created.setTemporaryPassword("Tmp#Pass1");
+    when(authService.registerUser(any(UserRegistrationDto.class))).thenReturn(created);
+
+    ImportedRow imported = importRowProcessor.apply(new ImportRow(1, "USER", "alice", fields),
+        key -> null);
+
+    assertEquals(11L, imported.id());
+    assertEquals("a.smith.tm1@progresso.com", imported.username());
+    assertEquals("Tmp#Pass1", imported.temporaryPassword());
+  }
+}
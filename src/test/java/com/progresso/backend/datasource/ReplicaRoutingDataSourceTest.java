@@ -0,0 +1,205 @@
+package com.progresso.backend.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class ReplicaRoutingDataSourceTest {
+
+  private static final long NOW = 1_000_000L;
+
+  private MutableClock clock;
+  private DataSource primary;
+  private DataSource replica;
+  private ReplicaRoutingDataSource router;
+  private ReplicaLagMonitor monitor;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readOnly;
+  private TransactionTemplate readWrite;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(NOW);
+    primary = database("primary");
+    replica = database("replica");
+
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    replicas.put("replica-1", replica);
+    router = new ReplicaRoutingDataSource(primary, replicas, 5_000, clock,
+        new SimpleMeterRegistry());
+    monitor = new ReplicaLagMonitor(router, 2_000, true, clock);
+
+    DataSource dataSource = new LazyConnectionDataSourceProxy(router);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    readWrite = new TransactionTemplate(transactionManager);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void readOnlyTransaction_UsesReplica() {
+    replicate(NOW);
+    monitor.check();
+
+    assertEquals("replica", readOnly.execute(status -> marker()));
+  }
+
+  @Test
+  void writesAndNonTransactionalReads_UsePrimary() {
+    replicate(NOW);
+    monitor.check();
+
+    assertEquals("primary", readWrite.execute(status -> marker()));
+    assertEquals("primary", marker());
+  }
+
+  @Test
+  void laggingReplica_FallsBackToPrimary() {
+    replicate(NOW - 10_000);
+    monitor.check();
+
+    assertEquals("primary", readOnly.execute(status -> marker()));
+  }
+
+  @Test
+  void unreachableReplica_FallsBackToPrimary() {
+    replicate(NOW);
+    monitor.check();
+    new JdbcTemplate(replica).execute("DROP TABLE replica_heartbeat");
+    monitor.check();
+
+    assertEquals("primary", readOnly.execute(status -> marker()));
+  }
+
+  @Test
+  void readsAfterWrite_StickToPrimaryForThatUserOnly() {
+    replicate(NOW);
+    monitor.check();
+
+    authenticate("alice");
+    readWrite.executeWithoutResult(status ->
+        jdbcTemplate.update("UPDATE marker SET name = name"));
+    assertEquals("primary", readOnly.execute(status -> marker()));
+
+    authenticate("bob");
+    assertEquals("replica", readOnly.execute(status -> marker()));
+
+    clock.advance(5_001);
+    replicate(clock.millis());
+    monitor.check();
+    authenticate("alice");
+    assertEquals("replica", readOnly.execute(status -> marker()));
+  }
+
+  @Test
+  void rolledBackWrite_DoesNotStickToPrimary() {
+    replicate(NOW);
+    monitor.check();
+
+    authenticate("alice");
+    readWrite.executeWithoutResult(status -> {
+      jdbcTemplate.update("UPDATE marker SET name = name");
+      status.setRollbackOnly();
+    });
+
+    assertEquals("replica", readOnly.execute(status -> marker()));
+  }
+
+  @Test
+  void readWriteTransactionWithoutWrites_DoesNotStickToPrimary() {
+    replicate(NOW);
+    monitor.check();
+
+    authenticate("alice");
+    assertEquals("primary", readWrite.execute(status -> marker()));
+
+    assertEquals("replica", readOnly.execute(status -> marker()));
+  }
+
+  private String marker() {
+    return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+  }
+
+  /**
+   * Stands in for replication: copies a heartbeat value to the replica.
+   */
+  private void replicate(long beatMillis) {
+    new JdbcTemplate(replica).update(ReplicaLagMonitor.WRITE_HEARTBEAT, beatMillis);
+  }
+
+  private static void authenticate(String username) {
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(username, null,
+            AuthorityUtils.createAuthorityList("ROLE_TEAMMEMBER")));
+  }
+
+  private static DataSource database(String name) {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20))");
+    jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+    jdbcTemplate.execute(
+        "CREATE TABLE replica_heartbeat (id INT PRIMARY KEY, beat_millis BIGINT NOT NULL)");
+    jdbcTemplate.update("INSERT INTO replica_heartbeat (id, beat_millis) VALUES (1, 0)");
+    return dataSource;
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private long millis;
+
+    private MutableClock(long millis) {
+      this.millis = millis;
+    }
+
+    void advance(long delta) {
+      millis += delta;
+    }
+
+    @Override
+    public long millis() {
+      return millis;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.progresso.backend.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+public class LoggingPipelineTest {
+
+  @Test
+  void redact_MasksFreeTextJsonAndKeyValueSecrets() {
+    assertEquals("registerUser: Generated username: a.b and password: *** for user: Al",
+        LogRedactor.redact(
+            "registerUser: Generated username: a.b and password: Xy7!pQ for user: Al"));
+    assertEquals("{\"message\":\"body {\\\"newPassword\\\":\\\"***\\\"}\"}",
+        LogRedactor.redact("{\"message\":\"body {\\\"newPassword\\\":\\\"s3cret!\\\"}\"}"));
+    assertEquals("UserChangePasswordDto(currentPassword=***, newPassword=***)",
+        LogRedactor.redact("UserChangePasswordDto(currentPassword=old1, newPassword=new2)"));
+  }
+
+  @Test
+  void redact_MasksTokensAndHashes() {
+    assertEquals("header Bearer ***", LogRedactor.redact("header Bearer eyJhbGciOi.eyJzdWIi.sig"));
+    assertEquals("jwt ***", LogRedactor.redact("jwt eyJhbGciOi.eyJzdWIi.c2ln"));
+    assertEquals("binding [***]", LogRedactor.redact(
+        "binding [$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy]"));
+  }
+
+  @Test
+  void redact_KeepsMethodPrefixesAndPlainLines() {
+    String line = "changePassword: Current password does not match for user with id: 4";
+    assertSame(line, LogRedactor.redact(line));
+    String prefix = "incrementTokenVersion: Incremented version from 1 to 2";
+    assertSame(prefix, LogRedactor.redact(prefix));
+  }
+
+  @Test
+  void samplingFilter_KeepsOneInNOfMatchingInfoEvents() {
+    LogSamplingFilter filter = new LogSamplingFilter();
+    filter.setRules("com.example.Hot#isMember=3, com.example.Hot#bad");
+    filter.setContext(new LoggerContext());
+    filter.start();
+    Logger hot = new LoggerContext().getLogger("com.example.Hot");
+
+    int kept = 0;
+    for (int i = 0; i < 9; i++) {
+      if (filter.decide(null, hot, Level.INFO, "isMember: User {} is a member.", null, null)
+          == FilterReply.NEUTRAL) {
+        kept++;
+      }
+    }
+
+    assertEquals(3, kept);
+    assertEquals(FilterReply.NEUTRAL,
+        filter.decide(null, hot, Level.WARN, "isMember: failed.", null, null));
+    assertEquals(FilterReply.NEUTRAL,
+        filter.decide(null, hot, Level.INFO, "isMemberOf: other method.", null, null));
+    assertEquals(FilterReply.NEUTRAL, filter.decide(null, hot, Level.INFO, null, null, null));
+  }
+}
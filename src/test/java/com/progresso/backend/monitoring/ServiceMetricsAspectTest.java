@@ -0,0 +1,66 @@
+package com.progresso.backend.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.progresso.backend.entity.User;
+import com.progresso.backend.enumeration.Role;
+import com.progresso.backend.teammanagement.TeamRepository;
+import com.progresso.backend.usermanagement.UserRepository;
+import com.progresso.backend.usermanagement.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+@ExtendWith(MockitoExtension.class)
+public class ServiceMetricsAspectTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private UserService userService;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private TeamRepository teamRepository;
+
+  @BeforeEach
+  void setUp() {
+    AspectJProxyFactory factory = new AspectJProxyFactory(
+        new UserService(userRepository, teamRepository));
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+    userService = factory.getProxy();
+  }
+
+  @Test
+  void timeServiceMethod_Success() {
+    User user = new User();
+    user.setRole(Role.TEAMMEMBER);
+
+    userService.convertToDto(user);
+    userService.convertToDto(user);
+
+    assertEquals(2L, meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+        .tag("service", "UserService")
+        .tag("method", "convertToDto")
+        .tag("outcome", "success")
+        .timer().count());
+  }
+
+  @Test
+  void timeServiceMethod_Error() {
+    assertThrows(IllegalArgumentException.class, () -> userService.getUserById(null));
+
+    assertEquals(1L, meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+        .tag("method", "getUserById")
+        .tag("outcome", "error")
+        .tag("exception", "IllegalArgumentException")
+        .timer().count());
+  }
+}
@@ -0,0 +1,159 @@
+package com.progresso.backend.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.progresso.backend.datagen.SyntheticDataGenerator;
+import com.progresso.backend.datagen.SyntheticDataSpec;
+import com.progresso.backend.security.JwtUtil;
+import com.progresso.backend.usermanagement.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Counts the SQL statements the project read and update endpoints issue on the synthetic dataset,
+ * with a cold second-level cache. Each budget is the count measured when it was last set: a
+ * change that issues more statements fails here, and one that issues fewer should lower it.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:sqlbudget;MODE=MySQL;NON_KEYWORDS=USER"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SqlBudgetIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JwtUtil jwtUtil;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private static final long GET_BUDGET = 22;
+  private static final long NOT_MODIFIED_BUDGET = 3;
+  private static final long PUT_BUDGET = 21;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private long projectId;
+  private String token;
+
+  @BeforeAll
+  void seed() {
+    new SyntheticDataGenerator(jdbcTemplate, passwordEncoder).generate(
+        new SyntheticDataSpec(30, 6, 20, 400, 600, 7L, 1_000, 2, 3, "password123"));
+    Map<String, Object> project = jdbcTemplate.queryForMap(
+        "SELECT p.id, u.username FROM project p JOIN `user` u ON u.id = p.project_manager_id "
+            + "WHERE p.status IN ('NOT_STARTED', 'IN_PROGRESS') ORDER BY p.id LIMIT 1");
+    projectId = ((Number) project.get("id")).longValue();
+    token = jwtUtil.generateToken(
+        userRepository.findByUsername((String) project.get("username")).orElseThrow());
+  }
+
+  @BeforeEach
+  void evictCaches() {
+    entityManagerFactory.getCache().evictAll();
+  }
+
+  @Test
+  void projectRead_StaysWithinBudget() throws Exception {
+    long statements = statementsOf("GET", "/api/projects/{id}", () ->
+        mockMvc.perform(get("/api/projects/{id}", projectId).header(AUTHORIZATION, bearer()))
+            .andExpect(status().isOk()));
+
+    assertWithinBudget(GET_BUDGET, statements);
+  }
+
+  @Test
+  void unchangedProjectRead_StaysWithinBudget() throws Exception {
+    String etag = mockMvc.perform(get("/api/projects/{id}", projectId)
+            .header(AUTHORIZATION, bearer()))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    long statements = statementsOf("GET", "/api/projects/{id}", () ->
+        mockMvc.perform(get("/api/projects/{id}", projectId).header(AUTHORIZATION, bearer())
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified()));
+
+    assertWithinBudget(NOT_MODIFIED_BUDGET, statements);
+  }
+
+  @Test
+  void projectUpdate_StaysWithinBudget() throws Exception {
+    String body = mockMvc.perform(get("/api/projects/{id}", projectId)
+            .header(AUTHORIZATION, bearer()))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    entityManagerFactory.getCache().evictAll();
+
+    long statements = statementsOf("PUT", "/api/projects/{projectId}", () ->
+        mockMvc.perform(put("/api/projects/{id}", projectId).header(AUTHORIZATION, bearer())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isOk()));
+
+    assertWithinBudget(PUT_BUDGET, statements);
+  }
+
+  private String bearer() {
+    return "Bearer " + token;
+  }
+
+  /**
+   * Statements recorded by {@link SqlBudgetFilter} for the request, read back from its metric.
+   */
+  private long statementsOf(String method, String uri, Request request) throws Exception {
+    double before = totalStatements(method, uri);
+    request.perform();
+    return Math.round(totalStatements(method, uri) - before);
+  }
+
+  private double totalStatements(String method, String uri) {
+    DistributionSummary summary = meterRegistry.find("progresso.sql.statements")
+        .tag("method", method).tag("uri", uri)
+        .summary();
+    return summary == null ? 0 : summary.totalAmount();
+  }
+
+  private static void assertWithinBudget(long budget, long statements) {
+    assertTrue(statements <= budget,
+        "Issued " + statements + " SQL statements, budget is " + budget + ".");
+  }
+
+  @FunctionalInterface
+  private interface Request {
+
+    void perform() throws Exception;
+  }
+}
@@ -0,0 +1,78 @@
+package com.progresso.backend.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.progresso.backend.exception.SqlBudgetExceededException;
+import java.sql.ResultSet;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import org.junit.jupiter.api.Test;
+
+public class SqlStatementTrackerTest {
+
+  @Test
+  void tracksStatementsRowsAndTime() throws NoSuchMethodException {
+    SqlStatementTracker tracker = new SqlStatementTracker(2, false);
+    ExecutionInfo executionInfo = new ExecutionInfo();
+    executionInfo.setElapsedTime(5);
+
+    tracker.begin();
+    query(tracker, executionInfo);
+    query(tracker, executionInfo);
+    query(tracker, executionInfo);
+    next(tracker, true);
+    next(tracker, true);
+    next(tracker, false);
+    SqlStatementStats stats = tracker.end();
+
+    assertEquals(3, stats.getStatements());
+    assertEquals(2L, stats.getRows());
+    assertEquals(15L, stats.getElapsedMillis());
+    assertTrue(tracker.isOverBudget(stats));
+  }
+
+  @Test
+  void failFastThrowsWhenBudgetExceeded() {
+    SqlStatementTracker tracker = new SqlStatementTracker(1, true);
+    ExecutionInfo executionInfo = new ExecutionInfo();
+
+    tracker.begin();
+    query(tracker, executionInfo);
+
+    assertThrows(SqlBudgetExceededException.class,
+        () -> tracker.beforeQuery(executionInfo, List.of(new QueryInfo("SELECT 1"))));
+    tracker.end();
+  }
+
+  @Test
+  void ignoresStatementsOutsideTrackedScope() {
+    SqlStatementTracker tracker = new SqlStatementTracker(0, true);
+
+    tracker.beforeQuery(new ExecutionInfo(), List.of(new QueryInfo("SELECT 1")));
+
+    assertNull(tracker.end());
+    assertFalse(tracker.isOverBudget(new SqlStatementStats()));
+  }
+
+  private static void query(SqlStatementTracker tracker, ExecutionInfo executionInfo) {
+    List<QueryInfo> queries = List.of(new QueryInfo("SELECT 1"));
+    tracker.beforeQuery(executionInfo, queries);
+    tracker.afterQuery(executionInfo, queries);
+  }
+
+  private static void next(SqlStatementTracker tracker, boolean hasRow)
+      throws NoSuchMethodException {
+    tracker.afterMethod(MethodExecutionContext.Builder.create()
+        .target(mock(ResultSet.class))
+        .method(ResultSet.class.getMethod("next"))
+        .result(hasRow)
+        .build());
+  }
+}
@@ -0,0 +1,132 @@
+package com.progresso.backend.projectmanagement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.progresso.backend.commentmanagement.CommentRepository;
+import com.progresso.backend.dto.ProjectChildId;
+import com.progresso.backend.entity.ProjectStats;
+import com.progresso.backend.enumeration.Priority;
+import com.progresso.backend.enumeration.Status;
+import com.progresso.backend.exception.NoDataFoundException;
+import com.progresso.backend.taskmanagement.TaskRepository;
+import jakarta.persistence.Tuple;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectFieldServiceTest {
+
+  @InjectMocks
+  private ProjectFieldService projectFieldService;
+
+  @Mock
+  private ProjectRepository projectRepository;
+
+  @Mock
+  private TaskRepository taskRepository;
+
+  @Mock
+  private CommentRepository commentRepository;
+
+  @Mock
+  private ProjectStatsRepository projectStatsRepository;
+
+  @Mock
+  private ProjectStatsService projectStatsService;
+
+  @Mock
+  private ProjectService projectService;
+
+  @Test
+  void parse_KeepsOrderAndRejectsUnknownFields() {
+    assertEquals(List.of(ProjectField.NAME, ProjectField.ID),
+        List.copyOf(ProjectField.parse("name, id,")));
+    assertThrows(IllegalArgumentException.class, () -> ProjectField.parse("id,password"));
+    assertThrows(IllegalArgumentException.class, () -> ProjectField.parse(" , "));
+  }
+
+  @Test
+  void findProjects_SelectsOnlyRequestedColumnsAndSkipsIdLists() {
+    Tuple row = mock(Tuple.class);
+    when(row.get("name")).thenReturn("Apollo");
+    when(row.get("status")).thenReturn(Status.IN_PROGRESS);
+    when(projectRepository.findColumns(eq(EnumSet.of(ProjectField.NAME, ProjectField.STATUS)),
+        any(), any())).thenReturn(new PageImpl<>(List.of(row)));
+
+    Page<Map<String, Object>> page = projectFieldService.findProjects(
+        ProjectField.parse("name,status"), ProjectFilter.of(null, null, null, null, null),
+        PageRequest.of(0, 10));
+
+    assertEquals(List.of(Map.of("name", "Apollo", "status", "IN_PROGRESS")), page.getContent());
+    verifyNoInteractions(taskRepository, commentRepository, projectStatsRepository);
+  }
+
+  @Test
+  void findProjects_FillsDerivedFieldsForThePage() {
+    Tuple row = mock(Tuple.class);
+    when(row.get("id", Long.class)).thenReturn(7L);
+    when(row.get("priority", Priority.class)).thenReturn(Priority.LOW);
+    when(row.get("status", Status.class)).thenReturn(Status.IN_PROGRESS);
+    when(row.get("startDate", LocalDate.class)).thenReturn(LocalDate.now().minusDays(1));
+    when(row.get("dueDate", LocalDate.class)).thenReturn(LocalDate.now().plusDays(3));
+    Set<ProjectField> columns = EnumSet.of(ProjectField.ID, ProjectField.PRIORITY,
+        ProjectField.STATUS, ProjectField.START_DATE, ProjectField.DUE_DATE);
+    when(projectRepository.findColumns(eq(columns), any(), any()))
+        .thenReturn(new PageImpl<>(List.of(row)));
+    when(projectService.updateProjectPriority(any())).thenReturn(Priority.HIGH);
+    ProjectStats stats = new ProjectStats(7L);
+    stats.setTotalTasks(4);
+    when(projectStatsRepository.findAllById(List.of(7L))).thenReturn(List.of(stats));
+    when(projectStatsService.getCompletionPercentage(stats)).thenReturn(50L);
+    when(taskRepository.findIdsByProjectIds(List.of(7L)))
+        .thenReturn(List.of(childId(7L, 70L), childId(7L, 71L)));
+
+    Page<Map<String, Object>> page = projectFieldService.findProjects(
+        ProjectField.parse("priority,completionPercentage,taskIds"),
+        ProjectFilter.active("member"), PageRequest.of(0, 10));
+
+    assertEquals(List.of(Map.of("priority", "HIGH", "completionPercentage", 50L,
+        "taskIds", List.of(70L, 71L))), page.getContent());
+    verifyNoInteractions(commentRepository);
+  }
+
+  @Test
+  void findProjects_NoMatches() {
+    when(projectRepository.findColumns(any(), any(), any())).thenReturn(Page.empty());
+
+    assertThrows(NoDataFoundException.class, () -> projectFieldService.findProjects(
+        ProjectField.parse("id"), ProjectFilter.of("pm", null, "BOGUS", null, " "),
+        PageRequest.of(0, 10)));
+  }
+
+  private static ProjectChildId childId(Long projectId, Long id) {
+    return new ProjectChildId() {
+      @Override
+      public Long getProjectId() {
+        return projectId;
+      }
+
+      @Override
+      public Long getId() {
+        return id;
+      }
+    };
+  }
+}
@@ -0,0 +1,94 @@
+package com.progresso.backend.projectmanagement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.progresso.backend.datagen.SyntheticDataGenerator;
+import com.progresso.backend.datagen.SyntheticDataSpec;
+import com.progresso.backend.entity.Project;
+import com.progresso.backend.enumeration.Priority;
+import com.progresso.backend.enumeration.Status;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs the bulk priority refresh on the migrated schema and checks that it stores, for every
+ * priority band and its boundaries, the priority that {@link ProjectService#updateProjectPriority}
+ * computes on reads.
+ */
+@SpringBootTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:projectrepository;MODE=MySQL;NON_KEYWORDS=USER")
+@ActiveProfiles("test")
+class ProjectRepositoryTest {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private ProjectService projectService;
+
+  @Test
+  void refreshPriorities_MatchesUpdateProjectPriority() {
+    new SyntheticDataGenerator(jdbcTemplate, passwordEncoder).generate(
+        new SyntheticDataSpec(10, 2, 10, 0, 0, 7L, 1_000, 1, 0, "password123"));
+    LocalDate today = LocalDate.now();
+
+    List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM project ORDER BY id", Long.class);
+    setUp(ids.get(0), Status.NOT_STARTED, today.plusDays(1), today.plusDays(3), null);
+    setUp(ids.get(1), Status.IN_PROGRESS, today.minusDays(20), today.minusDays(2), Priority.LOW);
+    setUp(ids.get(2), Status.IN_PROGRESS, today, today.plusDays(7), Priority.LOW);
+    setUp(ids.get(3), Status.IN_PROGRESS, today.minusDays(5), today.plusDays(8), Priority.HIGH);
+    setUp(ids.get(4), Status.IN_PROGRESS, today.minusDays(5), today.plusDays(30), null);
+    setUp(ids.get(5), Status.IN_PROGRESS, today.minusDays(5), today.plusDays(31), Priority.HIGH);
+    setUp(ids.get(6), Status.NOT_STARTED, today.plusDays(10), today.plusDays(40),
+        Priority.MEDIUM);
+    setUp(ids.get(7), Status.COMPLETED, today.minusDays(20), today.plusDays(2), Priority.LOW);
+    setUp(ids.get(8), Status.CANCELLED, today.minusDays(20), today.plusDays(60), Priority.HIGH);
+    setUp(ids.get(9), Status.IN_PROGRESS, today.minusDays(1), today.plusDays(5), Priority.HIGH);
+
+    Map<Long, Priority> expected = new LinkedHashMap<>();
+    for (Long id : ids) {
+      expected.put(id, projectService.updateProjectPriority(load(id)));
+    }
+
+    projectService.refreshPriorities();
+
+    Map<Long, Priority> stored = new LinkedHashMap<>();
+    for (Long id : ids) {
+      stored.put(id, load(id).getPriority());
+    }
+    assertEquals(expected, stored);
+  }
+
+  private void setUp(Long id, Status status, LocalDate startDate, LocalDate dueDate,
+      Priority priority) {
+    jdbcTemplate.update("UPDATE project SET status = ?, start_date = ?, due_date = ?, "
+            + "priority = ? WHERE id = ?", status.name(), startDate, dueDate,
+        priority != null ? priority.name() : null, id);
+  }
+
+  private Project load(Long id) {
+    return jdbcTemplate.queryForObject(
+        "SELECT status, start_date, due_date, priority FROM project WHERE id = ?",
+        (resultSet, row) -> {
+          Project project = new Project();
+          project.setId(id);
+          project.setStatus(Status.valueOf(resultSet.getString("status")));
+          project.setStartDate(resultSet.getObject("start_date", LocalDate.class));
+          project.setDueDate(resultSet.getObject("due_date", LocalDate.class));
+          String priority = resultSet.getString("priority");
+          project.setPriority(priority != null ? Priority.valueOf(priority) : null);
+          return project;
+        }, id);
+  }
+}
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 public class ProjectServiceTest {
@@ -40,6 +41,12 @@ public class ProjectServiceTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private ProjectStatsService projectStatsService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @Test
   void createProject_StartDateInThePast() {
     ProjectDto projectDto = new ProjectDto();
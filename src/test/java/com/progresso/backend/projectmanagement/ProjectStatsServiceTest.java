@@ -0,0 +1,109 @@
+package com.progresso.backend.projectmanagement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.progresso.backend.entity.ProjectStats;
+import com.progresso.backend.enumeration.Status;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectStatsServiceTest {
+
+  private ProjectStatsService projectStatsService;
+
+  @Mock
+  private ProjectStatsRepository projectStatsRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @BeforeEach
+  void setUp() {
+    projectStatsService = new ProjectStatsService(projectStatsRepository, transactionManager,
+        false, 100);
+  }
+
+  @Test
+  void recordTaskTransition_NewTask() {
+    when(projectStatsRepository.applyDelta(eq(1L), eq(1L), eq(1L), eq(0L), eq(0L),
+        any(LocalDateTime.class))).thenReturn(1);
+
+    projectStatsService.recordTaskTransition(1L, null, Status.IN_PROGRESS);
+
+    verify(projectStatsRepository, never()).save(any(ProjectStats.class));
+  }
+
+  @Test
+  void recordTaskTransition_CompletedToCancelled() {
+    when(projectStatsRepository.applyDelta(eq(1L), eq(0L), eq(0L), eq(-1L), eq(1L),
+        any(LocalDateTime.class))).thenReturn(1);
+
+    projectStatsService.recordTaskTransition(1L, Status.COMPLETED, Status.CANCELLED);
+
+    verify(projectStatsRepository, never()).save(any(ProjectStats.class));
+  }
+
+  @Test
+  void recordTaskTransition_MissingRowSeedsFromTasks() {
+    when(projectStatsRepository.applyDelta(eq(1L), anyLong(), anyLong(), anyLong(), anyLong(),
+        any(LocalDateTime.class))).thenReturn(0);
+
+    projectStatsService.recordTaskTransition(1L, Status.IN_PROGRESS, Status.COMPLETED);
+
+    InOrder inOrder = inOrder(projectStatsRepository);
+    inOrder.verify(projectStatsRepository).insertIfMissing(eq(1L), any(LocalDateTime.class));
+    inOrder.verify(projectStatsRepository).lockRange(1L, 1L);
+    inOrder.verify(projectStatsRepository).recountRange(1L, 1L, Status.IN_PROGRESS,
+        Status.COMPLETED, Status.CANCELLED);
+    verify(projectStatsRepository, never()).save(any(ProjectStats.class));
+  }
+
+  @Test
+  void recordTaskTransition_NullProjectId() {
+    assertThrows(IllegalArgumentException.class,
+        () -> projectStatsService.recordTaskTransition(null, null, Status.IN_PROGRESS));
+  }
+
+  @Test
+  void reconcile_RecountsProjectsInLockedIdRanges() {
+    when(projectStatsRepository.findMaxProjectId()).thenReturn(150L);
+
+    projectStatsService.reconcile();
+
+    InOrder inOrder = inOrder(projectStatsRepository, transactionManager);
+    inOrder.verify(projectStatsRepository).insertMissing();
+    inOrder.verify(transactionManager).commit(any());
+    inOrder.verify(projectStatsRepository).lockRange(0L, 99L);
+    inOrder.verify(projectStatsRepository).recountRange(0L, 99L, Status.IN_PROGRESS,
+        Status.COMPLETED, Status.CANCELLED);
+    inOrder.verify(transactionManager).commit(any());
+    inOrder.verify(projectStatsRepository).lockRange(100L, 199L);
+    inOrder.verify(projectStatsRepository).recountRange(100L, 199L, Status.IN_PROGRESS,
+        Status.COMPLETED, Status.CANCELLED);
+    inOrder.verify(transactionManager).commit(any());
+    verify(projectStatsRepository, never()).insertIfMissing(any(), any());
+    verify(projectStatsRepository, never()).findAll();
+  }
+
+  @Test
+  void getCompletionPercentage_IgnoresCancelledTasks() {
+    ProjectStats stats = new ProjectStats(1L, 4L, 1L, 2L, 1L, null);
+
+    assertEquals(66L, projectStatsService.getCompletionPercentage(stats));
+  }
+}
@@ -0,0 +1,188 @@
+package com.progresso.backend.projectmanagement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.progresso.backend.dto.PriorityCount;
+import com.progresso.backend.dto.ProjectStatusCount;
+import com.progresso.backend.dto.ProjectSummaryDto;
+import com.progresso.backend.dto.StatusCount;
+import com.progresso.backend.enumeration.Priority;
+import com.progresso.backend.enumeration.Status;
+import com.progresso.backend.taskmanagement.TaskRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectSummaryServiceTest {
+
+  private ProjectSummaryService projectSummaryService;
+
+  @Mock
+  private ProjectRepository projectRepository;
+
+  @Mock
+  private TaskRepository taskRepository;
+
+  @BeforeEach
+  void setUp() {
+    projectSummaryService = new ProjectSummaryService(projectRepository, taskRepository, 60);
+  }
+
+  @Test
+  void getSummary_AggregatesCounts() {
+    when(projectRepository.countByStatusForScope(null, null)).thenReturn(List.of(
+        statusCount(Status.IN_PROGRESS, 3L), statusCount(Status.COMPLETED, 1L)));
+    when(projectRepository.countByPriorityForScope(null, null)).thenReturn(List.of(
+        priorityCount(Priority.HIGH, 2L), priorityCount(Priority.LOW, 2L)));
+    when(taskRepository.countByStatusForScope(null, null)).thenReturn(List.of(
+        statusCount(Status.IN_PROGRESS, 4L), statusCount(Status.COMPLETED, 4L),
+        statusCount(Status.CANCELLED, 2L)));
+    when(projectRepository.countOverdueForScope(isNull(), isNull(), any(LocalDate.class),
+        anyList())).thenReturn(1L);
+    when(taskRepository.countOverdueForScope(isNull(), isNull(), any(LocalDate.class),
+        eq(Status.IN_PROGRESS))).thenReturn(2L);
+    when(taskRepository.countByProjectAndStatusForScope(null, null)).thenReturn(List.of(
+        projectStatusCount(1L, Status.COMPLETED, 4L),
+        projectStatusCount(2L, Status.IN_PROGRESS, 4L),
+        projectStatusCount(2L, Status.CANCELLED, 2L)));
+
+    ProjectSummaryDto result = projectSummaryService.getSummary();
+
+    assertEquals(4L, result.getTotalProjects());
+    assertEquals(0L, result.getProjectsByStatus().get(Status.NOT_STARTED.name()));
+    assertEquals(3L, result.getProjectsByStatus().get(Status.IN_PROGRESS.name()));
+    assertEquals(2L, result.getProjectsByPriority().get(Priority.HIGH.name()));
+    assertEquals(0L, result.getProjectsByPriority().get(Priority.MEDIUM.name()));
+    assertEquals(1L, result.getOverdueProjects());
+    assertEquals(10L, result.getTotalTasks());
+    assertEquals(2L, result.getOverdueTasks());
+    assertEquals(50.0, result.getAverageCompletionPercentage());
+  }
+
+  @Test
+  void getSummary_NoTasks() {
+    when(projectRepository.countByStatusForScope(null, null)).thenReturn(List.of());
+    when(projectRepository.countByPriorityForScope(null, null)).thenReturn(List.of());
+    when(taskRepository.countByStatusForScope(null, null)).thenReturn(List.of());
+    when(taskRepository.countByProjectAndStatusForScope(null, null)).thenReturn(List.of());
+
+    ProjectSummaryDto result = projectSummaryService.getSummary();
+
+    assertEquals(0L, result.getTotalProjects());
+    assertEquals(0L, result.getTotalTasks());
+    assertNull(result.getAverageCompletionPercentage());
+  }
+
+  @Test
+  void getSummary_CachedUntilProjectChanged() {
+    when(projectRepository.countByStatusForScope(null, null)).thenReturn(List.of());
+    when(projectRepository.countByPriorityForScope(null, null)).thenReturn(List.of());
+    when(taskRepository.countByStatusForScope(null, null)).thenReturn(List.of());
+    when(taskRepository.countByProjectAndStatusForScope(null, null)).thenReturn(List.of());
+
+    ProjectSummaryDto first = projectSummaryService.getSummary();
+    ProjectSummaryDto second = projectSummaryService.getSummary();
+
+    assertSame(first, second);
+    verify(projectRepository, times(1)).countByStatusForScope(null, null);
+
+    projectSummaryService.onProjectChanged(new ProjectChangedEvent(1L));
+    projectSummaryService.getSummary();
+
+    verify(projectRepository, times(2)).countByStatusForScope(null, null);
+  }
+
+  @Test
+  void getSummary_ComputedDuringProjectChangeIsNotCached() {
+    when(projectRepository.countByStatusForScope(null, null)).thenAnswer(invocation -> {
+      projectSummaryService.onProjectChanged(new ProjectChangedEvent(1L));
+      return List.of();
+    }).thenReturn(List.of());
+    when(projectRepository.countByPriorityForScope(null, null)).thenReturn(List.of());
+    when(taskRepository.countByStatusForScope(null, null)).thenReturn(List.of());
+    when(taskRepository.countByProjectAndStatusForScope(null, null)).thenReturn(List.of());
+
+    ProjectSummaryDto stale = projectSummaryService.getSummary();
+    ProjectSummaryDto fresh = projectSummaryService.getSummary();
+
+    assertNotSame(stale, fresh);
+    assertSame(fresh, projectSummaryService.getSummary());
+    verify(projectRepository, times(2)).countByStatusForScope(null, null);
+  }
+
+  @Test
+  void getSummaryByProjectManager_EmptyUsername() {
+    assertThrows(IllegalArgumentException.class,
+        () -> projectSummaryService.getSummaryByProjectManager(""));
+  }
+
+  @Test
+  void getSummaryByTeamMember_NullUsername() {
+    assertThrows(IllegalArgumentException.class,
+        () -> projectSummaryService.getSummaryByTeamMember(null));
+  }
+
+  private static StatusCount statusCount(Status status, Long total) {
+    return new StatusCount() {
+      @Override
+      public Status getStatus() {
+        return status;
+      }
+
+      @Override
+      public Long getTotal() {
+        return total;
+      }
+    };
+  }
+
+  private static PriorityCount priorityCount(Priority priority, Long total) {
+    return new PriorityCount() {
+      @Override
+      public Priority getPriority() {
+        return priority;
+      }
+
+      @Override
+      public Long getTotal() {
+        return total;
+      }
+    };
+  }
+
+  private static ProjectStatusCount projectStatusCount(Long projectId, Status status,
+      Long total) {
+    return new ProjectStatusCount() {
+      @Override
+      public Long getProjectId() {
+        return projectId;
+      }
+
+      @Override
+      public Status getStatus() {
+        return status;
+      }
+
+      @Override
+      public Long getTotal() {
+        return total;
+      }
+    };
+  }
+}
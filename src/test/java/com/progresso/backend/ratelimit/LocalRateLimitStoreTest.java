@@ -0,0 +1,92 @@
+package com.progresso.backend.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.progresso.backend.enumeration.Role;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class LocalRateLimitStoreTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final AtomicLong clock = new AtomicLong(42);
+  private final LocalRateLimitStore store = new LocalRateLimitStore(clock::get);
+
+  @Test
+  void tryAcquire_AllowsBurstThenRejectsWithWait() {
+    RateLimit limit = new RateLimit(2, 3);
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(0, store.tryAcquire("alice:projects", limit));
+    }
+    assertEquals(SECOND / 2, store.tryAcquire("alice:projects", limit));
+
+    clock.addAndGet(SECOND / 2);
+    assertEquals(0, store.tryAcquire("alice:projects", limit));
+    assertTrue(store.tryAcquire("alice:projects", limit) > 0);
+  }
+
+  @Test
+  void tryAcquire_KeepsBucketsPerKey() {
+    RateLimit limit = new RateLimit(1, 1);
+
+    assertEquals(0, store.tryAcquire("alice:projects", limit));
+    assertTrue(store.tryAcquire("alice:projects", limit) > 0);
+    assertEquals(0, store.tryAcquire("alice:reports", limit));
+    assertEquals(0, store.tryAcquire("bob:projects", limit));
+  }
+
+  @Test
+  void tryAcquire_ConcurrentCallersNeverExceedBurst() throws Exception {
+    RateLimit limit = new RateLimit(1, 50);
+    AtomicInteger acquired = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int i = 0; i < 400; i++) {
+      executor.execute(() -> {
+        if (store.tryAcquire("alice:default", limit) == 0) {
+          acquired.incrementAndGet();
+        }
+      });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    assertEquals(50, acquired.get());
+  }
+
+  @Test
+  void evictIdle_DropsOnlyRefilledBuckets() {
+    store.tryAcquire("alice:default", new RateLimit(1, 5));
+    store.tryAcquire("bob:default", new RateLimit(0.1, 5));
+
+    clock.addAndGet(2 * SECOND);
+    store.evictIdle();
+
+    assertEquals(1, store.size());
+  }
+
+  @Test
+  void policy_MatchesGroupsInOrderAndFallsBackToRoleDefault() {
+    RateLimit reports = new RateLimit(1, 5);
+    RateLimit fallback = new RateLimit(10, 40);
+    RateLimitPolicy policy = new RateLimitPolicy(
+        Map.of("reports", List.of("/api/analytics/**", "/api/export/**")),
+        Map.of(Role.TEAMMEMBER, Map.of("reports", reports, RateLimitPolicy.DEFAULT_GROUP,
+            fallback)));
+
+    assertEquals("reports", policy.groupOf("/api/export/projects"));
+    assertEquals(RateLimitPolicy.DEFAULT_GROUP, policy.groupOf("/api/projects/1"));
+    assertEquals(reports, policy.limitFor(Role.TEAMMEMBER, "reports"));
+    assertEquals(fallback, policy.limitFor(Role.TEAMMEMBER, "projects"));
+    assertNull(policy.limitFor(Role.ADMIN, "reports"));
+  }
+}
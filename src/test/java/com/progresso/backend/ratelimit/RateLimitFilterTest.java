@@ -0,0 +1,137 @@
+package com.progresso.backend.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.progresso.backend.enumeration.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class RateLimitFilterTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final RateLimit REPORTS = new RateLimit(1, 5);
+  private static final RateLimit FALLBACK = new RateLimit(10, 40);
+
+  private final List<String> acquiredKeys = new ArrayList<>();
+  private final List<RateLimit> acquiredLimits = new ArrayList<>();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private long waitNanos;
+
+  private final RateLimitFilter filter = new RateLimitFilter(
+      new RateLimitPolicy(
+          Map.of("reports", List.of("/api/analytics/**", "/api/export/**"),
+              "projects", List.of("/api/projects/**")),
+          Map.of(Role.TEAMMEMBER, Map.of("reports", REPORTS, RateLimitPolicy.DEFAULT_GROUP,
+              FALLBACK))),
+      (key, limit) -> {
+        acquiredKeys.add(key);
+        acquiredLimits.add(limit);
+        return waitNanos;
+      },
+      meterRegistry);
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void authenticatedRequest_IsLimitedByTheGroupOfItsPath() throws Exception {
+    authenticate("alice", "TEAMMEMBER");
+    MockHttpServletRequest request = request("/app", "/app/api/export/projects");
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    assertEquals(List.of("alice:reports"), acquiredKeys);
+    assertEquals(List.of(REPORTS), acquiredLimits);
+    assertNotNull(chain.getRequest());
+  }
+
+  @Test
+  void groupWithoutOwnLimit_UsesTheRoleDefault() throws Exception {
+    authenticate("alice", "TEAMMEMBER");
+
+    filter.doFilter(request("", "/api/projects/7"), new MockHttpServletResponse(),
+        new MockFilterChain());
+    filter.doFilter(request("", "/api/users/3"), new MockHttpServletResponse(),
+        new MockFilterChain());
+
+    assertEquals(List.of("alice:projects", "alice:" + RateLimitPolicy.DEFAULT_GROUP),
+        acquiredKeys);
+    assertEquals(List.of(FALLBACK, FALLBACK), acquiredLimits);
+  }
+
+  @Test
+  void exhaustedBucket_Returns429WithRetryAfterRoundedUp() throws Exception {
+    authenticate("alice", "TEAMMEMBER");
+
+    assertEquals("1", rejectedRetryAfter(1));
+    assertEquals("1", rejectedRetryAfter(SECOND));
+    assertEquals("2", rejectedRetryAfter(SECOND + 1));
+    assertEquals("3", rejectedRetryAfter(2 * SECOND + SECOND / 2));
+    assertEquals(4, meterRegistry.get("progresso.ratelimit.rejected")
+        .tag("group", "reports").tag("role", "TEAMMEMBER").counter().count());
+  }
+
+  @Test
+  void anonymousRequests_PassThroughUnlimited() throws Exception {
+    waitNanos = SECOND;
+    MockFilterChain unauthenticated = new MockFilterChain();
+    filter.doFilter(request("", "/api/auth/login"), new MockHttpServletResponse(),
+        unauthenticated);
+
+    SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+        "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+    MockFilterChain anonymous = new MockFilterChain();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request("", "/api/export/projects"), response, anonymous);
+
+    assertNotNull(unauthenticated.getRequest());
+    assertNotNull(anonymous.getRequest());
+    assertEquals(200, response.getStatus());
+    assertTrue(acquiredKeys.isEmpty());
+  }
+
+  private String rejectedRetryAfter(long wait) throws Exception {
+    waitNanos = wait;
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(request("", "/api/analytics/workload"), response, chain);
+
+    assertEquals(429, response.getStatus());
+    assertNull(chain.getRequest());
+    return response.getHeader(HttpHeaders.RETRY_AFTER);
+  }
+
+  private static void authenticate(String username, String role) {
+    Authentication authentication = new UsernamePasswordAuthenticationToken(username, null,
+        AuthorityUtils.createAuthorityList(role));
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+  }
+
+  private static MockHttpServletRequest request(String contextPath, String uri) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+    request.setContextPath(contextPath);
+    return request;
+  }
+}
@@ -0,0 +1,107 @@
+package com.progresso.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.progresso.backend.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class BoundedPasswordEncoderTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private BoundedPasswordEncoder encoder;
+
+  @AfterEach
+  void tearDown() {
+    if (encoder != null) {
+      encoder.destroy();
+    }
+  }
+
+  @Test
+  void encodeAndMatches_RecordsLatency() {
+    encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 4, 5000, 1,
+        meterRegistry);
+
+    String hash = encoder.encode("secret");
+
+    assertTrue(encoder.matches("secret", hash));
+    assertFalse(encoder.matches("other", hash));
+    assertEquals(1L, meterRegistry.get("password.hashing.duration")
+        .tag("operation", "encode").timer().count());
+    assertEquals(2L, meterRegistry.get("password.hashing.duration")
+        .tag("operation", "matches").timer().count());
+  }
+
+  @Test
+  void upgradeEncoding_WeakerStrength() {
+    String weakHash = new BCryptPasswordEncoder(4).encode("secret");
+    encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 4, 5000, 1,
+        meterRegistry);
+
+    assertTrue(encoder.upgradeEncoding(weakHash));
+    assertFalse(encoder.upgradeEncoding(encoder.encode("secret")));
+  }
+
+  @Test
+  void matchesAsync_QueueFullFailsFast() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    encoder = new BoundedPasswordEncoder(blockingEncoder(started, release), 1, 1, 5000, 3,
+        meterRegistry);
+
+    encoder.matchesAsync("first", "hash");
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    encoder.matchesAsync("queued", "hash");
+
+    PasswordHashingUnavailableException exception = assertThrows(
+        PasswordHashingUnavailableException.class,
+        () -> encoder.matchesAsync("rejected", "hash"));
+
+    assertEquals(3L, exception.getRetryAfterSeconds());
+    assertEquals(1.0, meterRegistry.get("password.hashing.queue.depth").gauge().value());
+    assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+    release.countDown();
+  }
+
+  @Test
+  void matches_TimeoutFailsFast() {
+    CountDownLatch release = new CountDownLatch(1);
+    encoder = new BoundedPasswordEncoder(blockingEncoder(new CountDownLatch(1), release), 1, 1,
+        50, 1, meterRegistry);
+
+    assertThrows(PasswordHashingUnavailableException.class,
+        () -> encoder.matches("secret", "hash"));
+    release.countDown();
+  }
+
+  private static PasswordEncoder blockingEncoder(CountDownLatch started,
+      CountDownLatch release) {
+    return new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        return rawPassword.toString();
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        started.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return true;
+      }
+    };
+  }
+}
@@ -0,0 +1,69 @@
+package com.progresso.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.progresso.backend.dto.UserCredentials;
+import com.progresso.backend.entity.User;
+import com.progresso.backend.enumeration.Role;
+import org.junit.jupiter.api.Test;
+
+public class JwtUtilTest {
+
+  private final JwtUtil jwtUtil = new JwtUtil("01234567890123456789012345678901");
+
+  @Test
+  void validateToken_AcceptsMatchingSnapshot() {
+    String token = jwtUtil.generateToken(user("alice", 3));
+
+    assertTrue(jwtUtil.validateToken(token, principal("alice", true, 3)));
+  }
+
+  @Test
+  void validateToken_RejectsLoggedOutOrInactiveOrOtherUser() {
+    String token = jwtUtil.generateToken(user("alice", 3));
+
+    assertFalse(jwtUtil.validateToken(token, principal("alice", true, 4)));
+    assertFalse(jwtUtil.validateToken(token, principal("alice", false, 3)));
+    assertFalse(jwtUtil.validateToken(token, principal("bob", true, 3)));
+  }
+
+  private static User user(String username, int tokenVersion) {
+    User user = new User();
+    user.setId(1L);
+    user.setUsername(username);
+    user.setRole(Role.TEAMMEMBER);
+    user.setTokenVersion(tokenVersion);
+    return user;
+  }
+
+  private static AuthenticatedUser principal(String username, boolean active,
+      int tokenVersion) {
+    return new AuthenticatedUser(new UserCredentials() {
+      @Override
+      public String getUsername() {
+        return username;
+      }
+
+      @Override
+      public String getPassword() {
+        return "hash";
+      }
+
+      @Override
+      public Role getRole() {
+        return Role.TEAMMEMBER;
+      }
+
+      @Override
+      public Boolean getActive() {
+        return active;
+      }
+
+      @Override
+      public Integer getTokenVersion() {
+        return tokenVersion;
+      }
+    });
+  }
+}
@@ -0,0 +1,133 @@
+package com.progresso.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.progresso.backend.dto.TaskDto;
+import com.progresso.backend.enumeration.ProjectRole;
+import com.progresso.backend.exception.ProjectNotFoundException;
+import com.progresso.backend.taskmanagement.TaskController;
+import java.lang.reflect.Method;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+public class ProjectAccessAuthorizationManagerTest {
+
+  private final ProjectAccessResolver resolver = mock(ProjectAccessResolver.class);
+  private final ProjectAccessAuthorizationManager manager =
+      new ProjectAccessAuthorizationManager(() -> resolver);
+
+  @Test
+  void admin_IsGrantedWithoutQuery() {
+    assertTrue(check("admin", "ADMIN", invocation("manage", 1L)));
+    verify(resolver, never()).projectRole(any(), anyString());
+  }
+
+  @Test
+  void projectManager_NeedsToManageTheProject() {
+    when(resolver.projectRole(1L, "pm")).thenReturn(ProjectRole.MANAGER);
+    when(resolver.projectRole(2L, "pm")).thenReturn(ProjectRole.NONE);
+
+    assertTrue(check("pm", "PROJECTMANAGER", invocation("manage", 1L)));
+    assertFalse(check("pm", "PROJECTMANAGER", invocation("manage", 2L)));
+  }
+
+  @Test
+  void teamMember_IsDeniedWithoutQuery_WhenOnlyManagersAreAllowed() {
+    assertFalse(check("tm", "TEAMMEMBER", invocation("manage", 1L)));
+    verify(resolver, never()).projectRole(any(), anyString());
+  }
+
+  @Test
+  void teamMember_NeedsToBeOnTheProjectTeam() {
+    when(resolver.projectRole(1L, "tm")).thenReturn(ProjectRole.MEMBER);
+    when(resolver.projectRole(2L, "tm")).thenReturn(ProjectRole.NONE);
+
+    assertTrue(check("tm", "TEAMMEMBER", invocation("view", 1L)));
+    assertFalse(check("tm", "TEAMMEMBER", invocation("view", 2L)));
+  }
+
+  @Test
+  void projectId_IsReadFromNestedProperty() {
+    TaskDto taskDto = new TaskDto();
+    taskDto.setProjectId(3L);
+    when(resolver.projectRole(3L, "pm")).thenReturn(ProjectRole.MANAGER);
+
+    assertTrue(check("pm", "PROJECTMANAGER", invocation("create", taskDto)));
+  }
+
+  @Test
+  void taskRule_ChecksTheTasksProject() {
+    when(resolver.taskProjectRole(5L, "pm")).thenReturn(ProjectRole.MANAGER);
+
+    assertTrue(check("pm", "PROJECTMANAGER", invocation("complete", 5L)));
+    verify(resolver, never()).projectRole(any(), anyString());
+  }
+
+  @Test
+  void taskUpdate_ManagerOfAnotherProjectIsDenied() throws NoSuchMethodException {
+    // pm manages project 1 and names it in the body; task 5 belongs to someone else's project.
+    TaskDto taskDto = new TaskDto();
+    taskDto.setProjectId(1L);
+    when(resolver.projectRole(1L, "pm")).thenReturn(ProjectRole.MANAGER);
+    when(resolver.taskProjectRole(5L, "pm")).thenReturn(ProjectRole.NONE);
+    Method updateTask = TaskController.class.getMethod("updateTask", Long.class,
+        TaskDto.class);
+
+    assertFalse(check("pm", "PROJECTMANAGER",
+        new SimpleMethodInvocation(new TaskController(null, null), updateTask, 5L, taskDto)));
+    verify(resolver, never()).projectRole(any(), anyString());
+  }
+
+  @Test
+  void missingProject_Propagates() {
+    when(resolver.projectRole(9L, "pm")).thenThrow(new ProjectNotFoundException("missing"));
+
+    assertThrows(ProjectNotFoundException.class,
+        () -> check("pm", "PROJECTMANAGER", invocation("manage", 9L)));
+  }
+
+  private boolean check(String username, String authority, MethodInvocation invocation) {
+    TestingAuthenticationToken authentication =
+        new TestingAuthenticationToken(username, null, authority);
+    return manager.check(() -> authentication, invocation).isGranted();
+  }
+
+  private static MethodInvocation invocation(String name, Object argument) {
+    Endpoints target = new Endpoints();
+    for (var method : Endpoints.class.getDeclaredMethods()) {
+      if (method.getName().equals(name)) {
+        return new SimpleMethodInvocation(target, method, argument);
+      }
+    }
+    throw new IllegalArgumentException(name);
+  }
+
+  static class Endpoints {
+
+    @ProjectAccess(project = "#projectId", roles = ProjectRole.MANAGER)
+    public void manage(Long projectId) {
+    }
+
+    @ProjectAccess(project = "#projectId", roles = {ProjectRole.MANAGER, ProjectRole.MEMBER})
+    public void view(Long projectId) {
+    }
+
+    @ProjectAccess(project = "#taskDto.projectId", roles = ProjectRole.MANAGER)
+    public void create(TaskDto taskDto) {
+    }
+
+    @ProjectAccess(task = "#taskId", roles = ProjectRole.MANAGER)
+    public void complete(Long taskId) {
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.progresso.backend.security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+public class SecurityConfigTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  void health_IsPublic() throws Exception {
+    mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+  }
+
+  @Test
+  void prometheus_RequiresAuthentication() throws Exception {
+    mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+  }
+
+  @Test
+  @WithMockUser(authorities = "TEAMMEMBER")
+  void prometheus_ForbiddenForNonAdmin() throws Exception {
+    mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+  }
+
+  @Test
+  @WithMockUser(authorities = "ADMIN")
+  void prometheus_AllowedForAdmin() throws Exception {
+    mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isOk());
+  }
+}
@@ -21,6 +21,7 @@ import com.progresso.backend.entity.Task;
 import com.progresso.backend.entity.Team;
 import com.progresso.backend.entity.User;
 import com.progresso.backend.projectmanagement.ProjectRepository;
+import com.progresso.backend.projectmanagement.ProjectStatsService;
 import com.progresso.backend.usermanagement.UserRepository;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -31,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 public class TaskServiceTest {
@@ -47,6 +49,12 @@ public class TaskServiceTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private ProjectStatsService projectStatsService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @Test
   void createAndAssignTask_UserIdIsNull_ThrowsIllegalArgumentException() {
     Project project = new Project();
@@ -0,0 +1,95 @@
+package com.progresso.backend.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileSpanExporterTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final TestClock clock = TestClock.create();
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  void export_WritesOneJsonLinePerSpan() throws IOException {
+    Path file = directory.resolve("traces/spans.jsonl");
+    SdkTracerProvider provider = provider(file);
+    Tracer tracer = provider.get("test");
+
+    Span root = tracer.spanBuilder("GET /api/projects/{id}").setSpanKind(SpanKind.SERVER)
+        .startSpan();
+    Span child = tracer.spanBuilder("ProjectService.findProjectById")
+        .setParent(Context.current().with(root)).startSpan();
+    child.setAttribute("project.id", 7L);
+    clock.advance(Duration.ofMillis(3));
+    child.setStatus(StatusCode.ERROR);
+    child.end();
+    root.end();
+    provider.shutdown().join(5, TimeUnit.SECONDS);
+
+    List<JsonNode> lines = read(file);
+    assertEquals(2, lines.size());
+    JsonNode childJson = lines.get(0);
+    JsonNode rootJson = lines.get(1);
+    assertEquals(root.getSpanContext().getTraceId(), childJson.get("traceId").asText());
+    assertEquals(child.getSpanContext().getSpanId(), childJson.get("spanId").asText());
+    assertEquals(root.getSpanContext().getSpanId(), childJson.get("parentSpanId").asText());
+    assertEquals("ProjectService.findProjectById", childJson.get("name").asText());
+    assertEquals("INTERNAL", childJson.get("kind").asText());
+    assertEquals(3_000, childJson.get("durationMicros").asLong());
+    assertEquals("ERROR", childJson.get("status").asText());
+    assertEquals(7L, childJson.get("attributes").get("project.id").asLong());
+
+    assertTrue(rootJson.get("parentSpanId").isNull());
+    assertEquals("SERVER", rootJson.get("kind").asText());
+    assertEquals("UNSET", rootJson.get("status").asText());
+  }
+
+  @Test
+  void export_AppendsToAnExistingFile() throws IOException {
+    Path file = directory.resolve("spans.jsonl");
+    for (String name : List.of("first", "second")) {
+      SdkTracerProvider provider = provider(file);
+      provider.get("test").spanBuilder(name).startSpan().end();
+      provider.shutdown().join(5, TimeUnit.SECONDS);
+    }
+
+    assertEquals(List.of("first", "second"),
+        read(file).stream().map(line -> line.get("name").asText()).toList());
+  }
+
+  private SdkTracerProvider provider(Path file) {
+    return SdkTracerProvider.builder().setClock(clock)
+        .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(file, objectMapper)))
+        .build();
+  }
+
+  private List<JsonNode> read(Path file) throws IOException {
+    List<JsonNode> lines = new ArrayList<>();
+    for (String line : Files.readAllLines(file)) {
+      lines.add(objectMapper.readTree(line));
+    }
+    return lines;
+  }
+}
@@ -0,0 +1,85 @@
+package com.progresso.backend.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SlowTraceSpanProcessorTest {
+
+  private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+  private final TestClock clock = TestClock.create();
+  private final AtomicLong nanoClock = new AtomicLong();
+  private SlowTraceSpanProcessor processor;
+  private Tracer tracer;
+
+  @BeforeEach
+  void setUp() {
+    processor = new SlowTraceSpanProcessor(SimpleSpanProcessor.create(exporter), 500, 2, 3,
+        60_000, nanoClock::get);
+    tracer = SdkTracerProvider.builder().setClock(clock).addSpanProcessor(processor).build()
+        .get("test");
+  }
+
+  @Test
+  void onEnd_ExportsWholeTraceOfSlowRequest() {
+    request(Duration.ofMillis(800), "ProjectService.findProjectById",
+        "ProjectRepository.findById");
+
+    List<SpanData> spans = exporter.getFinishedSpanItems();
+    assertEquals(List.of("ProjectService.findProjectById", "ProjectRepository.findById",
+        "GET /api/projects/{id}"), spans.stream().map(SpanData::getName).toList());
+    assertEquals(0, processor.pendingTraces());
+  }
+
+  @Test
+  void onEnd_DropsFastRequest() {
+    request(Duration.ofMillis(100), "ProjectService.findProjectById");
+
+    assertTrue(exporter.getFinishedSpanItems().isEmpty());
+    assertEquals(0, processor.pendingTraces());
+  }
+
+  @Test
+  void onEnd_CapsSpansPerTrace() {
+    request(Duration.ofSeconds(1), "a", "b", "c", "d", "e");
+
+    assertEquals(4, exporter.getFinishedSpanItems().size());
+  }
+
+  @Test
+  void onEnd_BoundsPendingTracesAndEvictsStaleOnes() {
+    for (int i = 0; i < 3; i++) {
+      Span root = tracer.spanBuilder("orphan").startSpan();
+      tracer.spanBuilder("child").setParent(Context.current().with(root)).startSpan().end();
+    }
+    assertEquals(2, processor.pendingTraces());
+
+    nanoClock.addAndGet(Duration.ofMinutes(2).toNanos());
+    Span root = tracer.spanBuilder("late").startSpan();
+    tracer.spanBuilder("child").setParent(Context.current().with(root)).startSpan().end();
+
+    assertEquals(1, processor.pendingTraces());
+  }
+
+  private void request(Duration latency, String... children) {
+    Span root = tracer.spanBuilder("GET /api/projects/{id}").startSpan();
+    for (String child : children) {
+      tracer.spanBuilder(child).setParent(Context.current().with(root)).startSpan().end();
+    }
+    clock.advance(latency);
+    root.end();
+  }
+}
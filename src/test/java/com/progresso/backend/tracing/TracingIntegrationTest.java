@@ -0,0 +1,133 @@
+package com.progresso.backend.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.progresso.backend.datagen.SyntheticDataGenerator;
+import com.progresso.backend.datagen.SyntheticDataSpec;
+import com.progresso.backend.security.JwtUtil;
+import com.progresso.backend.usermanagement.UserRepository;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Sends an authenticated request through the whole stack with the slow-request threshold at 0, so
+ * its trace is exported, and checks the spans it is made of and how they nest.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:tracing;MODE=MySQL;NON_KEYWORDS=USER",
+    "tracing.slow-request-threshold-ms=0"})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(metrics = false)
+@ActiveProfiles("test")
+class TracingIntegrationTest {
+
+  @TestConfiguration
+  static class InMemoryExporterConfig {
+
+    @Bean
+    InMemorySpanExporter inMemorySpanExporter() {
+      return InMemorySpanExporter.create();
+    }
+  }
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JwtUtil jwtUtil;
+
+  @Autowired
+  private InMemorySpanExporter exporter;
+
+  @Autowired
+  private BatchSpanProcessor batchSpanProcessor;
+
+  @Test
+  void request_ExportsOneTraceWithNestedSecurityServiceAndRepositorySpans() throws Exception {
+    new SyntheticDataGenerator(jdbcTemplate, passwordEncoder).generate(
+        new SyntheticDataSpec(10, 2, 4, 20, 0, 7L, 1_000, 1, 0, "password123"));
+    Map<String, Object> project = jdbcTemplate.queryForMap(
+        "SELECT p.id, u.username FROM project p JOIN `user` u ON u.id = p.project_manager_id "
+            + "ORDER BY p.id LIMIT 1");
+    String token = jwtUtil.generateToken(
+        userRepository.findByUsername((String) project.get("username")).orElseThrow());
+    batchSpanProcessor.forceFlush().join(5, TimeUnit.SECONDS);
+    exporter.reset();
+
+    mockMvc.perform(get("/api/projects/{id}", project.get("id"))
+            .header(AUTHORIZATION, "Bearer " + token))
+        .andExpect(status().isOk());
+    batchSpanProcessor.forceFlush().join(5, TimeUnit.SECONDS);
+
+    List<SpanData> spans = exporter.getFinishedSpanItems();
+    assertEquals(1, spans.stream().map(SpanData::getTraceId).distinct().count());
+    Map<String, SpanData> byId = spans.stream()
+        .collect(Collectors.toMap(SpanData::getSpanId, Function.identity()));
+    SpanData root = span(spans, "http get /api/projects/{id}");
+    assertEquals(SpanKind.SERVER, root.getKind());
+    assertFalse(root.getParentSpanContext().isValid());
+    for (SpanData span : spans) {
+      assertTrue(span == root || byId.containsKey(span.getParentSpanId()),
+          () -> span.getName() + " has no parent in the trace");
+    }
+
+    SpanData jwt = span(spans, "jwt authentication");
+    assertTrue(isDescendant(jwt, root, byId));
+    assertEquals(jwt.getSpanId(),
+        span(spans, "UserRepository.findCredentialsByUsername").getParentSpanId());
+    assertTrue(isDescendant(span(spans, "authorize request"), root, byId));
+
+    SpanData service = span(spans, "ProjectService.findProjectById");
+    assertTrue(isDescendant(service, root, byId));
+    assertEquals(service.getSpanId(), span(spans, "ProjectRepository.findById").getParentSpanId());
+  }
+
+  private static SpanData span(List<SpanData> spans, String name) {
+    return spans.stream().filter(span -> span.getName().equals(name)).findFirst()
+        .orElseThrow(() -> new AssertionError("No span " + name + " in "
+            + spans.stream().map(SpanData::getName).toList()));
+  }
+
+  private static boolean isDescendant(SpanData span, SpanData ancestor,
+      Map<String, SpanData> byId) {
+    for (SpanData parent = byId.get(span.getParentSpanId()); parent != null;
+        parent = byId.get(parent.getParentSpanId())) {
+      if (parent == ancestor) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
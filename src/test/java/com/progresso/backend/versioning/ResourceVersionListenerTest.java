@@ -0,0 +1,132 @@
+package com.progresso.backend.versioning;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.progresso.backend.entity.Project;
+import com.progresso.backend.entity.Task;
+import com.progresso.backend.entity.Team;
+import com.progresso.backend.entity.User;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class ResourceVersionListenerTest {
+
+  private final ResourceVersionListener listener = new ResourceVersionListener();
+
+  @Test
+  void projectUpdate_BumpsOldAndNewManagerButNotUnchangedTeam() {
+    Team team = team(1L);
+    User oldManager = user(10L);
+    Project project = project(5L, team, user(11L));
+    EntityPersister persister = persister("name", "team", "projectManager");
+
+    Set<ResourceKey> keys = listener.affectedBy(project, persister,
+        new Object[]{"Old name", team, oldManager}, new int[]{2});
+
+    assertEquals(Set.of(new ResourceKey(ResourceType.PROJECT, 5L),
+        new ResourceKey(ResourceType.USER, 10L), new ResourceKey(ResourceType.USER, 11L)), keys);
+  }
+
+  @Test
+  void taskUpdate_BumpsOnlyItsProjectUnlessReassigned() {
+    User assignee = user(20L);
+    Project project = project(5L, team(1L), user(10L));
+    Task task = new Task();
+    task.setProject(project);
+    task.setAssignedUser(assignee);
+    EntityPersister persister = persister("status", "project", "assignedUser");
+
+    assertEquals(Set.of(new ResourceKey(ResourceType.PROJECT, 5L)),
+        listener.affectedBy(task, persister, new Object[]{"TODO", project, assignee},
+            new int[]{0}));
+    assertEquals(Set.of(new ResourceKey(ResourceType.PROJECT, 5L),
+            new ResourceKey(ResourceType.USER, 20L), new ResourceKey(ResourceType.USER, 21L)),
+        listener.affectedBy(task, persister, new Object[]{"TODO", project, user(21L)},
+            new int[]{2}));
+  }
+
+  @Test
+  void userRename_BumpsProjectsShowingTheUser() {
+    User user = user(10L);
+    Project managed = project(5L, team(1L), user);
+    Task task = new Task();
+    task.setProject(project(6L, team(2L), user(11L)));
+    user.setManagedProjects(List.of(managed));
+    user.setAssignedTasks(List.of(task));
+    EntityPersister persister = persister("lastName", "tokenVersion");
+
+    assertEquals(Set.of(new ResourceKey(ResourceType.USER, 10L)),
+        listener.affectedBy(user, persister, new Object[]{"Rossi", 0}, new int[]{1}));
+    assertEquals(Set.of(new ResourceKey(ResourceType.USER, 10L),
+            new ResourceKey(ResourceType.PROJECT, 5L), new ResourceKey(ResourceType.PROJECT, 6L)),
+        listener.affectedBy(user, persister, new Object[]{"Bianchi", 0}, new int[]{0}));
+  }
+
+  @Test
+  void etag_FollowsCommittedBumps() {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE resource_version (resource_type VARCHAR(16) NOT NULL, "
+        + "resource_id BIGINT NOT NULL, version BIGINT NOT NULL, "
+        + "PRIMARY KEY (resource_type, resource_id))");
+    ResourceVersionService service = service(jdbcTemplate);
+
+    assertEquals("team-3-0", service.etag(ResourceType.TEAM, 3L));
+    jdbcTemplate.update(ResourceVersionListener.BUMP, "TEAM", 3L);
+    jdbcTemplate.update(ResourceVersionListener.BUMP, "TEAM", 3L);
+
+    assertEquals("team-3-2", service.etag(ResourceType.TEAM, 3L));
+    assertTrue(service.etag(ResourceType.PROJECT, 3L).endsWith("-0-" + LocalDate.now()));
+  }
+
+  private static ResourceVersionService service(JdbcTemplate jdbcTemplate) {
+    SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+    ServiceRegistryImplementor serviceRegistry = mock(ServiceRegistryImplementor.class);
+    when(sessionFactory.getServiceRegistry()).thenReturn(serviceRegistry);
+    when(serviceRegistry.requireService(EventListenerRegistry.class))
+        .thenReturn(mock(EventListenerRegistry.class));
+    return new ResourceVersionService(sessionFactory, jdbcTemplate);
+  }
+
+  private static EntityPersister persister(String... properties) {
+    EntityPersister persister = mock(EntityPersister.class);
+    when(persister.getPropertyNames()).thenReturn(properties);
+    for (int i = 0; i < properties.length; i++) {
+      when(persister.getPropertyIndex(properties[i])).thenReturn(i);
+    }
+    return persister;
+  }
+
+  private static Project project(Long id, Team team, User manager) {
+    Project project = new Project();
+    project.setId(id);
+    project.setTeam(team);
+    project.setProjectManager(manager);
+    return project;
+  }
+
+  private static Team team(Long id) {
+    Team team = new Team();
+    team.setId(id);
+    return team;
+  }
+
+  private static User user(Long id) {
+    User user = new User();
+    user.setId(id);
+    return user;
+  }
+}